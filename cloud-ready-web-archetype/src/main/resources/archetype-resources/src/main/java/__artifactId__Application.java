@@ -1,8 +1,11 @@
 package ${package};
 
+import ${package}.aot.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
 
@@ -10,9 +13,16 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableCaching
 @EnableJpaAuditing
 @EnableAsync
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ${artifactId}Application {
 
+    // Enough for every bean of the generated app with room to grow; steps past this are dropped
+    public static final int STARTUP_STEPS = 8192;
+
     public static void main(String[] args) {
-        SpringApplication.run(${artifactId}Application.class, args);
+        SpringApplication application = new SpringApplication(${artifactId}Application.class);
+        // Keep the startup steps for /actuator/startup and /actuator/startupbeans
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package ${package}.aot;
+
+import ${package}.domain.BaseEntity;
+import ${package}.domain.ChangeFeedState;
+import ${package}.domain.Role;
+import ${package}.domain.User;
+import ${package}.domain.UserChange;
+import ${package}.dto.CursorPageDto;
+import ${package}.dto.ErrorResponseDto;
+import ${package}.dto.PageDto;
+import ${package}.dto.ProjectedUserDto;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserSuggestionDto;
+import ${package}.logging.JsonLineEncoder;
+import ch.qos.logback.classic.AsyncAppender;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * What a native image needs beyond what Spring AOT and the GraalVM reachability metadata infer:
+ * reflection on the types Jackson binds and Hibernate maps, the Flyway scripts and springdoc's
+ * Swagger UI as resources, and the Logback classes named in {@code logback-spring.xml}.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // ProjectedUserDto is returned through UserDto-typed methods, so AOT cannot find it on its own
+    static final List<Class<?>> BODIES = List.of(UserDto.class, ProjectedUserDto.class, PageDto.class,
+        CursorPageDto.class, ErrorResponseDto.class, UserChangeBatchDto.class, UserChangeDto.class,
+        UserSuggestionDto.class);
+
+    static final List<Class<?>> ENTITIES = List.of(BaseEntity.class, User.class, UserChange.class,
+        ChangeFeedState.class);
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Request and response bodies, with the types they contain
+        bindingHints.registerReflectionHints(hints.reflection(), BODIES.toArray(Class<?>[]::new));
+
+        // Hibernate reads and writes entity fields and builds instances reflectively
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        hints.reflection().registerType(Role.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Flyway finds migrations by listing the classpath, which only sees registered resources
+        hints.resources().registerPattern("db/migration/*.sql");
+
+        // springdoc serializes the OpenAPI model with Jackson, serves the Swagger UI webjar and
+        // reads the Swagger UI version from the webjar's pom.properties
+        bindingHints.registerReflectionHints(hints.reflection(), OpenAPI.class);
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+
+        // Logback instantiates these by class name while reading logback-spring.xml
+        hints.resources().registerPattern("logback-spring.xml");
+        for (Class<?> type : List.of(AsyncAppender.class, JsonLineEncoder.class)) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ${package}.bulkhead;
+
+/**
+ * Tracks which bulkhead the current thread is working for, so that downstream
+ * resources (e.g. the connection pool) can be partitioned the same way.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<BulkheadType> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {}
+
+    public static BulkheadType current() {
+        BulkheadType type = CURRENT.get();
+        return type != null ? type : BulkheadType.POINT;
+    }
+
+    static void set(BulkheadType type) {
+        CURRENT.set(type);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,6 @@
+package ${package}.bulkhead;
+
+public enum BulkheadType {
+    SEARCH,
+    POINT
+}
@@ -0,0 +1,191 @@
+package ${package}.bulkhead;
+
+import ${package}.config.AppProperties;
+import ${package}.deadline.Deadline;
+import ${package}.deadline.DeadlineContext;
+import ${package}.exception.BulkheadFullException;
+import ${package}.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executors per endpoint class. Slow list/search work runs on the SEARCH pool
+ * and can never occupy the threads (or connections) that point reads and writes use.
+ */
+@Component
+public class Bulkheads implements DisposableBean {
+
+    private final boolean enabled;
+    private final Map<BulkheadType, ThreadPoolTaskExecutor> executors = new EnumMap<>(BulkheadType.class);
+    private final Map<BulkheadType, Counter> rejections = new EnumMap<>(BulkheadType.class);
+
+    public Bulkheads(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.Bulkhead config = appProperties.getBulkhead();
+        this.enabled = config.isEnabled();
+        if (enabled) {
+            register(BulkheadType.SEARCH, config.getSearch(), meterRegistry);
+            register(BulkheadType.POINT, config.getPoint(), meterRegistry);
+        }
+    }
+
+    public <T> CompletableFuture<T> supply(BulkheadType type, Supplier<T> supplier) {
+        Deadline deadline = DeadlineContext.current();
+        Supplier<T> task = deadline == null ? supplier : () -> {
+            // Skip work whose caller gave up while it was queued
+            deadline.check();
+            return supplier.get();
+        };
+
+        CompletableFuture<T> future;
+        Future<?> worker = null;
+        if (!enabled) {
+            try {
+                future = CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+        } else {
+            CompletableFuture<T> pending = new CompletableFuture<>();
+            try {
+                worker = executors.get(type).submit(() -> complete(pending, task));
+            } catch (TaskRejectedException ex) {
+                rejections.get(type).increment();
+                return CompletableFuture.failedFuture(
+                    new BulkheadFullException("Bulkhead " + type + " is full", ex));
+            }
+            future = pending;
+        }
+
+        if (deadline == null) {
+            return future;
+        }
+        Future<?> running = worker;
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.orTimeout(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS)
+            .whenComplete((value, ex) -> {
+                if (ex == null) {
+                    result.complete(value);
+                    return;
+                }
+                if (running != null) {
+                    // orTimeout only fails the future; interrupt the worker (or drop it from the
+                    // queue) so it stops along with the caller instead of running to the end
+                    running.cancel(true);
+                }
+                result.completeExceptionally(translateTimeout(ex, deadline));
+            });
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executors.values().forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, Supplier<T> task) {
+        try {
+            future.complete(task.get());
+        } catch (Throwable ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private static Throwable translateTimeout(Throwable ex, Deadline deadline) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException || cause instanceof QueryTimeoutException) {
+            return new DeadlineExceededException("Deadline exceeded for " + deadline.getEndpoint(), cause);
+        }
+        return cause;
+    }
+
+    private void register(BulkheadType type, AppProperties.Bulkhead.Pool pool, MeterRegistry meterRegistry) {
+        String name = type.name().toLowerCase(Locale.ROOT);
+        Timer waitTimer = Timer.builder("app.bulkhead.wait")
+            .description("Time tasks spend queued before a bulkhead thread picks them up")
+            .tag("bulkhead", name)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getThreads());
+        executor.setMaxPoolSize(pool.getThreads());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix("bulkhead-" + name + "-");
+        executor.setTaskDecorator(new ContextPropagatingDecorator(type, waitTimer));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        executors.put(type, executor);
+
+        Gauge.builder("app.bulkhead.queue.depth", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size())
+            .description("Tasks waiting for a bulkhead thread")
+            .tag("bulkhead", name)
+            .register(meterRegistry);
+        Gauge.builder("app.bulkhead.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .description("Bulkhead threads currently busy")
+            .tag("bulkhead", name)
+            .register(meterRegistry);
+        rejections.put(type, Counter.builder("app.bulkhead.rejected")
+            .description("Tasks rejected because the bulkhead queue was full")
+            .tag("bulkhead", name)
+            .register(meterRegistry));
+    }
+
+    private static final class ContextPropagatingDecorator implements TaskDecorator {
+
+        private final BulkheadType type;
+        private final Timer waitTimer;
+
+        private ContextPropagatingDecorator(BulkheadType type, Timer waitTimer) {
+            this.type = type;
+            this.waitTimer = waitTimer;
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            long submittedAt = System.nanoTime();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            Deadline deadline = DeadlineContext.current();
+            return () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                BulkheadContext.set(type);
+                DeadlineContext.set(deadline);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    runnable.run();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    MDC.clear();
+                    DeadlineContext.clear();
+                    BulkheadContext.clear();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ${package}.cache;
+
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the {@code users} cache entries a committed write made stale: the id entry and the
+ * normalized username/email entries of both the old and the new state, so a rename does not
+ * leave the old login cached.
+ */
+@Component
+public class UserCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public UserCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        Cache users = cacheManager.getCache("users");
+        if (users == null) {
+            return;
+        }
+        users.evict(event.id());
+        evictLogins(users, event.before());
+        evictLogins(users, event.after());
+    }
+
+    private static void evictLogins(Cache users, UserDto user) {
+        if (user != null) {
+            users.evict("username:" + User.normalize(user.getUsername()));
+            users.evict("email:" + User.normalize(user.getEmail()));
+        }
+    }
+}
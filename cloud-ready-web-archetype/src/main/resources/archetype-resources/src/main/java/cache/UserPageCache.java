@@ -0,0 +1,125 @@
+package ${package}.cache;
+
+import ${package}.config.AppProperties;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches list/search result pages and their total counts. Every key carries the current
+ * generation; writes bump the generation, which makes all older entries unreachable without
+ * scanning them. Stale entries simply age out.
+ */
+@Component
+public class UserPageCache {
+
+    private final boolean enabled;
+    private final Cache<PageKey, PageDto<UserDto>> pages;
+    private final Cache<CountKey, Long> counts;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserPageCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.PageCache config = appProperties.getPageCache();
+        this.enabled = config.isEnabled();
+        this.pages = Caffeine.newBuilder()
+            .maximumSize(config.getMaximumSize())
+            .expireAfterWrite(config.getPageTtl())
+            .recordStats()
+            .build();
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(config.getMaximumSize())
+            .expireAfterWrite(config.getCountTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "userPages");
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "userPageCounts");
+    }
+
+    /**
+     * Cache key for a search term. Only case is folded: the search predicate compares lower-cased
+     * values, so terms that differ in case return the same rows and may share entries. The
+     * repository is always queried with the term as given.
+     */
+    public static String normalize(String term) {
+        return term == null ? "" : term.toLowerCase(Locale.ROOT);
+    }
+
+    public PageDto<UserDto> getOrLoad(String normalizedTerm, Pageable pageable,
+                                      Supplier<List<UserDto>> contentLoader, LongSupplier countLoader) {
+        return getOrLoad(normalizedTerm, "", pageable, contentLoader, countLoader);
+    }
+
+    /**
+     * Same as {@link #getOrLoad(String, Pageable, Supplier, LongSupplier)} for a sparse fieldset.
+     * Pages are cached per fieldset; the total count is shared by all fieldsets of a term.
+     */
+    public PageDto<UserDto> getOrLoad(String normalizedTerm, String fields, Pageable pageable,
+                                      Supplier<List<UserDto>> contentLoader, LongSupplier countLoader) {
+        if (!enabled) {
+            return toPage(contentLoader.get(), pageable, null, countLoader);
+        }
+
+        // Read the generation before loading so a concurrent write can only make this entry stale
+        long currentGeneration = generation.get();
+        PageKey key = new PageKey(currentGeneration, normalizedTerm, fields, pageable.getPageNumber(),
+            pageable.getPageSize(), pageable.getSort().toString());
+        PageDto<UserDto> cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CountKey countKey = new CountKey(currentGeneration, normalizedTerm);
+        PageDto<UserDto> page = toPage(contentLoader.get(), pageable, counts.getIfPresent(countKey), countLoader);
+        counts.put(countKey, page.getTotalElements());
+        pages.put(key, page);
+        return page;
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    private static PageDto<UserDto> toPage(List<UserDto> content, Pageable pageable, Long knownTotal,
+                                           LongSupplier countLoader) {
+        long total;
+        if (knownTotal != null) {
+            total = knownTotal;
+        } else if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            // A partial page tells us the total without a count query
+            total = pageable.getOffset() + content.size();
+        } else {
+            total = countLoader.getAsLong();
+        }
+        return PageDto.from(new PageImpl<>(content, pageable, total), Function.identity());
+    }
+
+    private record PageKey(long generation, String term, String fields, int page, int size, String sort) {
+    }
+
+    private record CountKey(long generation, String term) {
+    }
+}
@@ -0,0 +1,100 @@
+package ${package}.changefeed;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.ChangeFeedState;
+import ${package}.domain.UserChange;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.ChangeFeedStateRepository;
+import ${package}.repository.UserChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the compacted change log in the same transaction as the user write, so a change is
+ * visible in the feed exactly when it commits. Rows are tagged with the writer's transaction id
+ * rather than a number from a shared counter, so concurrent user writes do not wait on each other. Tombstones older than
+ * {@code app.change-feed.tombstone-retention} are purged in the background.
+ */
+@Component
+public class UserChangeLog implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeLog.class);
+
+    private final UserChangeRepository changeRepository;
+    private final ChangeFeedStateRepository stateRepository;
+    private final TransactionTemplate transaction;
+    private final AppProperties.ChangeFeed config;
+    private ScheduledExecutorService scheduler;
+
+    public UserChangeLog(UserChangeRepository changeRepository, ChangeFeedStateRepository stateRepository,
+                         PlatformTransactionManager transactionManager, AppProperties appProperties) {
+        this.changeRepository = changeRepository;
+        this.stateRepository = stateRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getChangeFeed();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("change-feed-purge-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long purgeMillis = config.getPurgeInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::purgeTombstones, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // A plain listener runs inside the publishing transaction: the log row commits or rolls back with the user
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserChanged(UserChangedEvent event) {
+        UserChange.Type type = event.after() != null ? UserChange.Type.UPSERTED : UserChange.Type.DELETED;
+        changeRepository.record(event.id(), type.name(), LocalDateTime.now());
+    }
+
+    void purgeTombstones() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(config.getTombstoneRetention());
+            Integer purged = transaction.execute(status -> changeRepository
+                .findLastTxidBefore(UserChange.Type.DELETED, cutoff)
+                .map(through -> {
+                    ChangeFeedState state = lockState();
+                    int deleted = changeRepository.deleteThrough(UserChange.Type.DELETED, through);
+                    state.setPurgedThrough(Math.max(state.getPurgedThrough(), through));
+                    return deleted;
+                })
+                .orElse(0));
+            if (purged != null && purged > 0) {
+                logger.info("Purged {} change feed tombstones older than {}", purged, cutoff);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Change feed tombstone purge failed: {}", e.getMessage());
+        }
+    }
+
+    private ChangeFeedState lockState() {
+        // The row is created by the migration; create-drop schemas start without it
+        return stateRepository.findWithLockById(ChangeFeedState.ID)
+            .orElseGet(() -> stateRepository.save(ChangeFeedState.initial()));
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
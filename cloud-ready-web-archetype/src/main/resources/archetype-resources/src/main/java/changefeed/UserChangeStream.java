@@ -0,0 +1,169 @@
+package ${package}.changefeed;
+
+import ${package}.config.AppProperties;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.exception.BulkheadFullException;
+import ${package}.exception.ChangeFeedExpiredException;
+import ${package}.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes the change feed to Server-Sent Events subscribers. A single thread drains the log for
+ * all subscribers: it is woken as soon as a local write commits, and also polls on
+ * {@code app.change-feed.poll-interval} to pick up writes committed by other instances.
+ * Subscribers at the same token share one query. Each event carries its token as the SSE id,
+ * so a reconnecting client resumes from {@code Last-Event-ID}.
+ */
+@Component
+public class UserChangeStream implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeStream.class);
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private volatile String token;
+
+        private Subscriber(SseEmitter emitter, String token) {
+            this.emitter = emitter;
+            this.token = token;
+        }
+    }
+
+    private final UserService userService;
+    private final AppProperties.ChangeFeed config;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+
+    public UserChangeStream(UserService userService, AppProperties appProperties) {
+        this.userService = userService;
+        this.config = appProperties.getChangeFeed();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("change-feed-stream-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long pollMillis = config.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drainAll, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        wakeUp();
+    }
+
+    /**
+     * Opens a stream after {@code since}. The first batch is read on the calling thread, so an
+     * invalid or expired token fails the request instead of an already-open stream.
+     */
+    public SseEmitter subscribe(String since) {
+        if (subscribers.size() >= config.getMaxSubscribers()) {
+            throw new BulkheadFullException("Too many change feed subscribers");
+        }
+        UserChangeBatchDto first = userService.findChanges(since, config.getMaxBatchSize());
+        SseEmitter emitter = new SseEmitter(config.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, first.getNextToken());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        if (send(subscriber, first.getChanges())) {
+            subscribers.add(subscriber);
+            if (first.isHasMore()) {
+                wakeUp();
+            }
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void wakeUp() {
+        // Coalesce bursts of commits into one drain
+        if (scheduler != null && wakeUpPending.compareAndSet(false, true)) {
+            scheduler.execute(this::drainAll);
+        }
+    }
+
+    void drainAll() {
+        wakeUpPending.set(false);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, UserChangeBatchDto> batches = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                drain(subscriber, batches);
+            } catch (ChangeFeedExpiredException e) {
+                subscriber.emitter.completeWithError(e);
+                subscribers.remove(subscriber);
+            } catch (RuntimeException e) {
+                // Keep the subscriber; the next poll retries from its token
+                logger.warn("Change feed stream read failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber, Map<String, UserChangeBatchDto> batches) {
+        while (true) {
+            UserChangeBatchDto batch = batches.computeIfAbsent(subscriber.token,
+                token -> userService.findChanges(token, config.getMaxBatchSize()));
+            if (!batch.getChanges().isEmpty() && !send(subscriber, batch.getChanges())) {
+                subscribers.remove(subscriber);
+                return;
+            }
+            subscriber.token = batch.getNextToken();
+            if (!batch.isHasMore()) {
+                return;
+            }
+        }
+    }
+
+    private static boolean send(Subscriber subscriber, List<UserChangeDto> changes) {
+        try {
+            for (UserChangeDto change : changes) {
+                subscriber.emitter.send(SseEmitter.event()
+                    .id(change.getToken())
+                    .name("change")
+                    .data(change));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+}
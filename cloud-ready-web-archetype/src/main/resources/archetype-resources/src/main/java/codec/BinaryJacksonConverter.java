@@ -0,0 +1,46 @@
+package ${package}.codec;
+
+import ${package}.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter for a binary format (Smile or CBOR). Single {@link UserDto} bodies are
+ * served from the {@link EncodedUserCache}; everything else is encoded as usual.
+ */
+public class BinaryJacksonConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final String format;
+    private final EncodedUserCache encodedUsers;
+
+    public BinaryJacksonConverter(ObjectMapper objectMapper, MediaType mediaType, EncodedUserCache encodedUsers) {
+        super(objectMapper, mediaType);
+        this.format = mediaType.toString();
+        this.encodedUsers = encodedUsers;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (object instanceof UserDto user) {
+            byte[] body;
+            try {
+                body = encodedUsers.get(format, user, getObjectMapper()::writeValueAsBytes);
+            } catch (UncheckedIOException e) {
+                throw new HttpMessageNotWritableException("Could not encode user: " + e.getMessage(), e.getCause());
+            }
+            outputMessage.getHeaders().setContentLength(body.length);
+            outputMessage.getBody().write(body);
+            return;
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+}
@@ -0,0 +1,55 @@
+package ${package}.codec;
+
+import ${package}.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Encoded binary forms of single users, keyed by format, id and {@code updatedAt}. Every write
+ * moves {@code updatedAt}, so a changed user misses and nothing needs invalidating; unused
+ * entries age out. Only full users are cached: projected users, and users without an id or
+ * {@code updatedAt}, are encoded on every call.
+ */
+public class EncodedUserCache {
+
+    @FunctionalInterface
+    public interface Encoder {
+        byte[] encode(UserDto user) throws IOException;
+    }
+
+    private record Key(String format, long id, LocalDateTime updatedAt) {
+    }
+
+    private final Cache<Key, byte[]> encoded;
+
+    public EncodedUserCache(int maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.encoded = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, encoded, "encodedUsers");
+    }
+
+    public byte[] get(String format, UserDto user, Encoder encoder) {
+        if (user.getClass() != UserDto.class || user.getId() == null || user.getUpdatedAt() == null) {
+            return encode(user, encoder);
+        }
+        return encoded.get(new Key(format, user.getId(), user.getUpdatedAt()), key -> encode(user, encoder));
+    }
+
+    private static byte[] encode(UserDto user, Encoder encoder) {
+        try {
+            return encoder.encode(user);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ${package}.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Writes {@link LocalDateTime} as UTC epoch milliseconds for the binary formats, where a number
+ * is a few bytes and needs no formatting. It is registered after the Java time module and is not
+ * contextual, so it also replaces the text patterns from {@code @JsonFormat}. Reading accepts
+ * numbers and, for lenient clients, ISO-8601 strings.
+ */
+public class EpochDatesModule extends SimpleModule {
+
+    public EpochDatesModule() {
+        super("EpochDates");
+        addSerializer(LocalDateTime.class, new Serializer());
+        addDeserializer(LocalDateTime.class, new Deserializer());
+    }
+
+    private static final class Serializer extends JsonSerializer<LocalDateTime> {
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeNumber(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    private static final class Deserializer extends JsonDeserializer<LocalDateTime> {
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+            }
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                return LocalDateTime.parse(parser.getText());
+            }
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+    }
+}
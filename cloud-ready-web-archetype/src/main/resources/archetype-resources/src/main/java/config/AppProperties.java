@@ -5,10 +5,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @ConfigurationProperties(prefix = "app")
@@ -33,6 +41,57 @@ public class AppProperties {
     @Valid
     private Pagination pagination = new Pagination();
 
+    @Valid
+    private RateLimit rateLimit = new RateLimit();
+
+    @Valid
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Valid
+    private Deadline deadline = new Deadline();
+
+    @Valid
+    private PageCache pageCache = new PageCache();
+
+    @Valid
+    private Typeahead typeahead = new Typeahead();
+
+    @Valid
+    private ReadModel readModel = new ReadModel();
+
+    @Valid
+    private Search search = new Search();
+
+    @Valid
+    private FilterIndex filterIndex = new FilterIndex();
+
+    @Valid
+    private ChangeFeed changeFeed = new ChangeFeed();
+
+    @Valid
+    private BinaryContent binaryContent = new BinaryContent();
+
+    @Valid
+    private Grpc grpc = new Grpc();
+
+    @Valid
+    private JwtCache jwtCache = new JwtCache();
+
+    @Valid
+    private Jwk jwk = new Jwk();
+
+    @Valid
+    private Logging logging = new Logging();
+
+    @Valid
+    private SqlLog sqlLog = new SqlLog();
+
+    @Valid
+    private Startup startup = new Startup();
+
+    @Valid
+    private Crac crac = new Crac();
+
     // Getters and setters
     public String getName() {
         return name;
@@ -82,6 +141,142 @@ public class AppProperties {
         this.pagination = pagination;
     }
 
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public PageCache getPageCache() {
+        return pageCache;
+    }
+
+    public void setPageCache(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    public Typeahead getTypeahead() {
+        return typeahead;
+    }
+
+    public void setTypeahead(Typeahead typeahead) {
+        this.typeahead = typeahead;
+    }
+
+    public ReadModel getReadModel() {
+        return readModel;
+    }
+
+    public void setReadModel(ReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public void setSearch(Search search) {
+        this.search = search;
+    }
+
+    public FilterIndex getFilterIndex() {
+        return filterIndex;
+    }
+
+    public void setFilterIndex(FilterIndex filterIndex) {
+        this.filterIndex = filterIndex;
+    }
+
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    public void setChangeFeed(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    public BinaryContent getBinaryContent() {
+        return binaryContent;
+    }
+
+    public void setBinaryContent(BinaryContent binaryContent) {
+        this.binaryContent = binaryContent;
+    }
+
+    public Grpc getGrpc() {
+        return grpc;
+    }
+
+    public void setGrpc(Grpc grpc) {
+        this.grpc = grpc;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public void setJwtCache(JwtCache jwtCache) {
+        this.jwtCache = jwtCache;
+    }
+
+    public Jwk getJwk() {
+        return jwk;
+    }
+
+    public void setJwk(Jwk jwk) {
+        this.jwk = jwk;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public void setLogging(Logging logging) {
+        this.logging = logging;
+    }
+
+    public SqlLog getSqlLog() {
+        return sqlLog;
+    }
+
+    public void setSqlLog(SqlLog sqlLog) {
+        this.sqlLog = sqlLog;
+    }
+
+    public Startup getStartup() {
+        return startup;
+    }
+
+    public void setStartup(Startup startup) {
+        this.startup = startup;
+    }
+
+    public Crac getCrac() {
+        return crac;
+    }
+
+    public void setCrac(Crac crac) {
+        this.crac = crac;
+    }
+
     public static class Cors {
         @NotEmpty
         private List<String> allowedOrigins;
@@ -146,6 +341,9 @@ public class AppProperties {
         @Valid
         private Password password = new Password();
 
+        @Valid
+        private FastLane fastLane = new FastLane();
+
         public Jwt getJwt() {
             return jwt;
         }
@@ -162,6 +360,14 @@ public class AppProperties {
             this.password = password;
         }
 
+        public FastLane getFastLane() {
+            return fastLane;
+        }
+
+        public void setFastLane(FastLane fastLane) {
+            this.fastLane = fastLane;
+        }
+
         public static class Jwt {
             @NotBlank
             private String header = "Authorization";
@@ -211,6 +417,41 @@ public class AppProperties {
                 this.strength = strength;
             }
         }
+
+        public static class FastLane {
+            private boolean enabled = true;
+
+            @NotNull
+            private List<String> paths = new ArrayList<>(List.of("/actuator/health/liveness",
+                "/actuator/health/readiness", "/swagger-ui/**", "/api-docs/**", "/api/public/**"));
+
+            private boolean precomputedHeaders = false;
+
+            // Getters and setters
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public List<String> getPaths() {
+                return paths;
+            }
+
+            public void setPaths(List<String> paths) {
+                this.paths = paths;
+            }
+
+            public boolean isPrecomputedHeaders() {
+                return precomputedHeaders;
+            }
+
+            public void setPrecomputedHeaders(boolean precomputedHeaders) {
+                this.precomputedHeaders = precomputedHeaders;
+            }
+        }
     }
 
     public static class Pagination {
@@ -237,4 +478,905 @@ public class AppProperties {
             this.maxPageSize = maxPageSize;
         }
     }
-}
\ No newline at end of file
+
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        @NotEmpty
+        private List<String> paths = List.of("/users/exists/**");
+
+        @Positive
+        private long capacity = 20;
+
+        @Positive
+        private long refillPerSecond = 10;
+
+        @Positive
+        private int stripes = 4096;
+
+        @Valid
+        private Cluster cluster = new Cluster();
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(long refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getStripes() {
+            return stripes;
+        }
+
+        public void setStripes(int stripes) {
+            this.stripes = stripes;
+        }
+
+        public Cluster getCluster() {
+            return cluster;
+        }
+
+        public void setCluster(Cluster cluster) {
+            this.cluster = cluster;
+        }
+
+        public static class Cluster {
+            private boolean enabled = false;
+
+            @NotBlank
+            private String store = "redis";
+
+            @Positive
+            private long limit = 600;
+
+            @NotNull
+            private Duration window = Duration.ofMinutes(1);
+
+            @Positive
+            private int batchSize = 20;
+
+            // Getters and setters
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getStore() {
+                return store;
+            }
+
+            public void setStore(String store) {
+                this.store = store;
+            }
+
+            public long getLimit() {
+                return limit;
+            }
+
+            public void setLimit(long limit) {
+                this.limit = limit;
+            }
+
+            public Duration getWindow() {
+                return window;
+            }
+
+            public void setWindow(Duration window) {
+                this.window = window;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+        }
+    }
+
+    public static class Bulkhead {
+        private boolean enabled = true;
+
+        @Valid
+        private Pool search = new Pool(8, 50, 4);
+
+        @Valid
+        private Pool point = new Pool(32, 200, 12);
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Pool getSearch() {
+            return search;
+        }
+
+        public void setSearch(Pool search) {
+            this.search = search;
+        }
+
+        public Pool getPoint() {
+            return point;
+        }
+
+        public void setPoint(Pool point) {
+            this.point = point;
+        }
+
+        public static class Pool {
+            @Positive
+            private int threads;
+
+            @Positive
+            private int queueCapacity;
+
+            @Positive
+            private int connections;
+
+            public Pool() {}
+
+            public Pool(int threads, int queueCapacity, int connections) {
+                this.threads = threads;
+                this.queueCapacity = queueCapacity;
+                this.connections = connections;
+            }
+
+            // Getters and setters
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public int getConnections() {
+                return connections;
+            }
+
+            public void setConnections(int connections) {
+                this.connections = connections;
+            }
+        }
+    }
+
+    public static class Deadline {
+        private boolean enabled = true;
+
+        @NotBlank
+        private String header = "X-Request-Timeout";
+
+        @NotNull
+        private Duration defaultTimeout = Duration.ofSeconds(10);
+
+        @NotNull
+        private Duration maxTimeout = Duration.ofSeconds(30);
+
+        private Map<String, Duration> endpoints = new HashMap<>();
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public void setHeader(String header) {
+            this.header = header;
+        }
+
+        public Duration getDefaultTimeout() {
+            return defaultTimeout;
+        }
+
+        public void setDefaultTimeout(Duration defaultTimeout) {
+            this.defaultTimeout = defaultTimeout;
+        }
+
+        public Duration getMaxTimeout() {
+            return maxTimeout;
+        }
+
+        public void setMaxTimeout(Duration maxTimeout) {
+            this.maxTimeout = maxTimeout;
+        }
+
+        public Map<String, Duration> getEndpoints() {
+            return endpoints;
+        }
+
+        public void setEndpoints(Map<String, Duration> endpoints) {
+            this.endpoints = endpoints;
+        }
+    }
+
+    public static class PageCache {
+        private boolean enabled = true;
+
+        @NotNull
+        private Duration pageTtl = Duration.ofSeconds(5);
+
+        @NotNull
+        private Duration countTtl = Duration.ofSeconds(30);
+
+        @Positive
+        private long maximumSize = 1000;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getPageTtl() {
+            return pageTtl;
+        }
+
+        public void setPageTtl(Duration pageTtl) {
+            this.pageTtl = pageTtl;
+        }
+
+        public Duration getCountTtl() {
+            return countTtl;
+        }
+
+        public void setCountTtl(Duration countTtl) {
+            this.countTtl = countTtl;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class Typeahead {
+        private boolean enabled = true;
+
+        @Positive
+        private int defaultLimit = 10;
+
+        @Positive
+        private int maxLimit = 50;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getDefaultLimit() {
+            return defaultLimit;
+        }
+
+        public void setDefaultLimit(int defaultLimit) {
+            this.defaultLimit = defaultLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+    }
+
+    public static class ReadModel {
+        private boolean enabled = false;
+
+        @NotBlank
+        private String snapshotPath = "data/user-directory.snapshot";
+
+        private boolean replication = true;
+
+        @NotBlank
+        private String channel = "user-directory-changes";
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getSnapshotPath() {
+            return snapshotPath;
+        }
+
+        public void setSnapshotPath(String snapshotPath) {
+            this.snapshotPath = snapshotPath;
+        }
+
+        public boolean isReplication() {
+            return replication;
+        }
+
+        public void setReplication(boolean replication) {
+            this.replication = replication;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+    }
+
+    public static class Search {
+        private boolean enabled = true;
+
+        @NotBlank
+        private String store = "disk";
+
+        @NotBlank
+        private String indexPath = "data/search-index";
+
+        @NotNull
+        private Duration refreshInterval = Duration.ofSeconds(1);
+
+        @NotNull
+        private Duration commitInterval = Duration.ofSeconds(30);
+
+        @Positive
+        private int rebuildThreads = 4;
+
+        private boolean rebuildOnStartup = false;
+
+        @Positive
+        private int maxWindow = 10000;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getStore() {
+            return store;
+        }
+
+        public void setStore(String store) {
+            this.store = store;
+        }
+
+        public String getIndexPath() {
+            return indexPath;
+        }
+
+        public void setIndexPath(String indexPath) {
+            this.indexPath = indexPath;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getCommitInterval() {
+            return commitInterval;
+        }
+
+        public void setCommitInterval(Duration commitInterval) {
+            this.commitInterval = commitInterval;
+        }
+
+        public int getRebuildThreads() {
+            return rebuildThreads;
+        }
+
+        public void setRebuildThreads(int rebuildThreads) {
+            this.rebuildThreads = rebuildThreads;
+        }
+
+        public boolean isRebuildOnStartup() {
+            return rebuildOnStartup;
+        }
+
+        public void setRebuildOnStartup(boolean rebuildOnStartup) {
+            this.rebuildOnStartup = rebuildOnStartup;
+        }
+
+        public int getMaxWindow() {
+            return maxWindow;
+        }
+
+        public void setMaxWindow(int maxWindow) {
+            this.maxWindow = maxWindow;
+        }
+    }
+
+    public static class FilterIndex {
+        private boolean enabled = true;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class ChangeFeed {
+        @Positive
+        private int maxBatchSize = 1000;
+
+        @NotNull
+        private Duration tombstoneRetention = Duration.ofDays(7);
+
+        @NotNull
+        private Duration purgeInterval = Duration.ofHours(1);
+
+        @NotNull
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        @NotNull
+        private Duration streamTimeout = Duration.ofMinutes(30);
+
+        @Positive
+        private int maxSubscribers = 100;
+
+        // Getters and setters
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getTombstoneRetention() {
+            return tombstoneRetention;
+        }
+
+        public void setTombstoneRetention(Duration tombstoneRetention) {
+            this.tombstoneRetention = tombstoneRetention;
+        }
+
+        public Duration getPurgeInterval() {
+            return purgeInterval;
+        }
+
+        public void setPurgeInterval(Duration purgeInterval) {
+            this.purgeInterval = purgeInterval;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public Duration getStreamTimeout() {
+            return streamTimeout;
+        }
+
+        public void setStreamTimeout(Duration streamTimeout) {
+            this.streamTimeout = streamTimeout;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+    }
+
+    public static class BinaryContent {
+        private boolean enabled = true;
+
+        @Positive
+        private int cacheSize = 10000;
+
+        @NotNull
+        private Duration cacheTtl = Duration.ofMinutes(10);
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
+        public void setCacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+        }
+
+        public Duration getCacheTtl() {
+            return cacheTtl;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+        }
+    }
+
+    public static class Grpc {
+        private boolean enabled = true;
+
+        @Min(0)
+        private int port = 9090;
+
+        @Positive
+        private int threads = 16;
+
+        @NotNull
+        private Duration shutdownGrace = Duration.ofSeconds(10);
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public Duration getShutdownGrace() {
+            return shutdownGrace;
+        }
+
+        public void setShutdownGrace(Duration shutdownGrace) {
+            this.shutdownGrace = shutdownGrace;
+        }
+    }
+
+    public static class JwtCache {
+        private boolean enabled = true;
+
+        @Positive
+        private int maximumSize = 10000;
+
+        @NotNull
+        private Duration maxTtl = Duration.ofHours(1);
+
+        @NotNull
+        private Duration failureTtl = Duration.ofSeconds(10);
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getMaxTtl() {
+            return maxTtl;
+        }
+
+        public void setMaxTtl(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        public Duration getFailureTtl() {
+            return failureTtl;
+        }
+
+        public void setFailureTtl(Duration failureTtl) {
+            this.failureTtl = failureTtl;
+        }
+    }
+
+    public static class Jwk {
+        private boolean enabled = true;
+
+        private String snapshotPath = "data/jwks.json";
+
+        @NotNull
+        private Duration refreshInterval = Duration.ofMinutes(15);
+
+        @NotNull
+        private Duration refreshJitter = Duration.ofMinutes(1);
+
+        @NotNull
+        private Duration retryInterval = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration unknownKeyInterval = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration fetchTimeout = Duration.ofSeconds(3);
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getSnapshotPath() {
+            return snapshotPath;
+        }
+
+        public void setSnapshotPath(String snapshotPath) {
+            this.snapshotPath = snapshotPath;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getRefreshJitter() {
+            return refreshJitter;
+        }
+
+        public void setRefreshJitter(Duration refreshJitter) {
+            this.refreshJitter = refreshJitter;
+        }
+
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+
+        public void setRetryInterval(Duration retryInterval) {
+            this.retryInterval = retryInterval;
+        }
+
+        public Duration getUnknownKeyInterval() {
+            return unknownKeyInterval;
+        }
+
+        public void setUnknownKeyInterval(Duration unknownKeyInterval) {
+            this.unknownKeyInterval = unknownKeyInterval;
+        }
+
+        public Duration getFetchTimeout() {
+            return fetchTimeout;
+        }
+
+        public void setFetchTimeout(Duration fetchTimeout) {
+            this.fetchTimeout = fetchTimeout;
+        }
+    }
+
+    public static class Logging {
+        @Positive
+        private int queueSize = 8192;
+
+        private boolean neverBlock = true;
+
+        // Getters and setters
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public boolean isNeverBlock() {
+            return neverBlock;
+        }
+
+        public void setNeverBlock(boolean neverBlock) {
+            this.neverBlock = neverBlock;
+        }
+    }
+
+    public static class SqlLog {
+        private boolean enabled = false;
+
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double sampleRate = 0.01;
+
+        @Positive
+        private int maxPerSecond = 20;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public int getMaxPerSecond() {
+            return maxPerSecond;
+        }
+
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+    }
+
+    public static class Startup {
+        @Positive
+        private int slowestBeans = 20;
+
+        private List<String> lazyBeans = new ArrayList<>();
+
+        private List<String> backgroundBeans = new ArrayList<>();
+
+        // Getters and setters
+        public int getSlowestBeans() {
+            return slowestBeans;
+        }
+
+        public void setSlowestBeans(int slowestBeans) {
+            this.slowestBeans = slowestBeans;
+        }
+
+        public List<String> getLazyBeans() {
+            return lazyBeans;
+        }
+
+        public void setLazyBeans(List<String> lazyBeans) {
+            this.lazyBeans = lazyBeans;
+        }
+
+        public List<String> getBackgroundBeans() {
+            return backgroundBeans;
+        }
+
+        public void setBackgroundBeans(List<String> backgroundBeans) {
+            this.backgroundBeans = backgroundBeans;
+        }
+    }
+
+    public static class Crac {
+        private boolean enabled = false;
+
+        @Min(0)
+        private int warmupRequests = 2000;
+
+        private List<String> warmupPaths = new ArrayList<>(List.of("/api-docs", "/actuator/health"));
+
+        // Sent as a bearer token with every warm-up request; without one, user endpoints only answer 401
+        private String warmupToken;
+
+        // Getters and setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWarmupRequests() {
+            return warmupRequests;
+        }
+
+        public void setWarmupRequests(int warmupRequests) {
+            this.warmupRequests = warmupRequests;
+        }
+
+        public List<String> getWarmupPaths() {
+            return warmupPaths;
+        }
+
+        public void setWarmupPaths(List<String> warmupPaths) {
+            this.warmupPaths = warmupPaths;
+        }
+
+        public String getWarmupToken() {
+            return warmupToken;
+        }
+
+        public void setWarmupToken(String warmupToken) {
+            this.warmupToken = warmupToken;
+        }
+    }
+}
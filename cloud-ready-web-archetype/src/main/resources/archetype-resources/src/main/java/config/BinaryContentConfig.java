@@ -0,0 +1,56 @@
+package ${package}.config;
+
+import ${package}.codec.BinaryJacksonConverter;
+import ${package}.codec.EncodedUserCache;
+import ${package}.codec.EpochDatesModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serves {@code application/x-jackson-smile} and {@code application/cbor} next to JSON. The
+ * mappers start from Boot's Jackson settings, write dates as epoch milliseconds and replace the
+ * default converters Spring registers for these types. JSON stays first, so it remains the
+ * default for {@code Accept: *}{@code /*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.binary-content", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryContentConfig implements WebMvcConfigurer {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+    private final EncodedUserCache encodedUsers;
+
+    public BinaryContentConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders, AppProperties appProperties,
+                               MeterRegistry meterRegistry) {
+        AppProperties.BinaryContent config = appProperties.getBinaryContent();
+        this.builders = builders;
+        this.encodedUsers = new EncodedUserCache(config.getCacheSize(), config.getCacheTtl(), meterRegistry);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+            || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new BinaryJacksonConverter(builder().factory(new SmileFactory()).build(), SMILE, encodedUsers));
+        converters.add(new BinaryJacksonConverter(builder().factory(new CBORFactory()).build(), CBOR, encodedUsers));
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = builders.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+        return builder.postConfigurer(mapper -> mapper.registerModule(new EpochDatesModule()));
+    }
+}
@@ -0,0 +1,34 @@
+package ${package}.config;
+
+import ${package}.crac.CheckpointOnReady;
+import ${package}.crac.HikariPoolsLifecycle;
+import ${package}.startup.IndexBuilds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Checkpoint/restore mode for a CRaC JVM, see {@link CheckpointOnReady}. The Redis connection
+ * factory and the servers are Spring lifecycle beans already. The bulkhead pools and the JWK
+ * refresh get their hooks here and in {@link ${package}.security.JwkStore}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.crac", name = "enabled", havingValue = "true")
+public class CracConfig {
+
+    @Bean
+    public HikariPoolsLifecycle hikariPoolsLifecycle(DataSource dataSource) {
+        return new HikariPoolsLifecycle(dataSource);
+    }
+
+    @Bean
+    public CheckpointOnReady checkpointOnReady(IndexBuilds indexBuilds, AppProperties appProperties,
+                                               Environment environment) {
+        AppProperties.Crac crac = appProperties.getCrac();
+        return new CheckpointOnReady(indexBuilds, crac.getWarmupRequests(), crac.getWarmupPaths(),
+            crac.getWarmupToken(), environment.getProperty("server.servlet.context-path", ""));
+    }
+}
@@ -1,12 +1,72 @@
 package ${package}.config;
 
+import ${package}.bulkhead.BulkheadRoutingDataSource;
+import ${package}.bulkhead.BulkheadType;
+import ${package}.deadline.DeadlineAwareTransactionManager;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Configuration
 @EnableJpaRepositories(basePackages = "${package}.repository")
 @EnableTransactionManagement
 public class DatabaseConfig {
-    // Additional database configuration if needed
-}
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, AppProperties appProperties,
+                                 Environment environment, MeterRegistry meterRegistry) {
+        AppProperties.Bulkhead bulkhead = appProperties.getBulkhead();
+        boolean suspendable = appProperties.getCrac().isEnabled();
+        Binder binder = Binder.get(environment);
+        HikariDataSource searchPool = createPool(dataSourceProperties, binder, BulkheadType.SEARCH,
+            bulkhead.getSearch().getConnections(), suspendable, meterRegistry);
+        HikariDataSource pointPool = createPool(dataSourceProperties, binder, BulkheadType.POINT,
+            bulkhead.getPoint().getConnections(), suspendable, meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(BulkheadType.SEARCH, searchPool);
+        targets.put(BulkheadType.POINT, pointPool);
+
+        BulkheadRoutingDataSource dataSource = new BulkheadRoutingDataSource();
+        dataSource.setTargetDataSources(targets);
+        dataSource.setDefaultTargetDataSource(pointPool);
+        return dataSource;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new DeadlineAwareTransactionManager(entityManagerFactory);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties dataSourceProperties, Binder binder, BulkheadType type,
+                                        int connections, boolean suspendable, MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        // Same spring.datasource.hikari.* tuning as Boot's own pool; name and size stay per bulkhead
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("hikari-" + type.name().toLowerCase(Locale.ROOT));
+        pool.setMaximumPoolSize(connections);
+        // Checkpoint/restore suspends the pools, see HikariPoolsLifecycle
+        pool.setAllowPoolSuspension(suspendable);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
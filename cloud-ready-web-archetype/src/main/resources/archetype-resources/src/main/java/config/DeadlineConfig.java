@@ -0,0 +1,26 @@
+package ${package}.config;
+
+import ${package}.deadline.DeadlineInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig implements WebMvcConfigurer {
+
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineConfig(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DeadlineInterceptor(appProperties, meterRegistry));
+    }
+}
@@ -0,0 +1,39 @@
+package ${package}.config;
+
+import ${package}.grpc.GrpcServer;
+import ${package}.grpc.JwtServerInterceptor;
+import ${package}.grpc.UserGrpcService;
+import ${package}.service.UserService;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled", havingValue = "true")
+public class GrpcConfig {
+
+    private final AppProperties appProperties;
+
+    public GrpcConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Bean
+    public JwtServerInterceptor jwtServerInterceptor(AuthenticationManager jwtAuthenticationManager) {
+        return new JwtServerInterceptor(jwtAuthenticationManager);
+    }
+
+    @Bean
+    public UserGrpcService userGrpcService(UserService userService, Validator validator) {
+        return new UserGrpcService(userService, validator, appProperties.getChangeFeed().getMaxBatchSize());
+    }
+
+    @Bean
+    public GrpcServer grpcServer(UserGrpcService userGrpcService, JwtServerInterceptor jwtServerInterceptor) {
+        AppProperties.Grpc grpc = appProperties.getGrpc();
+        return new GrpcServer(userGrpcService, jwtServerInterceptor, grpc.getPort(), grpc.getThreads(),
+            grpc.getShutdownGrace());
+    }
+}
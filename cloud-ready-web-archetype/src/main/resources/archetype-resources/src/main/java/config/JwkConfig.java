@@ -0,0 +1,84 @@
+package ${package}.config;
+
+import ${package}.security.JwkStore;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces the auto-configured {@link JwtDecoder} with one backed by the local {@link JwkStore}.
+ * Validation is the same as Boot's: the configured JWS algorithms, timestamps, and issuer and
+ * audiences when set; only the issuer metadata lookup at startup goes away.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.jwk", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JwkConfig {
+
+    private final AppProperties appProperties;
+
+    public JwkConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Bean
+    public JwkStore jwkStore(OAuth2ResourceServerProperties resourceServerProperties, MeterRegistry meterRegistry) {
+        String jwkSetUri = resourceServerProperties.getJwt().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new IllegalStateException(
+                "spring.security.oauth2.resourceserver.jwt.jwk-set-uri is required when app.jwk.enabled=true");
+        }
+        return new JwkStore(URI.create(jwkSetUri), appProperties.getJwk(), meterRegistry);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwkStore jwkStore, OAuth2ResourceServerProperties resourceServerProperties) {
+        OAuth2ResourceServerProperties.Jwt properties = resourceServerProperties.getJwt();
+        Set<JWSAlgorithm> algorithms = properties.getJwsAlgorithms().stream()
+            .map(JWSAlgorithm::parse)
+            .collect(Collectors.toSet());
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkStore));
+        // Claims are checked by the Spring validators below, as with the auto-configured decoder
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(validator(properties));
+        return decoder;
+    }
+
+    private static OAuth2TokenValidator<Jwt> validator(OAuth2ResourceServerProperties.Jwt properties) {
+        OAuth2TokenValidator<Jwt> defaults = StringUtils.hasText(properties.getIssuerUri())
+            ? JwtValidators.createDefaultWithIssuer(properties.getIssuerUri())
+            : JwtValidators.createDefault();
+        List<String> audiences = properties.getAudiences();
+        if (audiences == null || audiences.isEmpty()) {
+            return defaults;
+        }
+        OAuth2TokenValidator<Jwt> audience = new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+            aud -> aud != null && !Collections.disjoint(aud, audiences));
+        return new DelegatingOAuth2TokenValidator<>(defaults, audience);
+    }
+}
@@ -0,0 +1,36 @@
+package ${package}.config;
+
+import ${package}.logging.ParameterLoggingGuard;
+import ${package}.logging.SampledSqlLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class LoggingConfig {
+
+    private final AppProperties appProperties;
+
+    public LoggingConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sql-log", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer sampledSqlLogging(MeterRegistry meterRegistry) {
+        AppProperties.SqlLog sqlLog = appProperties.getSqlLog();
+        SampledSqlLogger inspector = new SampledSqlLogger(sqlLog.getSampleRate(), sqlLog.getMaxPerSecond(), meterRegistry);
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    @Profile("prod")
+    public ParameterLoggingGuard parameterLoggingGuard(LoggingSystem loggingSystem) {
+        return new ParameterLoggingGuard(loggingSystem);
+    }
+}
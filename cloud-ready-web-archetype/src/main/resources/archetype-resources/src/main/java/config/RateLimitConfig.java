@@ -0,0 +1,60 @@
+package ${package}.config;
+
+import ${package}.ratelimit.ClusterQuotaLimiter;
+import ${package}.ratelimit.InMemoryQuotaStore;
+import ${package}.ratelimit.QuotaStore;
+import ${package}.ratelimit.RateLimitFilter;
+import ${package}.ratelimit.RedisQuotaStore;
+import ${package}.ratelimit.StripedTokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private final AppProperties appProperties;
+
+    public RateLimitConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Bean
+    public StripedTokenBucket rateLimitBucket() {
+        AppProperties.RateLimit rateLimit = appProperties.getRateLimit();
+        return new StripedTokenBucket(rateLimit.getCapacity(), rateLimit.getRefillPerSecond(),
+            rateLimit.getStripes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit.cluster", name = "store", havingValue = "redis", matchIfMissing = true)
+    public QuotaStore redisQuotaStore(StringRedisTemplate redisTemplate) {
+        return new RedisQuotaStore(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit.cluster", name = "store", havingValue = "memory")
+    public QuotaStore inMemoryQuotaStore() {
+        return new InMemoryQuotaStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit.cluster", name = "enabled", havingValue = "true")
+    public ClusterQuotaLimiter clusterQuotaLimiter(QuotaStore quotaStore, MeterRegistry meterRegistry) {
+        AppProperties.RateLimit.Cluster cluster = appProperties.getRateLimit().getCluster();
+        return new ClusterQuotaLimiter(quotaStore, cluster.getLimit(), cluster.getWindow(),
+            cluster.getBatchSize(), meterRegistry);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(StripedTokenBucket rateLimitBucket,
+                                           ObjectProvider<ClusterQuotaLimiter> clusterQuotaLimiter,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimitBucket, clusterQuotaLimiter.getIfAvailable(),
+            appProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package ${package}.config;
+
+import ${package}.readmodel.ReadModelReplication;
+import ${package}.readmodel.UserReadModel;
+import ${package}.repository.UserRepository;
+import ${package}.service.UserService;
+import ${package}.service.impl.ReadModelUserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-model", name = "enabled", havingValue = "true")
+public class ReadModelConfig {
+
+    private final AppProperties appProperties;
+
+    public ReadModelConfig(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Bean
+    public UserReadModel userReadModel(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        return new UserReadModel(userRepository, transactionManager, appProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public UserService readModelUserService(@Qualifier("userServiceImpl") UserService userService,
+                                            UserReadModel userReadModel) {
+        return new ReadModelUserService(userService, userReadModel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.read-model", name = "replication", havingValue = "true", matchIfMissing = true)
+    public ReadModelReplication readModelReplication(StringRedisTemplate redisTemplate, UserReadModel userReadModel) {
+        return new ReadModelReplication(redisTemplate, userReadModel, appProperties.getReadModel().getChannel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.read-model", name = "replication", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer readModelListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    ReadModelReplication readModelReplication) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(readModelReplication, new ChannelTopic(appProperties.getReadModel().getChannel()));
+        return container;
+    }
+}
@@ -1,20 +1,39 @@
 package ${package}.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
+import ${package}.security.CachingJwtAuthenticationProvider;
 import ${package}.security.JwtAuthenticationEntryPoint;
+import ${package}.security.RoleAuthorities;
+import ${package}.security.StaticHeadersFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -31,42 +50,95 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationManager jwtAuthenticationManager)
+            throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
-            .headers(headers -> headers
-                .frameOptions().deny()
-                .contentTypeOptions().and()
-                .httpStrictTransportSecurity(hstsConfig -> hstsConfig
-                    .requestMatcher(request -> request.isSecure())
-                    .includeSubdomains(true)
-                    .maxAgeInSeconds(31536000))
-                .referrerPolicy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN)
-                .and())
+            .headers(this::configureHeaders)
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/public/**", "/actuator/health/**", "/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated())
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())));
+                .jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager)));
 
         return http.build();
     }
 
+    /**
+     * Public, probe and static paths bypass the security filters entirely: they need no
+     * authentication, and under frequent kubelet probes the full chain costs measurable CPU. Only
+     * CORS is kept so browsers can still call public endpoints cross-origin.
+     */
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
-        authoritiesConverter.setAuthorityPrefix("ROLE_");
-        authoritiesConverter.setAuthoritiesClaimName("roles");
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(prefix = "app.security.fast-lane", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain fastLaneFilterChain() {
+        return new DefaultSecurityFilterChain(fastLaneMatcher(), new CorsFilter(corsConfigurationSource()));
+    }
 
+    @Bean
+    public FilterRegistrationBean<StaticHeadersFilter> staticHeadersFilter() {
+        AppProperties.Security.FastLane fastLane = appProperties.getSecurity().getFastLane();
+        RequestMatcher matcher = fastLane.isEnabled() ? fastLaneMatcher() : request -> false;
+        FilterRegistrationBean<StaticHeadersFilter> registration =
+            new FilterRegistrationBean<>(new StaticHeadersFilter(matcher, fastLane.isPrecomputedHeaders()));
+        // Ahead of Spring Security, so responses it rejects carry the headers too
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter authenticationConverter = new JwtAuthenticationConverter();
-        authenticationConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        authenticationConverter.setJwtGrantedAuthoritiesConverter(new RoleAuthorities());
         return authenticationConverter;
     }
 
+    /**
+     * Bearer token authentication shared by the HTTP filter chain and the gRPC server. With
+     * {@code app.jwt-cache.enabled} verified tokens are remembered until they expire.
+     */
+    @Bean
+    public AuthenticationManager jwtAuthenticationManager(JwtDecoder jwtDecoder, MeterRegistry meterRegistry) {
+        AppProperties.JwtCache cache = appProperties.getJwtCache();
+        AuthenticationProvider provider;
+        if (cache.isEnabled()) {
+            provider = new CachingJwtAuthenticationProvider(jwtDecoder, jwtAuthenticationConverter(),
+                cache.getMaximumSize(), cache.getMaxTtl(), cache.getFailureTtl(), meterRegistry);
+        } else {
+            JwtAuthenticationProvider jwtProvider = new JwtAuthenticationProvider(jwtDecoder);
+            jwtProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter());
+            provider = jwtProvider;
+        }
+        return new ProviderManager(provider);
+    }
+
+    private void configureHeaders(HeadersConfigurer<HttpSecurity> headers) {
+        if (appProperties.getSecurity().getFastLane().isPrecomputedHeaders()) {
+            // StaticHeadersFilter writes the same headers from precomputed values
+            headers.disable();
+            return;
+        }
+        headers
+            .frameOptions(frameOptions -> frameOptions.deny())
+            .httpStrictTransportSecurity(hstsConfig -> hstsConfig
+                .requestMatcher(request -> request.isSecure())
+                .includeSubDomains(true)
+                .maxAgeInSeconds(31536000))
+            .referrerPolicy(referrer -> referrer
+                .policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN));
+    }
+
+    private RequestMatcher fastLaneMatcher() {
+        return new OrRequestMatcher(appProperties.getSecurity().getFastLane().getPaths().stream()
+            .map(path -> (RequestMatcher) new AntPathRequestMatcher(path))
+            .toList());
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
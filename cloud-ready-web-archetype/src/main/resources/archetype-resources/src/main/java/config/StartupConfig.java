@@ -0,0 +1,33 @@
+package ${package}.config;
+
+import ${package}.startup.DeferredBeans;
+import ${package}.startup.SlowestBeansEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Runs before {@link AppProperties} is bound, so the bean lists are read straight from the
+     * environment.
+     */
+    @Bean
+    public static DeferredBeans deferredBeans(Environment environment) {
+        AppProperties.Startup startup = Binder.get(environment)
+            .bind("app.startup", AppProperties.Startup.class)
+            .orElseGet(AppProperties.Startup::new);
+        return new DeferredBeans(startup.getLazyBeans(), startup.getBackgroundBeans());
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = SlowestBeansEndpoint.class)
+    public SlowestBeansEndpoint slowestBeansEndpoint(ApplicationStartup applicationStartup,
+                                                     AppProperties appProperties) {
+        return new SlowestBeansEndpoint(applicationStartup, appProperties.getStartup().getSlowestBeans());
+    }
+}
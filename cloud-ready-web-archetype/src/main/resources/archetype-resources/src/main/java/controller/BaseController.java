@@ -19,12 +19,8 @@ public abstract class BaseController {
             Math.min(size, appProperties.getPagination().getMaxPageSize()) : 
             appProperties.getPagination().getDefaultPageSize();
 
-        if (sort != null && !sort.isEmpty()) {
-            Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? 
-                Sort.Direction.DESC : Sort.Direction.ASC;
-            return PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sort));
-        }
-
-        return PageRequest.of(pageNumber, pageSize);
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ?
+            Sort.Direction.DESC : Sort.Direction.ASC;
+        return PageRequest.of(pageNumber, pageSize, SortRegistry.resolve(sort, sortDirection));
     }
 }
\ No newline at end of file
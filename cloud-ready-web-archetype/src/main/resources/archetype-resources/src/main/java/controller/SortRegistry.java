@@ -0,0 +1,71 @@
+package ${package}.controller;
+
+import ${package}.exception.InvalidSortException;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sort fields that an index can serve. Clients may use the property name, the column name
+ * or a listed alias; anything else is rejected rather than turned into a full-table sort.
+ * Non-unique fields get {@code id} as a tiebreaker in the same direction, matching the
+ * {@code (column, id)} indexes from {@code V2__sort_and_partial_indexes.sql}, so pages are
+ * stable and read in index order. {@code username} and {@code email} sort on their lower-cased
+ * columns, whose unique indexes from {@code V3__case_insensitive_logins.sql} are the only ones
+ * left on those fields, so they order case-insensitively.
+ */
+public final class SortRegistry {
+
+    private record SortField(String name, String property, boolean unique) {
+
+        SortField(String property, boolean unique) {
+            this(property, property, unique);
+        }
+    }
+
+    private static final SortField ID = new SortField("id", true);
+    private static final Map<String, SortField> FIELDS = new LinkedHashMap<>();
+
+    static {
+        register(ID);
+        register(new SortField("username", "usernameLower", true), "username_lower");
+        register(new SortField("email", "emailLower", true), "email_lower");
+        register(new SortField("createdAt", false), "created_at", "created");
+        register(new SortField("updatedAt", false), "updated_at", "updated");
+        register(new SortField("lastName", false), "last_name", "name", "fullName");
+    }
+
+    private SortRegistry() {
+    }
+
+    /**
+     * Resolves a client sort to an index-backed {@link Sort}. A blank field sorts by id.
+     *
+     * @throws InvalidSortException if no index serves the field
+     */
+    public static Sort resolve(String field, Sort.Direction direction) {
+        SortField sortField = ID;
+        if (field != null && !field.isBlank()) {
+            sortField = FIELDS.get(field.trim().toLowerCase(Locale.ROOT));
+            if (sortField == null) {
+                throw new InvalidSortException("Unsupported sort field '" + field + "', expected one of " + fields());
+            }
+        }
+        Sort sort = Sort.by(direction, sortField.property());
+        return sortField.unique() ? sort : sort.and(Sort.by(direction, ID.property()));
+    }
+
+    public static List<String> fields() {
+        return FIELDS.values().stream().map(SortField::name).distinct().toList();
+    }
+
+    private static void register(SortField field, String... aliases) {
+        FIELDS.put(field.name().toLowerCase(Locale.ROOT), field);
+        for (String alias : aliases) {
+            FIELDS.put(alias.toLowerCase(Locale.ROOT), field);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package ${package}.controller;
 
+import ${package}.bulkhead.BulkheadType;
+import ${package}.bulkhead.Bulkheads;
+import ${package}.changefeed.UserChangeStream;
 import ${package}.config.AppProperties;
+import ${package}.domain.Role;
+import ${package}.dto.CursorPageDto;
+import ${package}.dto.UserChangeBatchDto;
 import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
 import ${package}.dto.PageDto;
+import ${package}.dto.UserSuggestionDto;
+import ${package}.exception.InvalidParameterException;
+import ${package}.filter.UserFilter;
 import ${package}.service.UserService;
+import ${package}.typeahead.UserTypeaheadIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,12 +25,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/users")
@@ -28,33 +46,172 @@ import java.net.URI;
 public class UserController extends BaseController {
 
     private final UserService userService;
+    private final Bulkheads bulkheads;
+    private final UserTypeaheadIndex typeaheadIndex;
+    private final UserChangeStream changeStream;
 
-    public UserController(UserService userService, AppProperties appProperties) {
+    public UserController(UserService userService, Bulkheads bulkheads, UserTypeaheadIndex typeaheadIndex,
+                          UserChangeStream changeStream, AppProperties appProperties) {
         super(appProperties);
         this.userService = userService;
+        this.bulkheads = bulkheads;
+        this.typeaheadIndex = typeaheadIndex;
+        this.changeStream = changeStream;
     }
 
     @GetMapping
     @Operation(summary = "Get all users", description = "Retrieve a paginated list of users")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved users"),
-        @ApiResponse(responseCode = "403", description = "Access denied")
+        @ApiResponse(responseCode = "400", description = "Filters combined with a search term, or an unknown field"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "503", description = "Full-text or filter index is still loading")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<PageDto<UserDto>> getAllUsers(
+    public CompletableFuture<ResponseEntity<PageDto<UserDto>>> getAllUsers(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "Page size") @RequestParam(required = false) Integer size,
             @Parameter(description = "Sort field") @RequestParam(required = false) String sort,
             @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String direction,
-            @Parameter(description = "Search term") @RequestParam(required = false) String search) {
+            @Parameter(description = "Search term") @RequestParam(required = false) String search,
+            @Parameter(description = "Search mode (contains/fulltext); fulltext is ranked by relevance and ignores sort")
+            @RequestParam(defaultValue = "contains") String mode,
+            @Parameter(description = "Only users with these roles") @RequestParam(required = false) Set<Role> role,
+            @Parameter(description = "Role match (any/all)") @RequestParam(defaultValue = "any") String roleMatch,
+            @Parameter(description = "Exclude users with any of these roles") @RequestParam(required = false) Set<Role> excludeRole,
+            @Parameter(description = "Only enabled (true) or disabled (false) users") @RequestParam(required = false) Boolean enabled,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username (default: all)")
+            @RequestParam(required = false) String fields) {
 
         Pageable pageable = createPageable(page, size, sort, direction);
+        Set<UserField> selected = UserField.parse(fields);
+        boolean hasSearch = search != null && !search.trim().isEmpty();
+        UserFilter filter = new UserFilter(role, "all".equalsIgnoreCase(roleMatch), excludeRole, enabled);
+        if (hasSearch && !filter.isEmpty()) {
+            // Filters are answered from the bitmap index, which cannot be combined with a text search
+            throw new InvalidParameterException("Role and enabled filters cannot be combined with a search");
+        }
         
-        PageDto<UserDto> users = search != null && !search.trim().isEmpty() ?
-            userService.findBySearchTerm(search.trim(), pageable) :
-            userService.findAll(pageable);
+        return bulkheads.supply(BulkheadType.SEARCH, () -> {
+            PageDto<UserDto> users;
+            if (!filter.isEmpty()) {
+                users = userService.findByFilter(filter, pageable).map(user -> UserField.project(user, selected));
+            } else if (hasSearch && "fulltext".equalsIgnoreCase(mode)) {
+                users = userService.findByFullText(search.trim(), pageable).map(user -> UserField.project(user, selected));
+            } else if (!UserField.isAll(selected)) {
+                // Only the selected columns are read, and user_roles only when roles are selected
+                users = userService.findProjected(hasSearch ? search.trim() : null, selected, pageable);
+            } else if (hasSearch) {
+                users = userService.findBySearchTerm(search.trim(), pageable);
+            } else {
+                users = userService.findAll(pageable);
+            }
+
+            return ResponseEntity.ok(users);
+        });
+    }
+
+    @GetMapping("/typeahead")
+    @Operation(summary = "Suggest users", description = "Suggest users by username or email prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions returned"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "503", description = "Index is still loading")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<UserSuggestionDto>> suggestUsers(
+            @Parameter(description = "Username or email prefix") @RequestParam String prefix,
+            @Parameter(description = "Field to match (username/email)") @RequestParam(defaultValue = "username") String field,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(required = false) Integer limit) {
+
+        // Served from memory, so it runs inline instead of on a bulkhead
+        if (!typeaheadIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        UserTypeaheadIndex.Field indexField = "email".equalsIgnoreCase(field) ?
+            UserTypeaheadIndex.Field.EMAIL : UserTypeaheadIndex.Field.USERNAME;
+        return ResponseEntity.ok(typeaheadIndex.suggest(indexField, prefix, limit));
+    }
+
+    @GetMapping("/recent")
+    @Operation(summary = "Recent users feed",
+               description = "Newest users first by creation or last update time, paginated with an opaque cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed page returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, time range, timestamp or field"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<CursorPageDto<UserDto>>> getRecentUsers(
+            @Parameter(description = "Timestamp to order by (created/updated)") @RequestParam(defaultValue = "created") String by,
+            @Parameter(description = "Only users at or after this time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only users at or before this time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username (default: all)")
+            @RequestParam(required = false) String fields) {
+
+        Set<UserField> selected = UserField.parse(fields);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidParameterException("'from' must not be after 'to'");
+        }
+        UserService.FeedField field;
+        if ("created".equalsIgnoreCase(by)) {
+            field = UserService.FeedField.CREATED;
+        } else if ("updated".equalsIgnoreCase(by)) {
+            field = UserService.FeedField.UPDATED;
+        } else {
+            throw new InvalidParameterException("Unsupported timestamp '" + by + "', expected created or updated");
+        }
+        int pageSize = createPageable(0, limit, null, null).getPageSize();
+        return bulkheads.supply(BulkheadType.SEARCH,
+            () -> {
+                CursorPageDto<UserDto> recent = userService.findRecent(field, from, to, cursor, pageSize);
+                recent.setContent(recent.getContent().stream().map(user -> UserField.project(user, selected)).toList());
+                return ResponseEntity.ok(recent);
+            });
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "User change feed",
+               description = "Users created, updated or deleted after a change token, in commit order. " +
+                   "Omit the token to receive every live user.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid change token"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "410", description = "Token predates purged deletes; resync from the start")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<UserChangeBatchDto>> getUserChanges(
+            @Parameter(description = "Change token from a previous response") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(required = false) Integer limit) {
+
+        int maxBatchSize = appProperties.getChangeFeed().getMaxBatchSize();
+        int batchSize = limit != null ? Math.max(1, Math.min(limit, maxBatchSize)) : maxBatchSize;
+        return bulkheads.supply(BulkheadType.SEARCH,
+            () -> ResponseEntity.ok(userService.findChanges(since, batchSize)));
+    }
+
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream user changes",
+               description = "Server-Sent Events stream of the change feed, pushed as writes commit")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "400", description = "Invalid change token"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "410", description = "Token predates purged deletes; resync from the start"),
+        @ApiResponse(responseCode = "503", description = "Too many subscribers")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamUserChanges(
+            @Parameter(description = "Change token to start after") @RequestParam(required = false) String since,
+            @Parameter(description = "Set by EventSource clients on reconnect; takes precedence over since")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
-        return ResponseEntity.ok(users);
+        return changeStream.subscribe(lastEventId != null ? lastEventId : since);
     }
 
     @GetMapping("/{id}")
@@ -65,12 +222,16 @@ public class UserController extends BaseController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ADMIN') or authentication.name == @userService.findById(#id).orElse(new ${package}.dto.UserDto()).username")
-    public ResponseEntity<UserDto> getUserById(
-            @Parameter(description = "User ID") @PathVariable Long id) {
-        
-        return userService.findById(id)
-            .map(user -> ResponseEntity.ok(user))
-            .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserDto>> getUserById(
+            @Parameter(description = "User ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username (default: all)")
+            @RequestParam(required = false) String fields) {
+
+        // Point lookups are usually cache hits, so the full user is loaded and trimmed here
+        Set<UserField> selected = UserField.parse(fields);
+        return bulkheads.supply(BulkheadType.POINT, () -> userService.findById(id)
+            .map(user -> ResponseEntity.ok(UserField.project(user, selected)))
+            .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/username/{username}")
@@ -81,12 +242,15 @@ public class UserController extends BaseController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ADMIN') or authentication.name == #username")
-    public ResponseEntity<UserDto> getUserByUsername(
-            @Parameter(description = "Username") @PathVariable String username) {
-        
-        return userService.findByUsername(username)
-            .map(user -> ResponseEntity.ok(user))
-            .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserDto>> getUserByUsername(
+            @Parameter(description = "Username") @PathVariable String username,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username (default: all)")
+            @RequestParam(required = false) String fields) {
+
+        Set<UserField> selected = UserField.parse(fields);
+        return bulkheads.supply(BulkheadType.POINT, () -> userService.findByUsername(username)
+            .map(user -> ResponseEntity.ok(UserField.project(user, selected)))
+            .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
@@ -98,14 +262,16 @@ public class UserController extends BaseController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserDto> createUser(
+    public CompletableFuture<ResponseEntity<UserDto>> createUser(
             @Parameter(description = "User data") @Valid @RequestBody UserDto userDto) {
         
-        UserDto createdUser = userService.create(userDto);
-        
-        return ResponseEntity.created(
-            URI.create("/users/" + createdUser.getId())
-        ).body(createdUser);
+        return bulkheads.supply(BulkheadType.POINT, () -> {
+            UserDto createdUser = userService.create(userDto);
+
+            return ResponseEntity.created(
+                URI.create("/users/" + createdUser.getId())
+            ).body(createdUser);
+        });
     }
 
     @PutMapping("/{id}")
@@ -117,12 +283,11 @@ public class UserController extends BaseController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ADMIN') or authentication.name == @userService.findById(#id).orElse(new ${package}.dto.UserDto()).username")
-    public ResponseEntity<UserDto> updateUser(
+    public CompletableFuture<ResponseEntity<UserDto>> updateUser(
             @Parameter(description = "User ID") @PathVariable Long id,
             @Parameter(description = "Updated user data") @Valid @RequestBody UserDto userDto) {
         
-        UserDto updatedUser = userService.update(id, userDto);
-        return ResponseEntity.ok(updatedUser);
+        return bulkheads.supply(BulkheadType.POINT, () -> ResponseEntity.ok(userService.update(id, userDto)));
     }
 
     @DeleteMapping("/{id}")
@@ -133,30 +298,30 @@ public class UserController extends BaseController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteUser(
+    public CompletableFuture<ResponseEntity<Void>> deleteUser(
             @Parameter(description = "User ID") @PathVariable Long id) {
         
-        userService.delete(id);
-        return ResponseEntity.noContent().build();
+        return bulkheads.supply(BulkheadType.POINT, () -> {
+            userService.delete(id);
+            return ResponseEntity.noContent().<Void>build();
+        });
     }
 
     @GetMapping("/exists/username/{username}")
     @Operation(summary = "Check username availability", description = "Check if username is available")
     @ApiResponse(responseCode = "200", description = "Check completed")
-    public ResponseEntity<Boolean> checkUsernameExists(
+    public CompletableFuture<ResponseEntity<Boolean>> checkUsernameExists(
             @Parameter(description = "Username to check") @PathVariable String username) {
         
-        boolean exists = userService.existsByUsername(username);
-        return ResponseEntity.ok(exists);
+        return bulkheads.supply(BulkheadType.POINT, () -> ResponseEntity.ok(userService.existsByUsername(username)));
     }
 
     @GetMapping("/exists/email/{email}")
     @Operation(summary = "Check email availability", description = "Check if email is available")
     @ApiResponse(responseCode = "200", description = "Check completed")
-    public ResponseEntity<Boolean> checkEmailExists(
+    public CompletableFuture<ResponseEntity<Boolean>> checkEmailExists(
             @Parameter(description = "Email to check") @PathVariable String email) {
         
-        boolean exists = userService.existsByEmail(email);
-        return ResponseEntity.ok(exists);
+        return bulkheads.supply(BulkheadType.POINT, () -> ResponseEntity.ok(userService.existsByEmail(email)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package ${package}.crac;
+
+import ${package}.startup.IndexBuilds;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Takes a CRaC checkpoint once the application is ready and warmed up, so containers restored
+ * from it start with classes loaded, hot paths compiled and startup caches filled. Spring's
+ * {@code spring.context.checkpoint=onRefresh} checkpoints before the first request and so
+ * captures none of that.
+ *
+ * <p>The checkpoint waits for the background index builds, see {@link IndexBuilds}, so restored
+ * containers are ready at once. The warm-up sends {@code warmup-requests} requests over
+ * loopback, round robin over {@code warmup-paths}. When {@code warmup-token} is set it goes out
+ * as bearer token, so user lookups, token verification and the caches are warmed rather than
+ * the 401 path. Each request uses its own connection, so no socket is left open for the
+ * checkpoint. Spring then stops every running {@link org.springframework.context.Lifecycle}
+ * bean before the checkpoint and starts them again after restore. That closes and reopens the
+ * web and gRPC servers, the database pools, the Redis connections and the JWK refresh. On a JVM
+ * without CRaC the checkpoint fails with a logged error and the application keeps running.
+ */
+public class CheckpointOnReady {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointOnReady.class);
+    private static final int TIMEOUT_MILLIS = 10_000;
+    private static final Duration INDEX_BUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    private final IndexBuilds indexBuilds;
+    private final int warmupRequests;
+    private final List<String> warmupPaths;
+    private final String authorization;
+    private final String contextPath;
+
+    public CheckpointOnReady(IndexBuilds indexBuilds, int warmupRequests, List<String> warmupPaths,
+                             String warmupToken, String contextPath) {
+        this.indexBuilds = indexBuilds;
+        this.warmupRequests = warmupRequests;
+        this.warmupPaths = List.copyOf(warmupPaths);
+        this.authorization = warmupToken != null && !warmupToken.isBlank()
+            ? "Authorization: Bearer " + warmupToken.trim() + "\r\n"
+            : "";
+        this.contextPath = contextPath;
+    }
+
+    /** Runs after every other ready listener, then waits until the indexes are built. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void checkpoint(ApplicationReadyEvent event) {
+        try {
+            if (!indexBuilds.awaitBuilt(INDEX_BUILD_TIMEOUT)) {
+                logger.warn("Indexes still building after {}, checkpointing anyway", INDEX_BUILD_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (event.getApplicationContext() instanceof WebServerApplicationContext web) {
+            warmUp(web.getWebServer().getPort());
+        }
+        logger.info("Checkpointing after {} warm-up requests", warmupRequests);
+        try {
+            Core.checkpointRestore();
+            logger.info("Restored from checkpoint");
+        } catch (CheckpointException | RestoreException | UnsupportedOperationException e) {
+            logger.error("Checkpoint failed, continuing without one", e);
+        }
+    }
+
+    private void warmUp(int port) {
+        long started = System.nanoTime();
+        int failed = 0;
+        for (int i = 0; i < warmupRequests && !warmupPaths.isEmpty(); i++) {
+            try {
+                get(port, contextPath + warmupPaths.get(i % warmupPaths.size()));
+            } catch (IOException e) {
+                failed++;
+            }
+        }
+        logger.info("Warm-up sent {} requests in {} ms, {} failed", warmupRequests,
+            (System.nanoTime() - started) / 1_000_000, failed);
+    }
+
+    private void get(int port, String path) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\n" + authorization
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            try (InputStream in = socket.getInputStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+    }
+}
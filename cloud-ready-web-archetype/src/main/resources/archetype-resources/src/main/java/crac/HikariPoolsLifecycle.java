@@ -0,0 +1,89 @@
+package ${package}.crac;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.Lifecycle;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Empties the bulkhead connection pools before a checkpoint and refills them after restore.
+ * Stopping suspends each pool, so callers wait instead of opening new connections, and evicts
+ * its connections. Idle ones close at once and busy ones close when they are returned.
+ * Starting resumes the pools, which reconnect on demand. A plain Hikari data source without
+ * bulkheads is handled by Spring Boot's own {@code HikariCheckpointRestoreLifecycle}.
+ *
+ * <p>The pools must be created with {@code allowPoolSuspension}. They are open from the start,
+ * so this lifecycle starts out running and is only ever stopped by a checkpoint or on shutdown.
+ */
+public class HikariPoolsLifecycle implements Lifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolsLifecycle.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<HikariDataSource> pools;
+    private volatile boolean running = true;
+
+    public HikariPoolsLifecycle(DataSource dataSource) {
+        this.pools = dataSource instanceof AbstractRoutingDataSource routing
+            ? routing.getResolvedDataSources().values().stream()
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .toList()
+            : List.of();
+    }
+
+    @Override
+    public void start() {
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean != null) {
+                mxBean.resumePool();
+            }
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean != null) {
+                mxBean.suspendPool();
+                mxBean.softEvictConnections();
+            }
+        }
+        awaitClosed();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void awaitClosed() {
+        long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            while (mxBean != null && mxBean.getTotalConnections() > 0) {
+                if (System.nanoTime() - deadline > 0) {
+                    logger.warn("{} still has {} open connections after {}", pool.getPoolName(),
+                        mxBean.getTotalConnections(), CLOSE_TIMEOUT);
+                    break;
+                }
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ${package}.deadline;
+
+import ${package}.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public final class Deadline {
+
+    private final String endpoint;
+    private final long expiresAtNanos;
+
+    private Deadline(String endpoint, long expiresAtNanos) {
+        this.endpoint = endpoint;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(String endpoint, Duration timeout) {
+        return new Deadline(endpoint, System.nanoTime() + timeout.toNanos());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    public void check() {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded for " + endpoint);
+        }
+    }
+}
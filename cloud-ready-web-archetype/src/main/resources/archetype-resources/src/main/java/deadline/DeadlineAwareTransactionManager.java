@@ -0,0 +1,30 @@
+package ${package}.deadline;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Caps each transaction's timeout at the remaining request budget. Hibernate turns the
+ * transaction timeout into a JDBC query timeout on every statement it issues, so the
+ * database stops working on requests whose caller has already given up.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null) {
+            return timeout;
+        }
+        deadline.check();
+        // JDBC query timeouts have second granularity; round up so we never cut a request short
+        int remainingSeconds = (int) Math.max(1, (deadline.remainingMillis() + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
@@ -0,0 +1,24 @@
+package ${package}.deadline;
+
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {}
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Deadline deadline) {
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
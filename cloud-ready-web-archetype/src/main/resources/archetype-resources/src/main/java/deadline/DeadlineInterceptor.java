@@ -0,0 +1,78 @@
+package ${package}.deadline;
+
+import ${package}.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Starts the request deadline from the timeout header (milliseconds) or the per-endpoint
+ * default, and counts requests that ended with 504 because the deadline passed.
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String DEADLINE_ATTRIBUTE = DeadlineInterceptor.class.getName() + ".deadline";
+
+    private final AppProperties.Deadline config;
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineInterceptor(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.config = appProperties.getDeadline();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        String endpoint = method.getMethod().getName();
+        Deadline deadline = Deadline.after(endpoint, resolveTimeout(request, endpoint));
+        request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        DeadlineContext.set(deadline);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        DeadlineContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        DeadlineContext.clear();
+        Object deadline = request.getAttribute(DEADLINE_ATTRIBUTE);
+        if (deadline instanceof Deadline requestDeadline && response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            Counter.builder("app.deadline.exceeded")
+                .description("Requests that ran out of their deadline")
+                .tag("endpoint", requestDeadline.getEndpoint())
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request, String endpoint) {
+        Duration timeout = config.getEndpoints().getOrDefault(endpoint, config.getDefaultTimeout());
+        String header = request.getHeader(config.getHeader());
+        if (header != null) {
+            try {
+                Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+                if (!requested.isNegative() && requested.compareTo(timeout) < 0) {
+                    timeout = requested;
+                }
+            } catch (NumberFormatException ignored) {
+                // Malformed header: fall back to the endpoint default
+            }
+        }
+        return timeout.compareTo(config.getMaxTimeout()) > 0 ? config.getMaxTimeout() : timeout;
+    }
+}
@@ -0,0 +1,44 @@
+package ${package}.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row state of the {@link UserChange} log. {@code purgedThrough} is the highest
+ * transaction id of a tombstone removed so far; tokens at or below it may have missed deletes.
+ * Only the purge locks the row; user writes never touch it.
+ */
+@Entity
+@Table(name = "user_change_feed_state")
+public class ChangeFeedState {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "purged_through", nullable = false)
+    private long purgedThrough;
+
+    // Constructors
+    protected ChangeFeedState() {}
+
+    public static ChangeFeedState initial() {
+        ChangeFeedState state = new ChangeFeedState();
+        state.id = ID;
+        return state;
+    }
+
+    // Getters and setters
+    public Integer getId() {
+        return id;
+    }
+
+    public long getPurgedThrough() {
+        return purgedThrough;
+    }
+
+    public void setPurgedThrough(long purgedThrough) {
+        this.purgedThrough = purgedThrough;
+    }
+}
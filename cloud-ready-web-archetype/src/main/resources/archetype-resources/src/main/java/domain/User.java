@@ -4,29 +4,40 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.GeneratedColumn;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
 @Table(name = "users",
     uniqueConstraints = {
-        @UniqueConstraint(columnNames = "username"),
-        @UniqueConstraint(columnNames = "email")
+        @UniqueConstraint(columnNames = "username_lower"),
+        @UniqueConstraint(columnNames = "email_lower")
     })
 public class User extends BaseEntity {
 
     @NotBlank
     @Size(max = 50)
-    @Column(name = "username", nullable = false, unique = true)
+    @Column(name = "username", nullable = false)
     private String username;
 
+    // Lower-cased copy maintained by the database; unique, and the key for all lookups
+    @GeneratedColumn("lower(username)")
+    @Column(name = "username_lower", length = 50, insertable = false, updatable = false)
+    private String usernameLower;
+
     @NotBlank
     @Size(max = 100)
     @Email
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
+    @GeneratedColumn("lower(email)")
+    @Column(name = "email_lower", length = 100, insertable = false, updatable = false)
+    private String emailLower;
+
     @NotBlank
     @Size(max = 100)
     @Column(name = "first_name", nullable = false)
@@ -65,6 +76,10 @@ public class User extends BaseEntity {
         this.username = username;
     }
 
+    public String getUsernameLower() {
+        return usernameLower;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -73,6 +88,10 @@ public class User extends BaseEntity {
         this.email = email;
     }
 
+    public String getEmailLower() {
+        return emailLower;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -117,6 +136,13 @@ public class User extends BaseEntity {
         return firstName + " " + lastName;
     }
 
+    /**
+     * Normalizes a username or email the same way as the {@code *_lower} columns.
+     */
+    public static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
     @Override
     public String toString() {
         return "User{" +
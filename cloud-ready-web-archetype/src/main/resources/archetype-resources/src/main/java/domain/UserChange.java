@@ -0,0 +1,71 @@
+package ${package}.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Latest change to one user in the change feed. The log is compacted: each user has a single
+ * row that moves to the id of the last transaction that wrote the user, and a delete leaves a
+ * tombstone row until it is purged. Consumers that follow the log therefore sync in O(changes).
+ */
+@Entity
+@Table(name = "user_changes",
+    indexes = @Index(name = "idx_user_changes_txid", columnList = "txid, user_id"))
+public class UserChange {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "txid", nullable = false)
+    private long txid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private Type type;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    protected UserChange() {}
+
+    public UserChange(Long userId) {
+        this.userId = userId;
+    }
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTxid() {
+        return txid;
+    }
+
+    public void setTxid(long txid) {
+        this.txid = txid;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Keyset-paginated response wrapper")
+public class CursorPageDto<T> {
+
+    @Schema(description = "List of items")
+    private List<T> content;
+
+    @Schema(description = "Number of items requested", example = "50")
+    private int size;
+
+    @Schema(description = "Whether more items follow")
+    private boolean hasMore;
+
+    @Schema(description = "Opaque cursor for the next page; absent on the last page")
+    private String nextCursor;
+
+    // Constructors
+    public CursorPageDto() {}
+
+    public CursorPageDto(List<T> content, int size, boolean hasMore, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -72,6 +72,14 @@ public class PageDto<T> {
         );
     }
 
+    // Copy with mapped content and the same paging metadata
+    public <U> PageDto<U> map(Function<T, U> mapper) {
+        List<U> mapped = content.stream()
+            .map(mapper)
+            .collect(Collectors.toList());
+        return new PageDto<>(mapped, page, size, totalElements, totalPages, first, last, numberOfElements, empty);
+    }
+
     // Getters and setters
     public List<T> getContent() { return content; }
     public void setContent(List<T> content) { this.content = content; }
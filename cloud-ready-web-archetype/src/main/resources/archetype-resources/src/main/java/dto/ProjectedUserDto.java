@@ -0,0 +1,11 @@
+package ${package}.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A {@link UserDto} holding only the properties a {@code fields=} selection asked for. The
+ * unselected properties are null and, unlike on a full {@link UserDto}, left out of the response.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectedUserDto extends UserDto {
+}
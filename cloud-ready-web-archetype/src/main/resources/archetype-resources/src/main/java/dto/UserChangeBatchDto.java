@@ -0,0 +1,37 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch of user changes in commit order")
+public class UserChangeBatchDto {
+
+    @Schema(description = "Changes after the requested token")
+    private List<UserChangeDto> changes;
+
+    @Schema(description = "Token to pass as since= on the next request", example = "1024")
+    private String nextToken;
+
+    @Schema(description = "Whether more changes are available right away")
+    private boolean hasMore;
+
+    // Constructors
+    public UserChangeBatchDto() {}
+
+    public UserChangeBatchDto(List<UserChangeDto> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and setters
+    public List<UserChangeDto> getChanges() { return changes; }
+    public void setChanges(List<UserChangeDto> changes) { this.changes = changes; }
+
+    public String getNextToken() { return nextToken; }
+    public void setNextToken(String nextToken) { this.nextToken = nextToken; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
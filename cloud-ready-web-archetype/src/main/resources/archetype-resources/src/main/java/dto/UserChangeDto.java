@@ -0,0 +1,43 @@
+package ${package}.dto;
+
+import ${package}.domain.UserChange;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One entry of the user change feed")
+public class UserChangeDto {
+
+    @Schema(description = "Change token; pass as since= to resume after this entry", example = "1024")
+    private String token;
+
+    @Schema(description = "UPSERTED for creates and updates, DELETED for tombstones")
+    private UserChange.Type type;
+
+    @Schema(description = "User ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Current state of the user; absent for tombstones")
+    private UserDto user;
+
+    // Constructors
+    public UserChangeDto() {}
+
+    public UserChangeDto(String token, UserChange.Type type, Long id, UserDto user) {
+        this.token = token;
+        this.type = type;
+        this.id = id;
+        this.user = user;
+    }
+
+    // Getters and setters
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public UserChange.Type getType() { return type; }
+    public void setType(UserChange.Type type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UserDto getUser() { return user; }
+    public void setUser(UserDto user) { this.user = user; }
+}
@@ -0,0 +1,109 @@
+package ${package}.dto;
+
+import ${package}.exception.InvalidFieldException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UserDto} properties that a {@code fields=} parameter can select, with the entity
+ * attributes each one needs. {@code id} is always included. Unselected properties stay null and
+ * are left out of the response, see {@link ProjectedUserDto}.
+ */
+public enum UserField {
+    ID("id", "id"),
+    USERNAME("username", "username"),
+    EMAIL("email", "email"),
+    FIRST_NAME("firstName", "firstName"),
+    LAST_NAME("lastName", "lastName"),
+    FULL_NAME("fullName", "firstName", "lastName"),
+    ENABLED("enabled", "enabled"),
+    // Stored in user_roles, so selecting it costs a second query
+    ROLES("roles"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt");
+
+    private static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+    private static final Map<String, UserField> BY_PROPERTY = Arrays.stream(values())
+        .collect(Collectors.toMap(field -> field.property.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final String property;
+    private final List<String> attributes;
+
+    UserField(String property, String... attributes) {
+        this.property = property;
+        this.attributes = List.of(attributes);
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public List<String> attributes() {
+        return attributes;
+    }
+
+    /**
+     * Parses a comma-separated property list. A missing or blank list selects every field.
+     *
+     * @throws InvalidFieldException for an unknown property
+     */
+    public static Set<UserField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<UserField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            UserField field = BY_PROPERTY.get(trimmed.toLowerCase(Locale.ROOT));
+            if (field == null) {
+                throw new InvalidFieldException("Unknown field '" + trimmed + "', expected any of " +
+                    Arrays.stream(values()).map(UserField::property).toList());
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    public static boolean isAll(Set<UserField> fields) {
+        return fields.size() == ALL.size();
+    }
+
+    /** Stable cache key for a selection, e.g. {@code "id,username"}. */
+    public static String key(Set<UserField> fields) {
+        return isAll(fields) ? "" : fields.stream().map(UserField::property).collect(Collectors.joining(","));
+    }
+
+    /** Copies only the selected properties of {@code user} into a new {@link ProjectedUserDto}. */
+    public static UserDto project(UserDto user, Set<UserField> fields) {
+        if (isAll(fields) || user == null) {
+            return user;
+        }
+        UserDto projected = new ProjectedUserDto();
+        for (UserField field : fields) {
+            switch (field) {
+                case ID -> projected.setId(user.getId());
+                case USERNAME -> projected.setUsername(user.getUsername());
+                case EMAIL -> projected.setEmail(user.getEmail());
+                case FIRST_NAME -> projected.setFirstName(user.getFirstName());
+                case LAST_NAME -> projected.setLastName(user.getLastName());
+                case FULL_NAME -> projected.setFullName(user.getFullName());
+                case ENABLED -> projected.setEnabled(user.getEnabled());
+                case ROLES -> projected.setRoles(user.getRoles());
+                case CREATED_AT -> projected.setCreatedAt(user.getCreatedAt());
+                case UPDATED_AT -> projected.setUpdatedAt(user.getUpdatedAt());
+            }
+        }
+        return projected;
+    }
+}
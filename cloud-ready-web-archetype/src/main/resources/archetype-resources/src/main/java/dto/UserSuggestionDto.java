@@ -0,0 +1,28 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Typeahead suggestion")
+public class UserSuggestionDto {
+
+    @Schema(description = "User ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Matched username or email, lower-cased", example = "johndoe")
+    private String value;
+
+    // Constructors
+    public UserSuggestionDto() {}
+
+    public UserSuggestionDto(Long id, String value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+}
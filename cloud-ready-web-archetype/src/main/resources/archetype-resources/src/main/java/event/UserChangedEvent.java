@@ -0,0 +1,29 @@
+package ${package}.event;
+
+import ${package}.dto.UserDto;
+
+/**
+ * Published by the user service for every write. {@code before} is null for creates and
+ * {@code after} is null for deletes. Listeners that maintain derived state should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record UserChangedEvent(Type type, Long id, UserDto before, UserDto after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static UserChangedEvent created(UserDto after) {
+        return new UserChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static UserChangedEvent updated(UserDto before, UserDto after) {
+        return new UserChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static UserChangedEvent deleted(UserDto before) {
+        return new UserChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+}
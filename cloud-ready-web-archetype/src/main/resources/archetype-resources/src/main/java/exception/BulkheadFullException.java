@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BulkheadFullException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_OVERLOADED");
+
+    public BulkheadFullException(String message) {
+        super(BODY, message);
+    }
+
+    public BulkheadFullException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ChangeFeedExpiredException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.GONE, "CHANGE_FEED_EXPIRED");
+
+    public ChangeFeedExpiredException(String message) {
+        super(BODY, message);
+    }
+
+    public ChangeFeedExpiredException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
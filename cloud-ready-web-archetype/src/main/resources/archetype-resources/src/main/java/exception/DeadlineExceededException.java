@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DeadlineExceededException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED");
+
+    public DeadlineExceededException(String message) {
+        super(BODY, message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
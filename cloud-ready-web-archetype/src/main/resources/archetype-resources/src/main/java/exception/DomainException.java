@@ -0,0 +1,29 @@
+package ${package}.exception;
+
+/**
+ * Base of the application's expected failures. These describe outcomes such as a missing user or
+ * a full bulkhead rather than bugs, so they skip the stack trace capture that dominates the cost
+ * of throwing; the cause, if any, keeps its own. Each carries its pre-encoded {@link ErrorBody},
+ * so the HTTP status and error code are known without any annotation lookup.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final transient ErrorBody body;
+
+    protected DomainException(ErrorBody body, String message) {
+        this(body, message, null);
+    }
+
+    protected DomainException(ErrorBody body, String message, Throwable cause) {
+        super(message, cause, false, false);
+        this.body = body;
+    }
+
+    public ErrorBody getBody() {
+        return body;
+    }
+
+    public int getStatus() {
+        return body.getStatus();
+    }
+}
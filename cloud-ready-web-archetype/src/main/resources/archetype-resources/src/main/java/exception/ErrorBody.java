@@ -0,0 +1,160 @@
+package ${package}.exception;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Error response body in the {@code ErrorResponseDto} JSON layout, encoded once up front. Only
+ * the message (unless fixed), the request path and the timestamp are filled in per response, and
+ * the timestamp text is shared by all responses within the same second, so writing an error costs
+ * a few array copies instead of an {@code ObjectMapper} serialization.
+ */
+public final class ErrorBody {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String STATUS = "\",\"status\":";
+    private static final String PATH = ",\"path\":\"";
+    private static final byte[] TIMESTAMP = bytes("\",\"timestamp\":\"");
+    private static final byte[] TAIL = bytes("\",\"fieldErrors\":null,\"correlationId\":null}");
+
+    private record Second(long epochSecond, byte[] text) {
+    }
+
+    private static volatile Second currentSecond = new Second(Long.MIN_VALUE, new byte[0]);
+
+    private final int status;
+    private final String code;
+    private final byte[] head;
+    private final byte[] middle;
+    private final boolean fixedMessage;
+
+    private ErrorBody(HttpStatus status, String code, String message) {
+        this.status = status.value();
+        this.code = code;
+        this.fixedMessage = message != null;
+        String start = "{\"code\":\"" + escape(code) + "\",\"message\":\"";
+        String statusAndPath = STATUS + status.value() + PATH;
+        if (fixedMessage) {
+            this.head = bytes(start + escape(message) + statusAndPath);
+            this.middle = new byte[0];
+        } else {
+            this.head = bytes(start);
+            this.middle = bytes(statusAndPath);
+        }
+    }
+
+    /** Body whose message is supplied with each response. */
+    public static ErrorBody of(HttpStatus status, String code) {
+        return new ErrorBody(status, code, null);
+    }
+
+    /** Body with a fixed message, encoded entirely up front except for path and timestamp. */
+    public static ErrorBody of(HttpStatus status, String code, String message) {
+        return new ErrorBody(status, code, message);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void write(HttpServletResponse response, String path) throws IOException {
+        write(response, null, path);
+    }
+
+    public void write(HttpServletResponse response, String message, String path) throws IOException {
+        byte[] body = render(message, path);
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public byte[] render(String message, String path) {
+        byte[] messageBytes = fixedMessage ? null : bytes(escape(message != null ? message : ""));
+        byte[] pathBytes = bytes(escape(path != null ? path : ""));
+        byte[] timestamp = timestamp();
+
+        int length = head.length + pathBytes.length + TIMESTAMP.length + timestamp.length + TAIL.length;
+        if (!fixedMessage) {
+            length += messageBytes.length + middle.length;
+        }
+        byte[] body = new byte[length];
+        int offset = copy(head, body, 0);
+        if (!fixedMessage) {
+            offset = copy(messageBytes, body, offset);
+            offset = copy(middle, body, offset);
+        }
+        offset = copy(pathBytes, body, offset);
+        offset = copy(TIMESTAMP, body, offset);
+        offset = copy(timestamp, body, offset);
+        copy(TAIL, body, offset);
+        return body;
+    }
+
+    private static byte[] timestamp() {
+        long now = System.currentTimeMillis() / 1000;
+        Second second = currentSecond;
+        if (second.epochSecond() != now) {
+            String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(now), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMAT);
+            second = new Second(now, bytes(text));
+            currentSecond = second;
+        }
+        return second.text();
+    }
+
+    private static int copy(byte[] source, byte[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    /** JSON string escaping; returns the input itself when nothing needs escaping. */
+    static String escape(String value) {
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                break;
+            }
+            i++;
+        }
+        if (i == value.length()) {
+            return value;
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+        for (; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+package ${package}.exception;
+
+import ${package}.dto.ErrorResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Turns exceptions into {@link ErrorResponseDto}-shaped responses. Domain exceptions are the hot
+ * path: under scanner traffic most responses are 404s and 400s, so their bodies are written from
+ * pre-encoded templates and the status comes straight from the exception. Validation failures are
+ * rare and carry per-field details, so they go through the regular message converters.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(DomainException.class)
+    public void handleDomainException(DomainException ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (ex.getStatus() >= 500) {
+            logger.warn("{} on {}: {}", ex.getBody().getCode(), request.getRequestURI(), ex.getMessage());
+        }
+        ex.getBody().write(response, ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponseDto> handleValidation(MethodArgumentNotValidException ex,
+                                                             HttpServletRequest request) {
+        List<ErrorResponseDto.FieldError> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+            .map(error -> new ErrorResponseDto.FieldError(error.getField(), error.getRejectedValue(),
+                error.getDefaultMessage()))
+            .toList();
+        ErrorResponseDto body = new ErrorResponseDto("VALIDATION_FAILED", "Request validation failed",
+            HttpStatus.BAD_REQUEST.value(), request.getRequestURI());
+        body.setFieldErrors(fieldErrors);
+        return ResponseEntity.badRequest().body(body);
+    }
+}
@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+
+    public InvalidCursorException(String message) {
+        super(BODY, message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
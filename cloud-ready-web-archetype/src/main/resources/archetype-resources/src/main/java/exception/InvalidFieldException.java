@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidFieldException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.BAD_REQUEST, "INVALID_FIELD");
+
+    public InvalidFieldException(String message) {
+        super(BODY, message);
+    }
+
+    public InvalidFieldException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
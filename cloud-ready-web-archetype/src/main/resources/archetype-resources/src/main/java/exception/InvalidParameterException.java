@@ -0,0 +1,12 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidParameterException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.BAD_REQUEST, "INVALID_PARAMETER");
+
+    public InvalidParameterException(String message) {
+        super(BODY, message);
+    }
+}
@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidSortException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.BAD_REQUEST, "INVALID_SORT");
+
+    public InvalidSortException(String message) {
+        super(BODY, message);
+    }
+
+    public InvalidSortException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
@@ -1,12 +1,16 @@
 package ${package}.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class ResourceNotFoundException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND");
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(BODY, message);
     }
 
     public ResourceNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(BODY, message, cause);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package ${package}.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class SearchUnavailableException extends DomainException {
+
+    private static final ErrorBody BODY = ErrorBody.of(HttpStatus.SERVICE_UNAVAILABLE, "SEARCH_UNAVAILABLE");
+
+    public SearchUnavailableException(String message) {
+        super(BODY, message);
+    }
+
+    public SearchUnavailableException(String message, Throwable cause) {
+        super(BODY, message, cause);
+    }
+}
@@ -0,0 +1,172 @@
+package ${package}.filter;
+
+import ${package}.domain.Role;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmaps of user ids: every user, enabled users, and one per {@link Role}.
+ * Filters are evaluated as bitmap AND/OR/AND-NOT operations, so counts and pages never
+ * touch the database. Ids must fit in 32 bits.
+ */
+public class UserBitmaps {
+
+    public record Selection(List<Long> ids, long total) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap enabled = new RoaringBitmap();
+    private final Map<Role, RoaringBitmap> roles = new EnumMap<>(Role.class);
+
+    public UserBitmaps() {
+        for (Role role : Role.values()) {
+            roles.put(role, new RoaringBitmap());
+        }
+    }
+
+    public void put(long id, boolean isEnabled, Set<Role> userRoles) {
+        int key = key(id);
+        lock.writeLock().lock();
+        try {
+            clear(key);
+            all.add(key);
+            if (isEnabled) {
+                enabled.add(key);
+            }
+            if (userRoles != null) {
+                for (Role role : userRoles) {
+                    roles.get(role).add(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addRole(long id, Role role) {
+        int key = key(id);
+        lock.writeLock().lock();
+        try {
+            roles.get(role).add(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        int key = key(id);
+        lock.writeLock().lock();
+        try {
+            clear(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long count(UserFilter filter) {
+        lock.readLock().lock();
+        try {
+            return evaluate(filter).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids at positions {@code [offset, offset + limit)} of the matching set in
+     * ascending (or descending) id order, together with the total number of matches.
+     */
+    public Selection select(UserFilter filter, long offset, int limit, boolean descending) {
+        RoaringBitmap matches;
+        lock.readLock().lock();
+        try {
+            matches = evaluate(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+        long total = matches.getLongCardinality();
+        List<Long> ids = new ArrayList<>(limit);
+        for (long rank = offset; rank < total && ids.size() < limit; rank++) {
+            int position = (int) (descending ? total - 1 - rank : rank);
+            ids.add(Integer.toUnsignedLong(matches.select(position)));
+        }
+        return new Selection(ids, total);
+    }
+
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            all.runOptimize();
+            enabled.runOptimize();
+            roles.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = all.getLongSizeInBytes() + enabled.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : roles.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock; the result is a fresh bitmap owned by the caller
+    private RoaringBitmap evaluate(UserFilter filter) {
+        RoaringBitmap result;
+        if (filter.roles().isEmpty()) {
+            result = all.clone();
+        } else if (filter.matchAll()) {
+            result = FastAggregation.and(roleBitmaps(filter.roles()).iterator());
+        } else {
+            result = FastAggregation.or(roleBitmaps(filter.roles()).iterator());
+        }
+        if (!filter.excludedRoles().isEmpty()) {
+            result.andNot(FastAggregation.or(roleBitmaps(filter.excludedRoles()).iterator()));
+        }
+        if (Boolean.TRUE.equals(filter.enabled())) {
+            result.and(enabled);
+        } else if (Boolean.FALSE.equals(filter.enabled())) {
+            result.andNot(enabled);
+        }
+        return result;
+    }
+
+    private List<RoaringBitmap> roleBitmaps(Set<Role> selected) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(selected.size());
+        for (Role role : selected) {
+            bitmaps.add(roles.get(role));
+        }
+        return bitmaps;
+    }
+
+    private void clear(int key) {
+        all.remove(key);
+        enabled.remove(key);
+        for (RoaringBitmap bitmap : roles.values()) {
+            bitmap.remove(key);
+        }
+    }
+
+    private static int key(long id) {
+        if (id < 0 || id > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("User id " + id + " does not fit in a 32-bit bitmap");
+        }
+        return (int) id;
+    }
+}
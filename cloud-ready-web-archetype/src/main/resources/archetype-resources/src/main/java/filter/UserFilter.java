@@ -0,0 +1,22 @@
+package ${package}.filter;
+
+import ${package}.domain.Role;
+
+import java.util.Set;
+
+/**
+ * Role and enabled-status criteria for listing users. {@code roles} match any of the given
+ * roles, or all of them when {@code matchAll} is set; {@code excludedRoles} removes users
+ * holding any of those roles; a null {@code enabled} does not filter on status.
+ */
+public record UserFilter(Set<Role> roles, boolean matchAll, Set<Role> excludedRoles, Boolean enabled) {
+
+    public UserFilter {
+        roles = roles != null ? Set.copyOf(roles) : Set.of();
+        excludedRoles = excludedRoles != null ? Set.copyOf(excludedRoles) : Set.of();
+    }
+
+    public boolean isEmpty() {
+        return roles.isEmpty() && excludedRoles.isEmpty() && enabled == null;
+    }
+}
@@ -0,0 +1,162 @@
+package ${package}.filter;
+
+import ${package}.config.AppProperties;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.exception.InvalidSortException;
+import ${package}.exception.SearchUnavailableException;
+import ${package}.repository.UserRepository;
+import ${package}.repository.UserRoleView;
+import ${package}.repository.UserRowView;
+import ${package}.startup.IndexBuilds;
+import ${package}.startup.StartupIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Role and enabled-status filter index. Built from a streaming scan of {@code users} and
+ * {@code user_roles} in the background when the application is ready, see {@link IndexBuilds},
+ * and kept current from committed user writes. Pages are ordered by id; only {@code sort=id}
+ * (either direction) is accepted.
+ */
+@Component
+public class UserFilterIndex implements StartupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserFilterIndex.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AppProperties.FilterIndex config;
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private volatile UserBitmaps bitmaps = new UserBitmaps();
+    private volatile boolean ready;
+
+    public UserFilterIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                           AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Reloads run from after-commit listeners, where the finished transaction is still bound
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.config = appProperties.getFilterIndex();
+
+        Gauge.builder("app.filter.memory", this, index -> index.bitmaps.sizeInBytes())
+            .description("Heap used by the role/enabled filter bitmaps")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String indexName() {
+        return "filter";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public void build() {
+        long started = System.nanoTime();
+        UserBitmaps loaded = new UserBitmaps();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserRowView> rows = userRepository.streamAllByOrderByIdAsc()) {
+                    rows.forEach(row -> loaded.put(row.getId(), Boolean.TRUE.equals(row.getEnabled()), null));
+                }
+                try (Stream<UserRoleView> roles = userRepository.streamAllRoles()) {
+                    roles.forEach(role -> loaded.addRole(role.getUserId(), role.getRole()));
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            logger.error("Role/enabled filter index disabled: {}", e.getMessage());
+            return;
+        }
+        loaded.optimize();
+        bitmaps = loaded;
+        ready = true;
+
+        // Writes that committed during the scan may have been overwritten by older rows
+        reloadChangedWhileLoading();
+        logger.info("Role/enabled filter index built in {} ms (~{} KB)",
+            (System.nanoTime() - started) / 1_000_000, loaded.sizeInBytes() / 1024);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!ready) {
+            changedWhileLoading.add(event.id());
+        }
+        UserDto after = event.after();
+        synchronized (writeLock) {
+            if (after != null) {
+                bitmaps.put(after.getId(), Boolean.TRUE.equals(after.getEnabled()), after.getRoles());
+            } else {
+                bitmaps.remove(event.id());
+            }
+        }
+        if (ready && !changedWhileLoading.isEmpty()) {
+            // The build may have drained the set before this id was added, or this write may have
+            // gone to the bitmaps it replaced; either way the build no longer sees it
+            reloadChangedWhileLoading();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public UserBitmaps.Selection select(UserFilter filter, Pageable pageable) {
+        requireReady();
+        boolean descending = false;
+        for (Sort.Order order : pageable.getSort()) {
+            if (!"id".equals(order.getProperty())) {
+                throw new InvalidSortException("Filtered users can only be sorted by id, not '"
+                    + order.getProperty() + "'");
+            }
+            descending = order.isDescending();
+        }
+        return bitmaps.select(filter, pageable.getOffset(), pageable.getPageSize(), descending);
+    }
+
+    private void reloadChangedWhileLoading() {
+        Iterator<Long> ids = changedWhileLoading.iterator();
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            // Removed before reading, so an id added again afterwards is reloaded again
+            ids.remove();
+            reload(id);
+        }
+    }
+
+    // Holds the write lock across the read so a newer committed write cannot be overwritten by it
+    private void reload(long id) {
+        synchronized (writeLock) {
+            readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(id).ifPresentOrElse(
+                user -> bitmaps.put(id, Boolean.TRUE.equals(user.getEnabled()), user.getRoles()),
+                () -> bitmaps.remove(id)));
+        }
+    }
+
+    private void requireReady() {
+        if (!ready) {
+            throw new SearchUnavailableException("Role/enabled filter index is not ready");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ${package}.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC endpoint on its own port next to the servlet container. Calls execute on a
+ * dedicated fixed pool so a burst of streaming exports cannot starve the HTTP workers, and on
+ * shutdown in-flight calls get the configured grace period before being cancelled.
+ */
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final BindableService service;
+    private final JwtServerInterceptor authentication;
+    private final int port;
+    private final int threads;
+    private final Duration shutdownGrace;
+
+    private volatile Server server;
+    private volatile ExecutorService executor;
+
+    public GrpcServer(BindableService service, JwtServerInterceptor authentication, int port, int threads,
+                      Duration shutdownGrace) {
+        this.service = service;
+        this.authentication = authentication;
+        this.port = port;
+        this.threads = threads;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    @Override
+    public void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("grpc-");
+        threadFactory.setDaemon(true);
+        executor = Executors.newFixedThreadPool(threads, threadFactory);
+        try {
+            server = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .addService(ServerInterceptors.intercept(service, authentication))
+                .build()
+                .start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** Port actually bound, useful when configured with {@code 0}. */
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
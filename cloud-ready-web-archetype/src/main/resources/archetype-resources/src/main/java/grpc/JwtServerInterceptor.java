@@ -0,0 +1,68 @@
+package ${package}.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+/**
+ * Authenticates every call from its {@code authorization: Bearer} metadata with the same
+ * {@link AuthenticationManager} as the REST resource server, including its verification cache,
+ * and exposes the result to the service through the gRPC {@link Context}.
+ */
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    private static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+    private static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER = "Bearer ";
+
+    private final AuthenticationManager authenticationManager;
+
+    public JwtServerInterceptor(AuthenticationManager authenticationManager) {
+        this.authenticationManager = authenticationManager;
+    }
+
+    /** Authentication of the current call; only valid on threads running a call of this server. */
+    public static Authentication currentAuthentication() {
+        return AUTHENTICATION.get();
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return reject(call, "Missing bearer token");
+        }
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new BearerTokenAuthenticationToken(authorization.substring(BEARER.length()).trim()));
+        } catch (AuthenticationServiceException e) {
+            return reject(call, Status.UNAVAILABLE.withDescription("Token verification unavailable"));
+        } catch (AuthenticationException e) {
+            return reject(call, "Invalid bearer token");
+        }
+        Context context = Context.current().withValue(AUTHENTICATION, authentication);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, String reason) {
+        return reject(call, Status.UNAUTHENTICATED.withDescription(reason));
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
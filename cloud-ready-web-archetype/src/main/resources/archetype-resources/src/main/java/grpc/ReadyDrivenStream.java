@@ -0,0 +1,69 @@
+package ${package}.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes a server stream from the transport's on-ready callback. Messages are sent only while
+ * the stream is ready, and the next batch is loaded only when the previous one has been
+ * written, so a slow reader throttles how fast batches are loaded instead of letting responses
+ * pile up in memory. gRPC serializes the callbacks of one call, so no locking is needed.
+ */
+final class ReadyDrivenStream<T> implements Runnable {
+
+    /** Loads the stream in batches. */
+    interface Source<T> {
+
+        /** Returns the next batch, which may be empty, or {@code null} once everything was sent. */
+        List<T> next();
+    }
+
+    private final ServerCallStreamObserver<T> stream;
+    private final Source<T> source;
+    private final Function<RuntimeException, ? extends Throwable> errors;
+    private Iterator<T> pending = List.<T>of().iterator();
+    private boolean finished;
+
+    private ReadyDrivenStream(ServerCallStreamObserver<T> stream, Source<T> source,
+                              Function<RuntimeException, ? extends Throwable> errors) {
+        this.stream = stream;
+        this.source = source;
+        this.errors = errors;
+    }
+
+    /**
+     * Starts sending once the handler returns. Must be called from the call's handler method.
+     * Exceptions from the source end the call with the status {@code errors} maps them to.
+     */
+    static <T> void start(ServerCallStreamObserver<T> stream, Source<T> source,
+                          Function<RuntimeException, ? extends Throwable> errors) {
+        ReadyDrivenStream<T> sender = new ReadyDrivenStream<>(stream, source, errors);
+        stream.setOnCancelHandler(() -> sender.finished = true);
+        stream.setOnReadyHandler(sender);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!finished && stream.isReady()) {
+                if (pending.hasNext()) {
+                    stream.onNext(pending.next());
+                    continue;
+                }
+                List<T> batch = source.next();
+                if (batch == null) {
+                    finished = true;
+                    stream.onCompleted();
+                    return;
+                }
+                pending = batch.iterator();
+            }
+        } catch (RuntimeException e) {
+            finished = true;
+            stream.onError(errors.apply(e));
+        }
+    }
+}
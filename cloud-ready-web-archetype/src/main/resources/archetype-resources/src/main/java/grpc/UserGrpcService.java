@@ -0,0 +1,281 @@
+package ${package}.grpc;
+
+import ${package}.domain.Role;
+import ${package}.domain.UserChange;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserDto;
+import ${package}.exception.BulkheadFullException;
+import ${package}.exception.ChangeFeedExpiredException;
+import ${package}.exception.DeadlineExceededException;
+import ${package}.exception.InvalidCursorException;
+import ${package}.exception.InvalidSortException;
+import ${package}.exception.ResourceNotFoundException;
+import ${package}.exception.SearchUnavailableException;
+import ${package}.grpc.proto.CreateUserError;
+import ${package}.grpc.proto.CreateUserRequest;
+import ${package}.grpc.proto.CreateUsersResponse;
+import ${package}.grpc.proto.ExportUsersRequest;
+import ${package}.grpc.proto.ExportUsersResponse;
+import ${package}.grpc.proto.GetUserByUsernameRequest;
+import ${package}.grpc.proto.GetUserRequest;
+import ${package}.grpc.proto.ListUsersRequest;
+import ${package}.grpc.proto.User;
+import ${package}.grpc.proto.UserServiceGrpc;
+import ${package}.security.RoleAuthorities;
+import ${package}.service.UserService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC facade over {@link UserService}. Calls go through the same service bean as the REST
+ * controller, so they share its caches, transactions and change events, and enforce the same
+ * rules: lookups are for admins or the user themself, listing, export and creation are admin only.
+ */
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(UserGrpcService.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final UserService userService;
+    private final Validator validator;
+    private final int exportBatchSize;
+
+    public UserGrpcService(UserService userService, Validator validator, int exportBatchSize) {
+        this.userService = userService;
+        this.validator = validator;
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<User> responseObserver) {
+        unary(responseObserver, () -> {
+            Optional<UserDto> user = userService.findById(request.getId());
+            return UserMessages.toMessage(authorizeLookup(user, "User not found with id: " + request.getId()));
+        });
+    }
+
+    @Override
+    public void getUserByUsername(GetUserByUsernameRequest request, StreamObserver<User> responseObserver) {
+        unary(responseObserver, () -> {
+            Optional<UserDto> user = userService.findByUsername(request.getUsername());
+            return UserMessages.toMessage(authorizeLookup(user, "User not found: " + request.getUsername()));
+        });
+    }
+
+    @Override
+    public void listUsers(ListUsersRequest request, StreamObserver<User> responseObserver) {
+        ServerCallStreamObserver<User> stream = (ServerCallStreamObserver<User>) responseObserver;
+        int pageSize;
+        String search;
+        boolean descending;
+        try {
+            requireAdmin();
+            pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+            if (!request.getSort().isBlank() && !"id".equalsIgnoreCase(request.getSort().trim())) {
+                throw new InvalidSortException("Streamed listings are read in id order; sort '"
+                    + request.getSort() + "' is not supported");
+            }
+            search = request.getSearch().isBlank() ? null : request.getSearch();
+            descending = request.getDescending();
+        } catch (RuntimeException e) {
+            stream.onError(toStatus(e));
+            return;
+        }
+
+        // Keyset pages by id: every page is an index range scan, however deep the stream gets
+        ReadyDrivenStream.start(stream, new ReadyDrivenStream.Source<>() {
+            private long lastId = descending ? Long.MAX_VALUE : 0;
+            private boolean exhausted;
+
+            @Override
+            public List<User> next() {
+                if (exhausted) {
+                    return null;
+                }
+                List<UserDto> users = userService.scrollById(search, lastId, descending, pageSize);
+                exhausted = users.size() < pageSize;
+                if (!users.isEmpty()) {
+                    lastId = users.get(users.size() - 1).getId();
+                }
+                return users.stream().map(UserMessages::toMessage).toList();
+            }
+        }, UserGrpcService::toStatus);
+    }
+
+    @Override
+    public void exportUsers(ExportUsersRequest request, StreamObserver<ExportUsersResponse> responseObserver) {
+        ServerCallStreamObserver<ExportUsersResponse> stream =
+            (ServerCallStreamObserver<ExportUsersResponse>) responseObserver;
+        try {
+            requireAdmin();
+        } catch (RuntimeException e) {
+            stream.onError(toStatus(e));
+            return;
+        }
+
+        // Walk the compacted change log from the start: one entry per live user, and the final
+        // token lets the caller continue with the REST change feed without a gap.
+        ReadyDrivenStream.start(stream, new ReadyDrivenStream.Source<>() {
+            private String token;
+            private boolean hasMore = true;
+            private boolean sentToken;
+
+            @Override
+            public List<ExportUsersResponse> next() {
+                if (!hasMore) {
+                    if (sentToken) {
+                        return null;
+                    }
+                    sentToken = true;
+                    return List.of(ExportUsersResponse.newBuilder().setNextToken(token).build());
+                }
+                UserChangeBatchDto batch = userService.findChanges(token, exportBatchSize);
+                token = batch.getNextToken();
+                hasMore = batch.isHasMore();
+                return batch.getChanges().stream()
+                    .filter(change -> change.getType() == UserChange.Type.UPSERTED)
+                    .map(change -> ExportUsersResponse.newBuilder()
+                        .setUser(UserMessages.toMessage(change.getUser()))
+                        .build())
+                    .toList();
+            }
+        }, UserGrpcService::toStatus);
+    }
+
+    @Override
+    public StreamObserver<CreateUserRequest> createUsers(StreamObserver<CreateUsersResponse> responseObserver) {
+        try {
+            requireAdmin();
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return new DiscardingObserver<>();
+        }
+        CreateUsersResponse.Builder response = CreateUsersResponse.newBuilder();
+        return new StreamObserver<>() {
+            private int index;
+
+            @Override
+            public void onNext(CreateUserRequest request) {
+                int current = index++;
+                try {
+                    UserDto user = UserMessages.toDto(request);
+                    Set<ConstraintViolation<UserDto>> violations = validator.validate(user);
+                    if (!violations.isEmpty()) {
+                        response.addErrors(error(current, violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining("; "))));
+                    } else if (userService.existsByUsername(user.getUsername())
+                            || userService.existsByEmail(user.getEmail())) {
+                        response.addErrors(error(current, "User already exists"));
+                    } else {
+                        response.addCreated(UserMessages.toMessage(userService.create(user)));
+                    }
+                } catch (IllegalArgumentException | DataIntegrityViolationException e) {
+                    response.addErrors(error(current, e instanceof IllegalArgumentException
+                        ? e.getMessage() : "User already exists"));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Bulk create aborted by client after {} users", index, t);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private UserDto authorizeLookup(Optional<UserDto> user, String notFound) {
+        Authentication authentication = JwtServerInterceptor.currentAuthentication();
+        if (isAdmin(authentication)) {
+            return user.orElseThrow(() -> new ResourceNotFoundException(notFound));
+        }
+        // Non-admins learn nothing about users other than themselves, including whether they exist
+        return user.filter(found -> found.getUsername().equals(authentication.getName()))
+            .orElseThrow(() -> Status.PERMISSION_DENIED.withDescription("Access denied").asRuntimeException());
+    }
+
+    private static void requireAdmin() {
+        if (!isAdmin(JwtServerInterceptor.currentAuthentication())) {
+            throw Status.PERMISSION_DENIED.withDescription("Access denied").asRuntimeException();
+        }
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().contains(RoleAuthorities.of(Role.ADMIN));
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> handler) {
+        T response;
+        try {
+            response = handler.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException status) {
+            return status;
+        }
+        Status status;
+        if (e instanceof ResourceNotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (e instanceof InvalidSortException || e instanceof InvalidCursorException
+                || e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (e instanceof ChangeFeedExpiredException) {
+            status = Status.OUT_OF_RANGE;
+        } else if (e instanceof BulkheadFullException || e instanceof SearchUnavailableException) {
+            status = Status.UNAVAILABLE;
+        } else if (e instanceof DeadlineExceededException) {
+            status = Status.DEADLINE_EXCEEDED;
+        } else {
+            log.error("Unhandled error in gRPC call", e);
+            return Status.INTERNAL.withDescription("Internal error").asRuntimeException();
+        }
+        return status.withDescription(e.getMessage()).asRuntimeException();
+    }
+
+    private static CreateUserError error(int index, String message) {
+        return CreateUserError.newBuilder().setIndex(index).setMessage(message).build();
+    }
+
+    private static final class DiscardingObserver<T> implements StreamObserver<T> {
+        @Override
+        public void onNext(T value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ${package}.grpc;
+
+import ${package}.dto.UserDto;
+import ${package}.grpc.proto.CreateUserRequest;
+import ${package}.grpc.proto.Role;
+import ${package}.grpc.proto.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Maps between user DTOs and protobuf messages. Dates travel as UTC epoch milliseconds, as in
+ * the binary REST formats, and unset strings as proto3 defaults.
+ */
+final class UserMessages {
+
+    private UserMessages() {
+    }
+
+    static User toMessage(UserDto user) {
+        User.Builder message = User.newBuilder().setId(user.getId());
+        if (user.getUsername() != null) {
+            message.setUsername(user.getUsername());
+        }
+        if (user.getEmail() != null) {
+            message.setEmail(user.getEmail());
+        }
+        if (user.getFirstName() != null) {
+            message.setFirstName(user.getFirstName());
+        }
+        if (user.getLastName() != null) {
+            message.setLastName(user.getLastName());
+        }
+        if (user.getFullName() != null) {
+            message.setFullName(user.getFullName());
+        }
+        message.setEnabled(Boolean.TRUE.equals(user.getEnabled()));
+        if (user.getRoles() != null) {
+            user.getRoles().forEach(role -> message.addRoles(Role.valueOf(role.name())));
+        }
+        message.setCreatedAt(toEpochMillis(user.getCreatedAt()));
+        message.setUpdatedAt(toEpochMillis(user.getUpdatedAt()));
+        return message.build();
+    }
+
+    static UserDto toDto(CreateUserRequest request) {
+        Set<${package}.domain.Role> roles = EnumSet.noneOf(${package}.domain.Role.class);
+        for (Role role : request.getRolesList()) {
+            if (role == Role.ROLE_UNSPECIFIED || role == Role.UNRECOGNIZED) {
+                throw new IllegalArgumentException("Unknown role");
+            }
+            roles.add(${package}.domain.Role.valueOf(role.name()));
+        }
+        return UserDto.builder()
+            .username(request.getUsername())
+            .email(request.getEmail())
+            .firstName(request.getFirstName())
+            .lastName(request.getLastName())
+            .enabled(request.getEnabled())
+            .roles(roles)
+            .build();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
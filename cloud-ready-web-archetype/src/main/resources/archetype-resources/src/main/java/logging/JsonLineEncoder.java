@@ -0,0 +1,163 @@
+package ${package}.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Encodes each event as one line of JSON: timestamp, level, logger, thread, message, the
+ * {@code traceId} and {@code spanId} that tracing puts in the MDC, and the stack trace if there
+ * is one. The text and byte buffers are kept per thread (under the async appender that is the
+ * single worker thread) and the timestamp text is shared within a second, so apart from the
+ * array Logback needs back an event is written without allocating.
+ */
+public class JsonLineEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final DateTimeFormatter SECOND_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss").withZone(ZoneOffset.UTC);
+    private static final int RETAINED_CAPACITY = 16 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private record Second(long epochSecond, String text) {
+    }
+
+    private static final class Buffers {
+        private StringBuilder text = new StringBuilder(512);
+        private byte[] bytes = new byte[1536];
+    }
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+    private volatile Second currentSecond = new Second(Long.MIN_VALUE, "");
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Buffers buffers = this.buffers.get();
+        StringBuilder json = buffers.text;
+        json.setLength(0);
+
+        json.append("{\"timestamp\":\"");
+        appendTimestamp(json, event.getTimeStamp());
+        json.append("\",\"level\":\"").append(event.getLevel().levelStr);
+        json.append("\",\"logger\":\"");
+        escape(json, event.getLoggerName());
+        json.append("\",\"thread\":\"");
+        escape(json, event.getThreadName());
+        json.append("\",\"message\":\"");
+        escape(json, event.getFormattedMessage());
+        json.append('"');
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            appendField(json, "traceId", mdc.get("traceId"));
+            appendField(json, "spanId", mdc.get("spanId"));
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendField(json, "exception", ThrowableProxyUtil.asString(throwable));
+        }
+        json.append("}\n");
+
+        byte[] line = toUtf8(buffers, json);
+        // Don't let one huge stack trace pin a large buffer to the thread for good
+        if (json.capacity() > RETAINED_CAPACITY) {
+            buffers.text = new StringBuilder(512);
+            buffers.bytes = new byte[1536];
+        }
+        return line;
+    }
+
+    private void appendTimestamp(StringBuilder json, long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        Second second = currentSecond;
+        if (second.epochSecond() != epochSecond) {
+            second = new Second(epochSecond, SECOND_FORMAT.format(Instant.ofEpochSecond(epochSecond)));
+            currentSecond = second;
+        }
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+        json.append(second.text())
+            .append('.')
+            .append((char) ('0' + millis / 100))
+            .append((char) ('0' + millis / 10 % 10))
+            .append((char) ('0' + millis % 10))
+            .append('Z');
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        if (value != null) {
+            json.append(",\"").append(name).append("\":\"");
+            escape(json, value);
+            json.append('"');
+        }
+    }
+
+    static void escape(StringBuilder json, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] toUtf8(Buffers buffers, CharSequence text) {
+        int length = text.length();
+        byte[] out = buffers.bytes;
+        if (out.length < length * 3) {
+            out = buffers.bytes = new byte[length * 3];
+        }
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | c >> 6);
+                out[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out[pos++] = (byte) (0xF0 | codePoint >> 18);
+                out[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                out[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[pos++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                out[pos++] = '?';
+            } else {
+                out[pos++] = (byte) (0xE0 | c >> 12);
+                out[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[pos++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return Arrays.copyOf(out, pos);
+    }
+}
@@ -0,0 +1,46 @@
+package ${package}.logging;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps bind parameter values out of production logs whatever the configuration says: the
+ * loggers Hibernate writes parameters to are switched off, and {@code show_sql}, which prints
+ * to stdout outside the logging system, is forced off. A level raised through an environment
+ * variable or a config override is reported and then ignored.
+ */
+public class ParameterLoggingGuard implements HibernatePropertiesCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParameterLoggingGuard.class);
+
+    // Hibernate 6 names first; BasicBinder is the Hibernate 5 name still found in copied configs
+    static final List<String> PARAMETER_LOGGERS = List.of(
+        "org.hibernate.orm.jdbc.bind",
+        "org.hibernate.orm.jdbc.extract",
+        "org.hibernate.type.descriptor.sql.BasicBinder",
+        "org.hibernate.type.descriptor.sql.BasicExtractor");
+
+    public ParameterLoggingGuard(LoggingSystem loggingSystem) {
+        for (String name : PARAMETER_LOGGERS) {
+            LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(name);
+            LogLevel level = configuration != null ? configuration.getEffectiveLevel() : null;
+            if (level != null && level.compareTo(LogLevel.DEBUG) <= 0) {
+                logger.warn("Logger {} was set to {}; parameter logging is disabled in production", name, level);
+            }
+            loggingSystem.setLogLevel(name, LogLevel.OFF);
+        }
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.SHOW_SQL, false);
+    }
+}
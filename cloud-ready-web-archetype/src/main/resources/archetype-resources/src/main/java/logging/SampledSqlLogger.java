@@ -0,0 +1,88 @@
+package ${package}.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs a sample of the SQL Hibernate prepares, in place of {@code show-sql} and the
+ * {@code org.hibernate.SQL} logger. Each statement is picked with the configured probability and
+ * at most {@code maxPerSecond} are written per second; the rest cost a random number and a
+ * compare-and-set. Only the statement text is logged: bind parameters are never seen here.
+ */
+public class SampledSqlLogger implements StatementInspector {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampledSqlLogger.class);
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final double sampleRate;
+    private final long maxPerSecond;
+    private final Clock clock;
+    // Current second in the high bits, statements logged in it in the low COUNT_BITS
+    private final AtomicLong window = new AtomicLong();
+    private final Counter logged;
+    private final Counter rateLimited;
+
+    public SampledSqlLogger(double sampleRate, int maxPerSecond, MeterRegistry meterRegistry) {
+        this(sampleRate, maxPerSecond, meterRegistry, Clock.systemUTC());
+    }
+
+    SampledSqlLogger(double sampleRate, int maxPerSecond, MeterRegistry meterRegistry, Clock clock) {
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = Math.min(maxPerSecond, COUNT_MASK);
+        this.clock = clock;
+        this.logged = statements(meterRegistry, "logged");
+        this.rateLimited = statements(meterRegistry, "rate_limited");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (!logger.isInfoEnabled() || !sampled()) {
+            return sql;
+        }
+        if (tryAcquire()) {
+            logged.increment();
+            logger.info("{}", sql);
+        } else {
+            rateLimited.increment();
+        }
+        return sql;
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private boolean tryAcquire() {
+        long second = clock.millis() / 1000;
+        while (true) {
+            long state = window.get();
+            long next;
+            if (state >>> COUNT_BITS != second) {
+                next = second << COUNT_BITS | 1;
+            } else if ((state & COUNT_MASK) >= maxPerSecond) {
+                return false;
+            } else {
+                next = state + 1;
+            }
+            if (window.compareAndSet(state, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static Counter statements(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.sql.log.statements")
+            .description("Sampled SQL statements, logged or dropped by the rate limit")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
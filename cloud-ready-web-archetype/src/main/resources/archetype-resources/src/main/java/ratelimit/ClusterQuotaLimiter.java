@@ -0,0 +1,104 @@
+package ${package}.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide fixed-window quota. Each node leases permits from the shared {@link QuotaStore}
+ * in batches and hands them out locally, so the store is consulted once per batch rather
+ * than once per request.
+ */
+public class ClusterQuotaLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private final QuotaStore store;
+    private final long limit;
+    private final long windowMillis;
+    private final int batchSize;
+    private final Clock clock;
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong sweptWindow = new AtomicLong();
+    private final Counter storeCalls;
+    private final Counter storeFailures;
+
+    public ClusterQuotaLimiter(QuotaStore store, long limit, Duration window, int batchSize,
+                               MeterRegistry meterRegistry) {
+        this(store, limit, window, batchSize, meterRegistry, Clock.systemUTC());
+    }
+
+    ClusterQuotaLimiter(QuotaStore store, long limit, Duration window, int batchSize,
+                        MeterRegistry meterRegistry, Clock clock) {
+        this.store = store;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.batchSize = (int) Math.min(batchSize, limit);
+        this.clock = clock;
+        this.storeCalls = Counter.builder("app.ratelimit.cluster.store.calls")
+            .description("Round trips to the shared quota store")
+            .register(meterRegistry);
+        this.storeFailures = Counter.builder("app.ratelimit.cluster.store.failures")
+            .description("Quota store calls that failed and were allowed through")
+            .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(String clientKey) {
+        long window = clock.millis() / windowMillis;
+        sweep(window);
+
+        Lease lease = leases.compute(clientKey, (k, existing) ->
+            existing == null || existing.window != window ? new Lease(window) : existing);
+        if (lease.remaining.getAndDecrement() > 0) {
+            return true;
+        }
+
+        synchronized (lease) {
+            if (lease.remaining.get() < 0 && !lease.exhausted) {
+                long granted = lease(clientKey, window);
+                if (granted == 0) {
+                    lease.exhausted = true;
+                } else {
+                    lease.remaining.set(granted);
+                }
+            }
+            return lease.remaining.getAndDecrement() > 0;
+        }
+    }
+
+    private long lease(String clientKey, long window) {
+        storeCalls.increment();
+        try {
+            long total = store.increment(KEY_PREFIX + clientKey + ":" + window, batchSize,
+                Duration.ofMillis(windowMillis * 2));
+            long before = total - batchSize;
+            return Math.max(0, Math.min(batchSize, limit - before));
+        } catch (RuntimeException ex) {
+            // The local tier still protects this node; fail open for the shared tier
+            storeFailures.increment();
+            return batchSize;
+        }
+    }
+
+    private void sweep(long window) {
+        long swept = sweptWindow.get();
+        if (swept < window && sweptWindow.compareAndSet(swept, window)) {
+            leases.values().removeIf(lease -> lease.window < window);
+        }
+    }
+
+    private static final class Lease {
+        private final long window;
+        private final AtomicLong remaining = new AtomicLong();
+        private boolean exhausted;
+
+        private Lease(long window) {
+            this.window = window;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ${package}.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-node stand-in for {@link RedisQuotaStore}, used in tests and local runs without Redis.
+ */
+public class InMemoryQuotaStore implements QuotaStore {
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemoryQuotaStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryQuotaStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long increment(String key, long permits, Duration ttl) {
+        Instant now = clock.instant();
+        Counter counter = counters.compute(key, (k, existing) ->
+            existing == null || existing.expiresAt().isBefore(now)
+                ? new Counter(permits, now.plus(ttl))
+                : new Counter(existing.total() + permits, existing.expiresAt()));
+        return counter.total();
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private record Counter(long total, Instant expiresAt) {
+    }
+}
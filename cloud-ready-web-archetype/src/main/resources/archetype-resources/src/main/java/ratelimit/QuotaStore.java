@@ -0,0 +1,12 @@
+package ${package}.ratelimit;
+
+import java.time.Duration;
+
+public interface QuotaStore {
+
+    /**
+     * Atomically adds {@code permits} to the counter for {@code key} and returns the new total.
+     * The counter expires after {@code ttl}.
+     */
+    long increment(String key, long permits, Duration ttl);
+}
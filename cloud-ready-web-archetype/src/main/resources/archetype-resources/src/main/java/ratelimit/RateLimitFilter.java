@@ -0,0 +1,104 @@
+package ${package}.ratelimit;
+
+import ${package}.config.AppProperties;
+import ${package}.exception.ErrorBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ErrorBody TOO_MANY_REQUESTS = ErrorBody.of(HttpStatus.TOO_MANY_REQUESTS,
+        "TOO_MANY_REQUESTS", "Rate limit exceeded. Please retry later.");
+
+    private final StripedTokenBucket localBucket;
+    private final ClusterQuotaLimiter clusterLimiter;
+    private final List<String> paths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter localAllowed;
+    private final Counter localRejected;
+    private final Counter clusterAllowed;
+    private final Counter clusterRejected;
+
+    public RateLimitFilter(StripedTokenBucket localBucket, ClusterQuotaLimiter clusterLimiter,
+                           AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.localBucket = localBucket;
+        this.clusterLimiter = clusterLimiter;
+        this.paths = appProperties.getRateLimit().getPaths();
+        this.localAllowed = decisions(meterRegistry, "local", "allowed");
+        this.localRejected = decisions(meterRegistry, "local", "rejected");
+        this.clusterAllowed = decisions(meterRegistry, "cluster", "allowed");
+        this.clusterRejected = decisions(meterRegistry, "cluster", "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String clientKey = resolveClientKey(request);
+
+        long waitNanos = localBucket.tryAcquire(clientKey);
+        if (waitNanos > 0) {
+            localRejected.increment();
+            reject(request, response, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return;
+        }
+        localAllowed.increment();
+
+        if (clusterLimiter != null) {
+            if (!clusterLimiter.tryAcquire(clientKey)) {
+                clusterRejected.increment();
+                reject(request, response, 1);
+                return;
+            }
+            clusterAllowed.increment();
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        long retryAfterSeconds) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        TOO_MANY_REQUESTS.write(response, request.getRequestURI());
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String tier, String outcome) {
+        return Counter.builder("app.ratelimit.decisions")
+            .description("Rate limit decisions per tier")
+            .tag("tier", tier)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package ${package}.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RedisQuotaStore implements QuotaStore {
+
+    // INCRBY and PEXPIRE in one round trip; Redis runs the script atomically, so no key is ever
+    // left without an expiry. PTTL is -1 for a new key and for one that lost its expiry.
+    static final RedisScript<Long> INCREMENT = RedisScript.of("""
+        local total = redis.call('INCRBY', KEYS[1], ARGV[1])
+        if redis.call('PTTL', KEYS[1]) == -1 then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return total
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisQuotaStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long increment(String key, long permits, Duration ttl) {
+        Long total = redisTemplate.execute(INCREMENT, List.of(key), Long.toString(permits),
+            Long.toString(ttl.toMillis()));
+        if (total == null) {
+            throw new IllegalStateException("INCRBY returned no value for key " + key);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,69 @@
+package ${package}.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket keyed by client, hashed onto a fixed number of stripes.
+ * Each stripe holds a single "theoretical arrival time" (GCRA), so acquiring a
+ * token is one CAS and memory stays bounded no matter how many clients appear.
+ */
+public class StripedTokenBucket {
+
+    // Stripes are spread one cache line apart to avoid false sharing
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+
+    public StripedTokenBucket(long capacity, long refillPerSecond, int stripes) {
+        this(capacity, refillPerSecond, stripes, System::nanoTime);
+    }
+
+    StripedTokenBucket(long capacity, long refillPerSecond, int stripes, LongSupplier nanoClock) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.arrivals = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / refillPerSecond;
+        this.toleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < size; i++) {
+            arrivals.set(i * PADDING, now);
+        }
+    }
+
+    /**
+     * Takes one token for the given key.
+     *
+     * @return 0 if a token was available, otherwise the nanoseconds until one will be
+     */
+    public long tryAcquire(String key) {
+        int index = stripe(key) * PADDING;
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = arrivals.get(index);
+            long wait = arrival - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            if (arrivals.compareAndSet(index, arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int getStripes() {
+        return mask + 1;
+    }
+
+    private int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
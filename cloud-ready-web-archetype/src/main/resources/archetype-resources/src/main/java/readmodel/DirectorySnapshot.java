@@ -0,0 +1,159 @@
+package ${package}.readmodel;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary snapshot of a {@link UserDirectory}. Written sequentially to a temporary file and
+ * atomically moved into place; read back through a read-only memory mapping so a restart
+ * rebuilds the directory at disk/page-cache speed without touching the database.
+ *
+ * <p>Layout: magic, version, record count, high-water mark (latest created/updated time),
+ * followed by the records. Strings are length-prefixed UTF-8.
+ */
+public final class DirectorySnapshot {
+
+    private static final int MAGIC = 0x55524D31; // "URM1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8;
+
+    private DirectorySnapshot() {
+    }
+
+    /**
+     * Metadata of a loaded snapshot. {@code highWaterMark} is the latest created/updated
+     * epoch millisecond seen in any record and drives the catch-up query after a restore.
+     */
+    public record Header(long records, long highWaterMark) {
+    }
+
+    public static Header write(UserDirectory directory, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long[] stats = new long[] {0, UserRecord.NO_TIME};
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+            buffer.position(HEADER_BYTES);
+            IOException[] failure = new IOException[1];
+            directory.forEach(record -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    ensureRemaining(channel, buffer, maxEncodedSize(record));
+                    encode(buffer, record);
+                    stats[0]++;
+                    stats[1] = Math.max(stats[1], Math.max(record.createdAt(), record.updatedAt()));
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            flush(channel, buffer);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC).putInt(VERSION).putLong(stats[0]).putLong(stats[1]).flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Header(stats[0], stats[1]);
+    }
+
+    public static Header read(Path source, UserDirectory directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot of " + size + " bytes exceeds a single mapping");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                    throw new IOException("Not a user directory snapshot: " + source);
+                }
+                long records = buffer.getLong();
+                long highWaterMark = buffer.getLong();
+                for (long i = 0; i < records; i++) {
+                    directory.upsert(decode(buffer));
+                }
+                return new Header(records, highWaterMark);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated snapshot: " + source, e);
+            }
+        }
+    }
+
+    private static void encode(ByteBuffer buffer, UserRecord record) {
+        buffer.putLong(record.id());
+        buffer.put((byte) (record.enabled() ? 1 : 0));
+        buffer.put(record.roles());
+        buffer.putLong(record.createdAt());
+        buffer.putLong(record.updatedAt());
+        putString(buffer, record.username());
+        putString(buffer, record.email());
+        putString(buffer, record.firstName());
+        putString(buffer, record.lastName());
+    }
+
+    private static UserRecord decode(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        boolean enabled = buffer.get() != 0;
+        byte roles = buffer.get();
+        long createdAt = buffer.getLong();
+        long updatedAt = buffer.getLong();
+        return new UserRecord(id, getString(buffer), getString(buffer), getString(buffer), getString(buffer),
+            enabled, roles, createdAt, updatedAt);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int maxEncodedSize(UserRecord record) {
+        // UTF-8 needs at most three bytes per UTF-16 char
+        return 8 + 1 + 1 + 8 + 8 + 4 * 2 + 3 * (record.username().length() + record.email().length()
+            + record.firstName().length() + record.lastName().length());
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() < needed) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        if (channel.position() == 0) {
+            // First flush leaves room for the header, written last once the count is known
+            buffer.position(HEADER_BYTES);
+            channel.position(HEADER_BYTES);
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,151 @@
+package ${package}.readmodel;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash map from non-zero {@code long} keys to objects, using linear probing
+ * and backward-shift deletion. Avoids boxing keys and the per-entry node objects of
+ * {@link java.util.HashMap}. Not thread-safe; see {@link UserDirectory} for the locking.
+ */
+final class LongObjectMap<V> {
+
+    private static final long FREE = 0L;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    LongObjectMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        long[] k = keys;
+        Object[] v = values;
+        int mask = k.length - 1;
+        int index = mix(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            long current = k[index];
+            if (current == key) {
+                return (V) v[index];
+            }
+            if (current == FREE) {
+                return null;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != FREE) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != key) {
+            if (keys[index] == FREE) {
+                return null;
+            }
+            index = (index + 1) & mask;
+        }
+        V previous = (V) values[index];
+
+        // Shift following entries back so lookups never need tombstones
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int ideal = mix(keys[next]) & mask;
+            if (!inCyclicRange(hole, ideal, next)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    void forEachKey(LongConsumer action) {
+        for (long key : keys) {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static boolean inCyclicRange(int from, int value, int to) {
+        // true if value lies in (from, to] on the ring
+        return from <= to ? from < value && value <= to : from < value || value <= to;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 8) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,56 @@
+package ${package}.readmodel;
+
+import ${package}.event.UserChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Keeps the read models of all instances in sync. Every committed user write is announced
+ * on a Redis channel as {@code <node>:<id>}; the other instances re-read that one user.
+ * Messages are best effort: a missed one is repaired by the next restart's catch-up.
+ */
+public class ReadModelReplication implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelReplication.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final UserReadModel readModel;
+    private final String channel;
+
+    public ReadModelReplication(StringRedisTemplate redisTemplate, UserReadModel readModel, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.readModel = readModel;
+        this.channel = channel;
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + ":" + event.id());
+        } catch (RuntimeException e) {
+            logger.warn("Could not publish read model change for user {}: {}", event.id(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.regionMatches(0, nodeId, 0, separator)) {
+            return;
+        }
+        try {
+            readModel.refresh(Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            logger.warn("Could not apply read model change {}: {}", body, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ${package}.readmodel;
+
+import ${package}.domain.Role;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Interned role sets. Each user stores its roles as a bitmask; every distinct mask maps to
+ * one shared, unmodifiable {@link Set}, so a directory of millions of users holds only
+ * {@code 2^|Role|} set instances.
+ */
+final class RoleSets {
+
+    private static final Role[] ROLES = Role.values();
+    private static final Set<Role>[] INTERNED = intern();
+
+    private RoleSets() {
+    }
+
+    static int mask(Set<Role> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mask |= bit(role);
+            }
+        }
+        return mask;
+    }
+
+    static Set<Role> of(int mask) {
+        return INTERNED[mask];
+    }
+
+    static int bit(Role role) {
+        return 1 << role.ordinal();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Role>[] intern() {
+        if (ROLES.length > 8) {
+            throw new IllegalStateException("Role masks are stored in one byte");
+        }
+        Set<Role>[] sets = new Set[1 << ROLES.length];
+        for (int mask = 0; mask < sets.length; mask++) {
+            EnumSet<Role> set = EnumSet.noneOf(Role.class);
+            for (Role role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    set.add(role);
+                }
+            }
+            sets[mask] = Collections.unmodifiableSet(set);
+        }
+        return sets;
+    }
+}
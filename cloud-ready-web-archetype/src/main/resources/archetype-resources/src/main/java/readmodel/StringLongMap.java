@@ -0,0 +1,118 @@
+package ${package}.readmodel;
+
+/**
+ * Open-addressing hash map from strings to primitive {@code long} values, using linear
+ * probing and backward-shift deletion. Not thread-safe; see {@link UserDirectory}.
+ */
+final class StringLongMap {
+
+    private static final double LOAD_FACTOR = 0.6;
+
+    private String[] keys;
+    private long[] values;
+    private int size;
+    private int resizeAt;
+
+    StringLongMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    long get(String key, long missing) {
+        String[] k = keys;
+        long[] v = values;
+        int mask = k.length - 1;
+        int index = mix(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            String current = k[index];
+            if (current == null) {
+                return missing;
+            }
+            if (current.equals(key)) {
+                return v[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return missing;
+    }
+
+    void put(String key, long value) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    void remove(String key, long expectedValue) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                if (values[index] == expectedValue) {
+                    shiftBack(index, mask);
+                }
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void shiftBack(int index, int mask) {
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int ideal = mix(keys[next]) & mask;
+            boolean inRange = hole <= next ? hole < ideal && ideal <= next : hole < ideal || ideal <= next;
+            if (!inRange) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new long[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 8) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int mix(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
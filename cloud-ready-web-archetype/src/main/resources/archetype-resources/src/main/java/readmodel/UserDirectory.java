@@ -0,0 +1,142 @@
+package ${package}.readmodel;
+
+import ${package}.domain.User;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * The in-memory user directory: records keyed by id plus username and email indexes.
+ * Usernames and emails are indexed in {@link User#normalize normalized} form, so lookups are
+ * case-insensitive like the database's.
+ * Writers are serialized by a {@link StampedLock}; readers use optimistic reads and only
+ * fall back to the read lock when a write raced with them, so lookups never block in the
+ * common case.
+ */
+public class UserDirectory {
+
+    private static final long MISSING = 0L;
+
+    private final StampedLock lock = new StampedLock();
+    private final LongObjectMap<UserRecord> byId;
+    private final StringLongMap byUsername;
+    private final StringLongMap byEmail;
+
+    public UserDirectory(int expectedSize) {
+        this.byId = new LongObjectMap<>(expectedSize);
+        this.byUsername = new StringLongMap(expectedSize);
+        this.byEmail = new StringLongMap(expectedSize);
+    }
+
+    public UserRecord findById(long id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                UserRecord record = byId.get(id);
+                if (lock.validate(stamp)) {
+                    return record;
+                }
+            } catch (RuntimeException raced) {
+                // Saw a half-applied write; retry under the read lock below
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return byId.get(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public UserRecord findByUsername(String username) {
+        return findByKey(byUsername, User.normalize(username));
+    }
+
+    public UserRecord findByEmail(String email) {
+        return findByKey(byEmail, User.normalize(email));
+    }
+
+    public void upsert(UserRecord record) {
+        long stamp = lock.writeLock();
+        try {
+            UserRecord previous = byId.put(record.id(), record);
+            if (previous != null) {
+                byUsername.remove(User.normalize(previous.username()), previous.id());
+                byEmail.remove(User.normalize(previous.email()), previous.id());
+            }
+            byUsername.put(User.normalize(record.username()), record.id());
+            byEmail.put(User.normalize(record.email()), record.id());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            UserRecord previous = byId.remove(id);
+            if (previous != null) {
+                byUsername.remove(User.normalize(previous.username()), id);
+                byEmail.remove(User.normalize(previous.email()), id);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return byId.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Visits every record under the read lock. Writers wait until the visit completes.
+     */
+    public void forEach(Consumer<UserRecord> action) {
+        long stamp = lock.readLock();
+        try {
+            byId.forEachValue(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void forEachId(LongConsumer action) {
+        long stamp = lock.readLock();
+        try {
+            byId.forEachKey(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private UserRecord findByKey(StringLongMap index, String key) {
+        if (key == null) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                long id = index.get(key, MISSING);
+                UserRecord record = id != MISSING ? byId.get(id) : null;
+                if (lock.validate(stamp)) {
+                    return record;
+                }
+            } catch (RuntimeException raced) {
+                // Saw a half-applied write; retry under the read lock below
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            long id = index.get(key, MISSING);
+            return id != MISSING ? byId.get(id) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package ${package}.readmodel;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.UserRepository;
+import ${package}.repository.UserRoleView;
+import ${package}.repository.UserRowView;
+import ${package}.startup.IndexBuilds;
+import ${package}.startup.StartupIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Replicated, in-memory read model of the whole user directory. Restored from the
+ * snapshot file when one exists (followed by a catch-up query for rows changed since the
+ * snapshot and a reconcile pass for deleted ids), otherwise built from a streaming scan. Loaded
+ * in the background once the application is ready, see {@link IndexBuilds}.
+ * Kept current from committed {@link UserChangedEvent}s; other instances are kept in sync
+ * by {@link ReadModelReplication}. The snapshot is rewritten on shutdown.
+ */
+public class UserReadModel implements StartupIndex, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserReadModel.class);
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path snapshotPath;
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private volatile UserDirectory directory = new UserDirectory(0);
+    private volatile boolean ready;
+
+    public UserReadModel(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                         AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Reloads run from after-commit listeners, where the finished transaction is still bound
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotPath = Path.of(appProperties.getReadModel().getSnapshotPath());
+
+        Gauge.builder("app.readmodel.users", this, model -> model.directory.size())
+            .description("Users held in the in-memory read model")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String indexName() {
+        return "read-model";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        // The bean only exists when app.read-model.enabled is set
+        return true;
+    }
+
+    @Override
+    public void build() {
+        long started = System.nanoTime();
+        int expectedSize = (int) userRepository.count();
+        UserDirectory loaded = new UserDirectory(expectedSize);
+        boolean restored = restore(loaded);
+        if (!restored) {
+            loaded = new UserDirectory(expectedSize);
+            scan(loaded);
+        }
+        directory = loaded;
+        ready = true;
+
+        // Writes that committed while we were loading may have been overwritten by older rows
+        reloadChangedWhileLoading();
+
+        logger.info("User read model loaded {} users from {} in {} ms", loaded.size(),
+            restored ? "snapshot" : "database", (System.nanoTime() - started) / 1_000_000);
+        if (!restored) {
+            saveSnapshot();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!ready) {
+            changedWhileLoading.add(event.id());
+        }
+        synchronized (writeLock) {
+            if (event.after() != null) {
+                directory.upsert(UserRecord.from(event.after()));
+            } else {
+                directory.remove(event.id());
+            }
+        }
+        if (ready && !changedWhileLoading.isEmpty()) {
+            // The build may have drained the set before this id was added, or this write may have
+            // gone to the directory it replaced; either way the build no longer sees it
+            reloadChangedWhileLoading();
+        }
+    }
+
+    /**
+     * Re-reads one user from the database, e.g. after another instance changed it.
+     */
+    public void refresh(long id) {
+        // Queued even once ready, so a refresh that races the end of build() is not lost
+        changedWhileLoading.add(id);
+        if (ready) {
+            reloadChangedWhileLoading();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<UserDto> findById(long id) {
+        return toDto(directory.findById(id));
+    }
+
+    public Optional<UserDto> findByUsername(String username) {
+        return toDto(directory.findByUsername(username));
+    }
+
+    public Optional<UserDto> findByEmail(String email) {
+        return toDto(directory.findByEmail(email));
+    }
+
+    @Override
+    public void destroy() {
+        if (ready) {
+            saveSnapshot();
+        }
+    }
+
+    private boolean restore(UserDirectory target) {
+        if (!Files.isReadable(snapshotPath)) {
+            return false;
+        }
+        try {
+            DirectorySnapshot.Header header = DirectorySnapshot.read(snapshotPath, target);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                if (header.highWaterMark() != UserRecord.NO_TIME) {
+                    userRepository.findChangedSince(UserRecord.toDateTime(header.highWaterMark()))
+                        .forEach(user -> target.upsert(toRecord(user)));
+                }
+                removeDeleted(target);
+            });
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unusable read model snapshot {}: {}", snapshotPath, e.getMessage());
+            return false;
+        }
+    }
+
+    private void reloadChangedWhileLoading() {
+        Iterator<Long> ids = changedWhileLoading.iterator();
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            // Removed before reading, so an id added again afterwards is reloaded again
+            ids.remove();
+            reload(id);
+        }
+    }
+
+    // Holds the write lock across the read so a newer committed write cannot be overwritten by it
+    private void reload(long id) {
+        synchronized (writeLock) {
+            Optional<UserRecord> current = readOnlyTransaction.execute(status ->
+                userRepository.findById(id).map(UserReadModel::toRecord));
+            if (current != null && current.isPresent()) {
+                directory.upsert(current.get());
+            } else {
+                directory.remove(id);
+            }
+        }
+    }
+
+    private void removeDeleted(UserDirectory target) {
+        LongObjectMap<Object> live = new LongObjectMap<>(target.size());
+        try (Stream<Long> ids = userRepository.streamAllIds()) {
+            ids.forEach(id -> live.put(id, PRESENT));
+        }
+        LongStream.Builder deleted = LongStream.builder();
+        target.forEachId(id -> {
+            if (live.get(id) == null) {
+                deleted.add(id);
+            }
+        });
+        deleted.build().forEach(target::remove);
+    }
+
+    private void scan(UserDirectory target) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserRowView> rows = userRepository.streamAllByOrderByIdAsc();
+                 Stream<UserRoleView> roles = userRepository.streamAllRoles()) {
+                Iterator<UserRoleView> roleIterator = roles.iterator();
+                UserRoleView role = roleIterator.hasNext() ? roleIterator.next() : null;
+                Iterator<UserRowView> rowIterator = rows.iterator();
+                while (rowIterator.hasNext()) {
+                    UserRowView row = rowIterator.next();
+                    long id = row.getId();
+                    int mask = 0;
+                    // Both cursors are ordered by user id, so roles merge in a single pass
+                    while (role != null && role.getUserId() <= id) {
+                        if (role.getUserId() == id) {
+                            mask |= RoleSets.bit(role.getRole());
+                        }
+                        role = roleIterator.hasNext() ? roleIterator.next() : null;
+                    }
+                    target.upsert(new UserRecord(id, row.getUsername(), row.getEmail(), row.getFirstName(),
+                        row.getLastName(), !Boolean.FALSE.equals(row.getEnabled()), (byte) mask,
+                        UserRecord.toEpochMillis(row.getCreatedAt()), UserRecord.toEpochMillis(row.getUpdatedAt())));
+                }
+            }
+        });
+    }
+
+    private void saveSnapshot() {
+        try {
+            long started = System.nanoTime();
+            DirectorySnapshot.Header header = DirectorySnapshot.write(directory, snapshotPath);
+            logger.info("Wrote read model snapshot of {} users to {} in {} ms", header.records(), snapshotPath,
+                (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            logger.warn("Could not write read model snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private static UserRecord toRecord(User user) {
+        return new UserRecord(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+            user.getLastName(), !Boolean.FALSE.equals(user.getEnabled()), (byte) RoleSets.mask(user.getRoles()),
+            UserRecord.toEpochMillis(user.getCreatedAt()), UserRecord.toEpochMillis(user.getUpdatedAt()));
+    }
+
+    private static Optional<UserDto> toDto(UserRecord record) {
+        return record != null ? Optional.of(record.toDto()) : Optional.empty();
+    }
+}
@@ -0,0 +1,48 @@
+package ${package}.readmodel;
+
+import ${package}.dto.UserDto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact, immutable row of the user directory. Roles are a bitmask into {@link RoleSets}
+ * and timestamps are UTC epoch milliseconds ({@link #NO_TIME} when absent).
+ */
+public record UserRecord(long id, String username, String email, String firstName, String lastName,
+                         boolean enabled, byte roles, long createdAt, long updatedAt) {
+
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    public static UserRecord from(UserDto dto) {
+        return new UserRecord(dto.getId(), dto.getUsername(), dto.getEmail(), dto.getFirstName(),
+            dto.getLastName(), !Boolean.FALSE.equals(dto.getEnabled()), (byte) RoleSets.mask(dto.getRoles()),
+            toEpochMillis(dto.getCreatedAt()), toEpochMillis(dto.getUpdatedAt()));
+    }
+
+    public UserDto toDto() {
+        return UserDto.builder()
+            .id(id)
+            .username(username)
+            .email(email)
+            .firstName(firstName)
+            .lastName(lastName)
+            .fullName(firstName + " " + lastName)
+            .enabled(enabled)
+            .roles(RoleSets.of(roles & 0xFF))
+            .createdAt(toDateTime(createdAt))
+            .updatedAt(toDateTime(updatedAt))
+            .build();
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIME;
+    }
+
+    static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis != NO_TIME
+            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC)
+            : null;
+    }
+}
@@ -0,0 +1,17 @@
+package ${package}.repository;
+
+import ${package}.domain.ChangeFeedState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeFeedStateRepository extends JpaRepository<ChangeFeedState, Integer> {
+
+    // Held by the tombstone purge until commit, so purges on several instances never lower purgedThrough
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChangeFeedState> findWithLockById(Integer id);
+}
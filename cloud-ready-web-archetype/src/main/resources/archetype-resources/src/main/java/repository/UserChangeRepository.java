@@ -0,0 +1,39 @@
+package ${package}.repository;
+
+import ${package}.domain.UserChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserChangeRepository extends JpaRepository<UserChange, Long> {
+
+    // Transactions below the snapshot's xmin have all finished, so no change can still commit
+    // behind the last one returned. Both bounds are evaluated against the same snapshot.
+    @Query(value = "SELECT * FROM user_changes " +
+                   "WHERE (txid, user_id) > (:txid, :userId) " +
+                   "AND txid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+                   "ORDER BY txid, user_id LIMIT :limit", nativeQuery = true)
+    List<UserChange> findAfter(@Param("txid") long txid, @Param("userId") long userId, @Param("limit") int limit);
+
+    // Tags the row with the writing transaction's id, which is assigned by the user write anyway
+    @Modifying
+    @Query(value = "INSERT INTO user_changes (user_id, txid, change_type, changed_at) " +
+                   "VALUES (:userId, pg_current_xact_id()::text::bigint, :type, :changedAt) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET txid = EXCLUDED.txid, " +
+                   "change_type = EXCLUDED.change_type, changed_at = EXCLUDED.changed_at", nativeQuery = true)
+    void record(@Param("userId") long userId, @Param("type") String type, @Param("changedAt") LocalDateTime changedAt);
+
+    @Query("SELECT MAX(c.txid) FROM UserChange c WHERE c.type = :type AND c.changedAt < :cutoff")
+    Optional<Long> findLastTxidBefore(@Param("type") UserChange.Type type, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM UserChange c WHERE c.type = :type AND c.txid <= :through")
+    int deleteThrough(@Param("type") UserChange.Type type, @Param("through") long through);
+}
@@ -0,0 +1,10 @@
+package ${package}.repository;
+
+public interface UserKeyView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,17 @@
+package ${package}.repository;
+
+import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+public interface UserProjectionRepository {
+
+    /**
+     * Loads one page selecting only the columns behind {@code fields}, optionally narrowed by the
+     * contains-search predicate. Roles are read by a second query, and only when requested.
+     */
+    List<UserDto> findProjectedPage(String search, Set<UserField> fields, Pageable pageable);
+}
@@ -0,0 +1,93 @@
+package ${package}.repository;
+
+import ${package}.domain.Role;
+import ${package}.dto.ProjectedUserDto;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class UserProjectionRepositoryImpl implements UserProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserDto> findProjectedPage(String search, Set<UserField> fields, Pageable pageable) {
+        // Attribute names come from the UserField enum and sorts from SortRegistry, never from the client
+        Set<String> attributes = new LinkedHashSet<>();
+        fields.forEach(field -> attributes.addAll(field.attributes()));
+        attributes.add("id");
+        String select = attributes.stream()
+            .map(attribute -> "u." + attribute + " AS " + attribute)
+            .collect(Collectors.joining(", "));
+        String jpql = "SELECT " + select + " FROM User u" +
+            (search != null ? " WHERE " + UserRepository.SEARCH_PREDICATE : "");
+        jpql = QueryUtils.applySorting(jpql, pageable.getSort(), "u");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        if (search != null) {
+            query.setParameter("search", search);
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        List<Tuple> rows = query.getResultList();
+        List<UserDto> users = new ArrayList<>(rows.size());
+        Map<Long, UserDto> byId = new HashMap<>();
+        for (Tuple row : rows) {
+            UserDto user = toDto(row, fields);
+            users.add(user);
+            byId.put(user.getId(), user);
+        }
+        if (fields.contains(UserField.ROLES) && !byId.isEmpty()) {
+            loadRoles(byId);
+        }
+        return users;
+    }
+
+    private void loadRoles(Map<Long, UserDto> byId) {
+        byId.values().forEach(user -> user.setRoles(EnumSet.noneOf(Role.class)));
+        entityManager.createQuery("SELECT u.id AS userId, r AS role FROM User u JOIN u.roles r WHERE u.id IN :ids",
+                Tuple.class)
+            .setParameter("ids", byId.keySet())
+            .getResultList()
+            .forEach(row -> byId.get(row.get("userId", Long.class)).getRoles().add(row.get("role", Role.class)));
+    }
+
+    private static UserDto toDto(Tuple row, Set<UserField> fields) {
+        UserDto user = new ProjectedUserDto();
+        user.setId(row.get("id", Long.class));
+        for (UserField field : fields) {
+            switch (field) {
+                case USERNAME -> user.setUsername(row.get("username", String.class));
+                case EMAIL -> user.setEmail(row.get("email", String.class));
+                case FIRST_NAME -> user.setFirstName(row.get("firstName", String.class));
+                case LAST_NAME -> user.setLastName(row.get("lastName", String.class));
+                case FULL_NAME -> user.setFullName(row.get("firstName", String.class) + " " +
+                    row.get("lastName", String.class));
+                case ENABLED -> user.setEnabled(row.get("enabled", Boolean.class));
+                case CREATED_AT -> user.setCreatedAt(row.get("createdAt", LocalDateTime.class));
+                case UPDATED_AT -> user.setUpdatedAt(row.get("updatedAt", LocalDateTime.class));
+                case ID, ROLES -> {
+                    // id is always selected; roles are loaded separately
+                }
+            }
+        }
+        return user;
+    }
+}
@@ -2,38 +2,108 @@ package ${package}.repository;
 
 import ${package}.domain.User;
 import ${package}.domain.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserProjectionRepository {
 
-    Optional<User> findByUsername(String username);
+    String SEARCH_PREDICATE =
+           "(:search IS NULL OR " +
+           "LOWER(u.username) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')))";
 
-    Optional<User> findByEmail(String email);
+    Optional<User> findByUsernameLower(String usernameLower);
 
-    boolean existsByUsername(String username);
+    Optional<User> findByEmailLower(String emailLower);
 
-    boolean existsByEmail(String email);
+    boolean existsByUsernameLower(String usernameLower);
+
+    boolean existsByEmailLower(String emailLower);
 
     @Query("SELECT u FROM User u WHERE u.enabled = true")
     Page<User> findAllEnabled(Pageable pageable);
 
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r IN :roles")
+    @Query(value = "SELECT DISTINCT u FROM User u JOIN u.roles r WHERE r IN :roles",
+           countQuery = "SELECT COUNT(DISTINCT u) FROM User u JOIN u.roles r WHERE r IN :roles")
     Page<User> findByRolesIn(@Param("roles") Set<Role> roles, Pageable pageable);
 
-    @Query("SELECT u FROM User u WHERE " +
-           "(:search IS NULL OR " +
-           "LOWER(u.username) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')))")
+    @Query("SELECT u FROM User u WHERE " + SEARCH_PREDICATE)
     Page<User> findBySearchTerm(@Param("search") String search, Pageable pageable);
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE " + SEARCH_PREDICATE)
+    Slice<User> findSliceBySearchTerm(@Param("search") String search, Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE " + SEARCH_PREDICATE)
+    long countBySearchTerm(@Param("search") String search);
+
+    // Keyset pages by primary key: each page starts where the last one ended instead of skipping rows
+    @Query("SELECT u FROM User u WHERE u.id > :afterId AND " + SEARCH_PREDICATE + " ORDER BY u.id ASC")
+    List<User> findAfterId(@Param("afterId") long afterId, @Param("search") String search, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.id < :beforeId AND " + SEARCH_PREDICATE + " ORDER BY u.id DESC")
+    List<User> findBeforeId(@Param("beforeId") long beforeId, @Param("search") String search, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserKeyView> streamAllBy();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserRowView> streamAllByOrderByIdAsc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.id AS userId, r AS role FROM User u JOIN u.roles r ORDER BY u.id")
+    Stream<UserRoleView> streamAllRoles();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.id FROM User u")
+    Stream<Long> streamAllIds();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserRowView> streamByIdBetween(Long from, Long to);
+
+    @Query("SELECT MIN(u.id) FROM User u")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Optional<Long> findMaxId();
+
+    // First page of the recent-users feed when no upper bound is given, newest first
+    @Query("SELECT u FROM User u WHERE u.createdAt >= :from ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findCreatedSince(@Param("from") LocalDateTime from, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.updatedAt >= :from ORDER BY u.updatedAt DESC, u.id DESC")
+    List<User> findUpdatedSince(@Param("from") LocalDateTime from, Pageable pageable);
+
+    // Keyset pages of the recent-users feed, newest first. The (col, id) indexes serve both the
+    // range and the order; the redundant "<=" lets the planner use a plain range scan.
+    @Query("SELECT u FROM User u WHERE u.createdAt >= :from AND u.createdAt <= :beforeTime " +
+           "AND (u.createdAt < :beforeTime OR u.id < :beforeId) ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findCreatedBefore(@Param("from") LocalDateTime from, @Param("beforeTime") LocalDateTime beforeTime,
+                                 @Param("beforeId") long beforeId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.updatedAt >= :from AND u.updatedAt <= :beforeTime " +
+           "AND (u.updatedAt < :beforeTime OR u.id < :beforeId) ORDER BY u.updatedAt DESC, u.id DESC")
+    List<User> findUpdatedBefore(@Param("from") LocalDateTime from, @Param("beforeTime") LocalDateTime beforeTime,
+                                 @Param("beforeId") long beforeId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.createdAt >= :since OR u.updatedAt >= :since")
+    List<User> findChangedSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ${package}.repository;
+
+import ${package}.domain.Role;
+
+public interface UserRoleView {
+
+    Long getUserId();
+
+    Role getRole();
+}
@@ -0,0 +1,22 @@
+package ${package}.repository;
+
+import java.time.LocalDateTime;
+
+public interface UserRowView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Boolean getEnabled();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,126 @@
+package ${package}.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mapping between users and Lucene documents, and the ranked, typo-tolerant query used to
+ * search them. Usernames and emails are split on punctuation before analysis so that
+ * {@code john.doe@example.com} is found by {@code doe} or {@code example}.
+ */
+final class UserDocuments {
+
+    static final String ID = "id";
+    static final String USERNAME = "username";
+    static final String EMAIL = "email";
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+
+    private static final String[] FIELDS = {USERNAME, EMAIL, FIRST_NAME, LAST_NAME};
+    private static final float[] BOOSTS = {3.0f, 2.0f, 1.5f, 1.5f};
+    private static final Set<String> ID_ONLY = Set.of(ID);
+
+    private UserDocuments() {
+    }
+
+    static Document toDocument(long id, String username, String email, String firstName, String lastName) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(id), Field.Store.YES));
+        document.add(new TextField(USERNAME, words(username), Field.Store.NO));
+        document.add(new TextField(EMAIL, words(email), Field.Store.NO));
+        document.add(new TextField(FIRST_NAME, nullToEmpty(firstName), Field.Store.NO));
+        document.add(new TextField(LAST_NAME, nullToEmpty(lastName), Field.Store.NO));
+        return document;
+    }
+
+    static Term idTerm(long id) {
+        return new Term(ID, Long.toString(id));
+    }
+
+    static long id(StoredFields storedFields, int doc) throws IOException {
+        return Long.parseLong(storedFields.document(doc, ID_ONLY).get(ID));
+    }
+
+    /**
+     * Every query token must match some field. A token scores highest as an exact term,
+     * then as a fuzzy match (one edit up to four characters, two beyond); the last token
+     * also matches as a prefix so results follow the user while typing. Returns
+     * {@code null} when the text has no searchable tokens.
+     */
+    static Query query(Analyzer analyzer, String text) {
+        List<String> tokens = tokens(analyzer, words(text));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            boolean last = i == tokens.size() - 1;
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            for (int f = 0; f < FIELDS.length; f++) {
+                Term term = new Term(FIELDS[f], token);
+                any.add(new BoostQuery(new TermQuery(term), BOOSTS[f] * 2), BooleanClause.Occur.SHOULD);
+                if (token.length() >= 3) {
+                    int maxEdits = token.length() <= 4 ? 1 : 2;
+                    any.add(new BoostQuery(new FuzzyQuery(term, maxEdits, 1), BOOSTS[f]), BooleanClause.Occur.SHOULD);
+                }
+                if (last) {
+                    any.add(new BoostQuery(new PrefixQuery(term), BOOSTS[f]), BooleanClause.Occur.SHOULD);
+                }
+            }
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    private static List<String> tokens(Analyzer analyzer, String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(USERNAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static String words(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder words = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            words.append(Character.isLetterOrDigit(c) ? c : ' ');
+        }
+        return words.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,406 @@
+package ${package}.search;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.exception.SearchUnavailableException;
+import ${package}.repository.UserRepository;
+import ${package}.repository.UserRowView;
+import ${package}.startup.IndexBuilds;
+import ${package}.startup.StartupIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over username, email, first and last name. Committed user writes
+ * are applied to the {@link IndexWriter} immediately and become searchable on the next
+ * near-real-time refresh; durable commits are batched on a separate, longer interval and
+ * record the latest change time seen, so a restart only re-indexes rows changed since.
+ * A full rebuild streams {@code users} in parallel id ranges. Opening, catching up and
+ * rebuilding run in the background once the application is ready, see {@link IndexBuilds}.
+ */
+@Component
+public class UserSearchIndex implements StartupIndex, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+    private static final String HIGH_WATER_MARK = "highWaterMark";
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    public record Hits(List<Long> ids, long total) {
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AppProperties.Search config;
+    private final Timer queryTimer;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final AtomicLong highWaterMark = new AtomicLong(NO_TIME);
+    private final AtomicBoolean uncommitted = new AtomicBoolean();
+    private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    // Set by the background build and read by request and shutdown threads
+    private volatile Directory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                           AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.config = appProperties.getSearch();
+        this.queryTimer = Timer.builder("app.search.query")
+            .description("Full-text user search latency")
+            .register(meterRegistry);
+
+        Gauge.builder("app.search.documents", this, index -> index.writer != null ? index.writer.getDocStats().numDocs : 0)
+            .description("Documents in the full-text user index")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String indexName() {
+        return "search";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public void build() {
+        try {
+            directory = "memory".equalsIgnoreCase(config.getStore())
+                ? new ByteBuffersDirectory()
+                : new MMapDirectory(Path.of(config.getIndexPath()));
+            IndexWriterConfig writerConfig = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(64);
+            writer = new IndexWriter(directory, writerConfig);
+            searcherManager = new SearcherManager(writer, null);
+            highWaterMark.set(committedHighWaterMark());
+
+            scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("search-index-refresh-"));
+            long refreshMillis = config.getRefreshInterval().toMillis();
+            long commitMillis = config.getCommitInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+            scheduler.scheduleWithFixedDelay(this::commit, commitMillis, commitMillis, TimeUnit.MILLISECONDS);
+
+            if (config.isRebuildOnStartup() || !catchUp()) {
+                rebuild();
+            } else {
+                ready = true;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Full-text search index unavailable", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (writer == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedWhileRebuilding.add(event.id());
+            if (!rebuilding) {
+                // The rebuild may have drained the set before this id was added
+                reindexChangedWhileRebuilding();
+            }
+            return;
+        }
+        try {
+            if (event.after() != null) {
+                UserDto user = event.after();
+                index(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                    user.getCreatedAt(), user.getUpdatedAt());
+            } else {
+                writer.deleteDocuments(UserDocuments.idTerm(event.id()));
+                uncommitted.set(true);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not index change to user {}: {}", event.id(), e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Runs a ranked full-text query and returns the ids of the requested page in score
+     * order, plus the exact total. Pages beyond {@code app.search.max-window} are empty.
+     */
+    public Hits search(String text, Pageable pageable) {
+        if (!ready) {
+            throw new SearchUnavailableException("Full-text search index is not ready");
+        }
+        Query query = UserDocuments.query(analyzer, text);
+        if (query == null) {
+            return new Hits(List.of(), 0);
+        }
+        int from = (int) Math.min(pageable.getOffset(), config.getMaxWindow());
+        int numHits = Math.min(from + pageable.getPageSize(), config.getMaxWindow());
+        return queryTimer.record(() -> {
+            try {
+                IndexSearcher searcher = searcherManager.acquire();
+                try {
+                    TopDocs top = searcher.search(query,
+                        TopScoreDocCollector.createSharedManager(Math.max(numHits, 1), null, Integer.MAX_VALUE));
+                    StoredFields storedFields = searcher.storedFields();
+                    ScoreDoc[] scoreDocs = top.scoreDocs;
+                    List<Long> ids = new ArrayList<>(Math.max(0, scoreDocs.length - from));
+                    for (int i = from; i < scoreDocs.length; i++) {
+                        ids.add(UserDocuments.id(storedFields, scoreDocs[i].doc));
+                    }
+                    return new Hits(ids, top.totalHits.value);
+                } finally {
+                    searcherManager.release(searcher);
+                }
+            } catch (IOException e) {
+                throw new SearchUnavailableException("Full-text search failed", e);
+            }
+        });
+    }
+
+    /**
+     * Replaces the index contents with a parallel scan of {@code users}. Writes that commit
+     * during the scan are re-applied from the database afterwards.
+     */
+    public synchronized void rebuild() throws IOException {
+        rebuilding = true;
+        ready = false;
+        long started = System.nanoTime();
+        writer.deleteAll();
+        highWaterMark.set(NO_TIME);
+
+        Optional<Long> min = readOnlyTransaction.execute(status -> userRepository.findMinId());
+        Optional<Long> max = readOnlyTransaction.execute(status -> userRepository.findMaxId());
+        AtomicInteger indexed = new AtomicInteger();
+        if (min != null && min.isPresent() && max != null && max.isPresent()) {
+            int threads = config.getRebuildThreads();
+            long span = Math.max(1, (max.get() - min.get() + 1 + threads * 4L - 1) / (threads * 4L));
+            ExecutorService pool = Executors.newFixedThreadPool(threads, daemonThreads("search-rebuild-"));
+            try {
+                List<Future<?>> parts = new ArrayList<>();
+                for (long from = min.get(); from <= max.get(); from += span) {
+                    long lower = from;
+                    long upper = Math.min(from + span - 1, max.get());
+                    parts.add(pool.submit(() -> indexRange(lower, upper, indexed)));
+                }
+                for (Future<?> part : parts) {
+                    part.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Search index rebuild interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Search index rebuild failed", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        uncommitted.set(true);
+        commit();
+
+        rebuilding = false;
+        reindexChangedWhileRebuilding();
+        searcherManager.maybeRefreshBlocking();
+        ready = true;
+        logger.info("Full-text index rebuilt with {} users using {} threads in {} ms", indexed.get(),
+            config.getRebuildThreads(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void indexRange(long from, long to, AtomicInteger indexed) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserRowView> rows = userRepository.streamByIdBetween(from, to)) {
+                rows.forEach(row -> {
+                    try {
+                        writer.addDocument(UserDocuments.toDocument(row.getId(), row.getUsername(), row.getEmail(),
+                            row.getFirstName(), row.getLastName()));
+                        advanceHighWaterMark(row.getCreatedAt(), row.getUpdatedAt());
+                        indexed.incrementAndGet();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Re-indexes rows changed since the last durable commit. Returns false when the index
+     * has to be rebuilt instead: it is empty, has no commit marker, or its document count
+     * no longer matches the table (users were deleted while this instance was down).
+     */
+    private boolean catchUp() throws IOException {
+        if (highWaterMark.get() == NO_TIME || writer.getDocStats().numDocs == 0) {
+            return false;
+        }
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(highWaterMark.get()), ZoneOffset.UTC);
+        List<User> changed = readOnlyTransaction.execute(status -> userRepository.findChangedSince(since));
+        if (changed != null) {
+            for (User user : changed) {
+                index(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                    user.getCreatedAt(), user.getUpdatedAt());
+            }
+        }
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            long documents = searcher.getIndexReader().numDocs();
+            Long rows = readOnlyTransaction.execute(status -> userRepository.count());
+            logger.info("Full-text index caught up {} changed users ({} documents, {} rows)",
+                changed != null ? changed.size() : 0, documents, rows);
+            return rows != null && documents == rows;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private void reindexChangedWhileRebuilding() {
+        Iterator<Long> ids = changedWhileRebuilding.iterator();
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            // Removed before reading, so an id added again afterwards is re-indexed again
+            ids.remove();
+            reindex(id);
+        }
+    }
+
+    private void reindex(long id) {
+        try {
+            Optional<User> user = readOnlyTransaction.execute(status -> userRepository.findById(id));
+            if (user != null && user.isPresent()) {
+                User u = user.get();
+                index(u.getId(), u.getUsername(), u.getEmail(), u.getFirstName(), u.getLastName(),
+                    u.getCreatedAt(), u.getUpdatedAt());
+            } else {
+                writer.deleteDocuments(UserDocuments.idTerm(id));
+                uncommitted.set(true);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not re-index user {}: {}", id, e.getMessage());
+        }
+    }
+
+    private void index(long id, String username, String email, String firstName, String lastName,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) throws IOException {
+        writer.updateDocument(UserDocuments.idTerm(id),
+            UserDocuments.toDocument(id, username, email, firstName, lastName));
+        advanceHighWaterMark(createdAt, updatedAt);
+        uncommitted.set(true);
+    }
+
+    private void advanceHighWaterMark(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        for (LocalDateTime time : new LocalDateTime[] {createdAt, updatedAt}) {
+            if (time != null) {
+                long millis = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+                highWaterMark.accumulateAndGet(millis, Math::max);
+            }
+        }
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Full-text index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void commit() {
+        if (!uncommitted.getAndSet(false)) {
+            return;
+        }
+        try {
+            writer.setLiveCommitData(Map.of(HIGH_WATER_MARK, Long.toString(highWaterMark.get())).entrySet());
+            writer.commit();
+        } catch (IOException | RuntimeException e) {
+            uncommitted.set(true);
+            logger.warn("Full-text index commit failed: {}", e.getMessage());
+        }
+    }
+
+    private long committedHighWaterMark() {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (HIGH_WATER_MARK.equals(entry.getKey())) {
+                return Long.parseLong(entry.getValue());
+            }
+        }
+        return NO_TIME;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
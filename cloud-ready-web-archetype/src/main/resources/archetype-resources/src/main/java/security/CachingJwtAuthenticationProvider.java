@@ -0,0 +1,165 @@
+package ${package}.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bearer token authentication that remembers verification results. The first request with a
+ * token pays for decoding, signature verification, claim validation and authority mapping; later
+ * requests with the same token reuse the result until the token expires (capped at
+ * {@code maxTtl}). Tokens that fail verification are remembered for {@code failureTtl} so a
+ * client retrying a bad token cannot make every retry verify a signature again.
+ *
+ * <p>Entries are keyed by the SHA-256 of the token, so raw tokens are not kept in memory.
+ * Concurrent requests with an unseen token wait for a single verification. Failures of the key
+ * source itself are not cached.
+ */
+public class CachingJwtAuthenticationProvider implements AuthenticationProvider {
+
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+    private record Verification(JwtAuthenticationToken authentication, String failure, Duration ttl) {
+    }
+
+    private final JwtDecoder jwtDecoder;
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter;
+    private final Duration maxTtl;
+    private final Duration failureTtl;
+    private final Clock clock;
+    private final Cache<TokenKey, Verification> verifications;
+
+    public CachingJwtAuthenticationProvider(JwtDecoder jwtDecoder,
+                                            Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                                            int maximumSize, Duration maxTtl, Duration failureTtl,
+                                            MeterRegistry meterRegistry) {
+        this(jwtDecoder, authenticationConverter, maximumSize, maxTtl, failureTtl, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationProvider(JwtDecoder jwtDecoder,
+                                     Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                                     int maximumSize, Duration maxTtl, Duration failureTtl,
+                                     MeterRegistry meterRegistry, Clock clock) {
+        this.jwtDecoder = jwtDecoder;
+        this.authenticationConverter = authenticationConverter;
+        this.maxTtl = maxTtl;
+        this.failureTtl = failureTtl;
+        this.clock = clock;
+        this.verifications = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<TokenKey, Verification>() {
+                @Override
+                public long expireAfterCreate(TokenKey key, Verification verification, long currentTime) {
+                    return verification.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenKey key, Verification verification, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(TokenKey key, Verification verification, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifications, "jwtVerifications");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+        JwtAuthenticationToken verified = authenticate(bearer.getToken());
+        // The cached token is shared; hand out a copy so request details never leak between requests
+        JwtAuthenticationToken result =
+            new JwtAuthenticationToken(verified.getToken(), verified.getAuthorities(), verified.getName());
+        result.setDetails(bearer.getDetails());
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return BearerTokenAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Verifies a raw bearer token, answering from the cache when possible. The returned
+     * authentication is shared and must not be modified.
+     */
+    public JwtAuthenticationToken authenticate(String token) {
+        Verification verification = verifications.get(TokenKey.of(token), key -> verify(token));
+        if (verification.failure() != null) {
+            throw new InvalidBearerTokenException(verification.failure());
+        }
+        return verification.authentication();
+    }
+
+    private Verification verify(String token) {
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (BadJwtException e) {
+            return new Verification(null, e.getMessage(), failureTtl);
+        } catch (JwtException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+        AbstractAuthenticationToken converted = authenticationConverter.convert(jwt);
+        JwtAuthenticationToken authentication = converted instanceof JwtAuthenticationToken jwtToken
+            ? jwtToken
+            : new JwtAuthenticationToken(jwt, converted.getAuthorities(), converted.getName());
+        return new Verification(authentication, null, ttl(jwt));
+    }
+
+    private Duration ttl(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(clock.instant(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package ${package}.security;
+
+import ${package}.config.AppProperties;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Signing keys of the token issuer, kept locally so neither startup nor the request path waits
+ * on the issuer. Keys are read from a snapshot file at construction and refreshed in the
+ * background every {@code refresh-interval} (plus up to {@code refresh-jitter}, so replicas
+ * do not fetch in lockstep). Every successful fetch rewrites the snapshot.
+ *
+ * <p>A token signed with a key that is not known yet, typically right after rotation, triggers
+ * one fetch that concurrent requests share, at most once per {@code unknown-key-interval} so
+ * tokens with made-up key ids cannot be used to flood the issuer. Failed fetches never discard
+ * keys: while the issuer is down, tokens signed with known keys keep validating.
+ *
+ * <p>Stopping, as Spring does before a CRaC checkpoint, ends the refresh and drops the HTTP client
+ * along with its pooled connections to the issuer. The keys stay cached, so a restored instance
+ * validates tokens at once. It also fetches right away, because the checkpoint may be much older
+ * than {@code refresh-interval}.
+ */
+public class JwkStore implements JWKSource<SecurityContext>, Lifecycle, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwkStore.class);
+
+    private final URI jwkSetUri;
+    private final Path snapshot;
+    private final AppProperties.Jwk config;
+    private final Counter fetches;
+    private final Counter fetchFailures;
+    private final Object fetchLock = new Object();
+
+    private volatile HttpClient http;
+
+    private volatile JWKSet keys = new JWKSet();
+    private CompletableFuture<JWKSet> inFlight;
+    private long nextUnknownKeyFetch = System.nanoTime();
+    private volatile ScheduledExecutorService scheduler;
+    private boolean restarted;
+
+    public JwkStore(URI jwkSetUri, AppProperties.Jwk config, MeterRegistry meterRegistry) {
+        this.jwkSetUri = jwkSetUri;
+        this.snapshot = config.getSnapshotPath() != null && !config.getSnapshotPath().isBlank()
+            ? Path.of(config.getSnapshotPath())
+            : null;
+        this.config = config;
+        this.http = newClient();
+        this.fetches = Counter.builder("app.jwk.fetches")
+            .description("JWK set downloads from the issuer")
+            .register(meterRegistry);
+        this.fetchFailures = Counter.builder("app.jwk.fetch.failures")
+            .description("JWK set downloads that failed; cached keys stayed in use")
+            .register(meterRegistry);
+        Gauge.builder("app.jwk.keys", this, store -> store.keys.getKeys().size())
+            .description("Signing keys currently known")
+            .register(meterRegistry);
+        loadSnapshot();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jwk-refresh-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        // Without a snapshot there is nothing to validate with yet, and after a restart the
+        // cached keys may be arbitrarily old, so fetch right away
+        scheduleRefresh(keys.getKeys().isEmpty() || restarted ? Duration.ZERO : config.getRefreshInterval());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        synchronized (fetchLock) {
+            if (inFlight != null) {
+                // Waiters give up; the next refresh starts a fetch over the new client
+                inFlight.cancel(true);
+                inFlight = null;
+            }
+        }
+        // The JDK 17 client cannot be closed; its connections close once it is unreachable
+        http = newClient();
+        restarted = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        List<JWK> matches = selector.select(keys);
+        if (matches.isEmpty() && refreshForUnknownKey()) {
+            matches = selector.select(keys);
+        }
+        return matches;
+    }
+
+    /** Fetches the key set now, or joins a fetch already in progress. */
+    public boolean refresh() {
+        return await(fetch());
+    }
+
+    int size() {
+        return keys.getKeys().size();
+    }
+
+    private boolean refreshForUnknownKey() {
+        CompletableFuture<JWKSet> fetch;
+        synchronized (fetchLock) {
+            if (inFlight == null && System.nanoTime() - nextUnknownKeyFetch < 0) {
+                return false;
+            }
+            nextUnknownKeyFetch = System.nanoTime() + config.getUnknownKeyInterval().toNanos();
+            fetch = fetch();
+        }
+        return await(fetch);
+    }
+
+    private CompletableFuture<JWKSet> fetch() {
+        synchronized (fetchLock) {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            fetches.increment();
+            HttpRequest request = HttpRequest.newBuilder(jwkSetUri)
+                .timeout(config.getFetchTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+            // Keys are swapped in before the returned future completes, so waiters see them
+            CompletableFuture<JWKSet> fetch = new CompletableFuture<>();
+            http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(JwkStore::parse)
+                .whenComplete((fetched, error) -> {
+                    if (error == null) {
+                        keys = fetched;
+                    }
+                    synchronized (fetchLock) {
+                        // A fetch abandoned by stop() must not clear the one started after it
+                        if (inFlight == fetch) {
+                            inFlight = null;
+                        }
+                    }
+                    if (error != null) {
+                        fetchFailures.increment();
+                        logger.warn("Fetching JWK set from {} failed, keeping {} cached keys: {}",
+                            jwkSetUri, size(), error.getMessage());
+                        fetch.completeExceptionally(error);
+                    } else {
+                        writeSnapshot(fetched);
+                        fetch.complete(fetched);
+                    }
+                });
+            if (!fetch.isDone()) {
+                inFlight = fetch;
+            }
+            return fetch;
+        }
+    }
+
+    private boolean await(CompletableFuture<JWKSet> fetch) {
+        try {
+            fetch.get(config.getFetchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException | CancellationException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void refreshAndReschedule() {
+        boolean refreshed = refresh();
+        scheduleRefresh(refreshed ? config.getRefreshInterval() : config.getRetryInterval());
+    }
+
+    private void scheduleRefresh(Duration interval) {
+        ScheduledExecutorService running = scheduler;
+        if (running == null) {
+            return;
+        }
+        long delay = interval.toMillis();
+        long jitter = config.getRefreshJitter().toMillis();
+        // A zero interval means fetch now; otherwise only ever delay, never fire early
+        if (delay > 0 && jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        try {
+            running.schedule(this::refreshAndReschedule, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException stopped) {
+            // Stopped while a refresh was running; start() schedules the next one
+        }
+    }
+
+    private HttpClient newClient() {
+        return HttpClient.newBuilder().connectTimeout(config.getFetchTimeout()).build();
+    }
+
+    private static JWKSet parse(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new CompletionException(new IOException("HTTP " + response.statusCode()));
+        }
+        try {
+            JWKSet fetched = JWKSet.parse(response.body()).toPublicJWKSet();
+            if (fetched.getKeys().isEmpty()) {
+                // Never let an empty answer wipe out keys that still verify live tokens
+                throw new CompletionException(new IOException("Empty JWK set"));
+            }
+            return fetched;
+        } catch (ParseException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void loadSnapshot() {
+        if (snapshot == null || !Files.isReadable(snapshot)) {
+            logger.info("No JWK snapshot at {}, keys will be fetched from {}", snapshot, jwkSetUri);
+            return;
+        }
+        try {
+            keys = JWKSet.load(snapshot.toFile()).toPublicJWKSet();
+            logger.info("Loaded {} signing keys from {}", size(), snapshot);
+        } catch (IOException | ParseException e) {
+            logger.warn("Ignoring unreadable JWK snapshot {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    private void writeSnapshot(JWKSet fetched) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Path parent = snapshot.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshot.getFileName().toString(), ".tmp");
+            Files.writeString(temp, fetched.toString(true));
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write JWK snapshot {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+}
@@ -1,40 +1,25 @@
 package ${package}.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
-import ${package}.dto.ErrorResponseDto;
+import ${package}.exception.ErrorBody;
 import java.io.IOException;
-import java.time.LocalDateTime;
 
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
-
-    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
+    // Fully pre-encoded: 401s come in storms, so they should not pay for serialization each time
+    private static final ErrorBody UNAUTHORIZED = ErrorBody.of(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED",
+        "Access denied. Please provide valid credentials.");
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        
-        ErrorResponseDto errorResponse = new ErrorResponseDto();
-        errorResponse.setCode("UNAUTHORIZED");
-        errorResponse.setMessage("Access denied. Please provide valid credentials.");
-        errorResponse.setStatus(HttpStatus.UNAUTHORIZED.value());
-        errorResponse.setPath(request.getRequestURI());
-        errorResponse.setTimestamp(LocalDateTime.now());
-
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        UNAUTHORIZED.write(response, request.getRequestURI());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package ${package}.security;
+
+import ${package}.domain.Role;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the {@code roles} claim to {@code ROLE_} authorities. Known roles resolve to shared,
+ * precomputed authority instances instead of allocating and concatenating per token; unknown
+ * values still become authorities so behaviour matches Spring's {@code JwtGrantedAuthoritiesConverter}.
+ */
+public final class RoleAuthorities implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    public static final String CLAIM = "roles";
+    public static final String PREFIX = "ROLE_";
+
+    private static final Map<Role, GrantedAuthority> BY_ROLE = new EnumMap<>(Role.class);
+    private static final Map<String, GrantedAuthority> BY_NAME = new HashMap<>();
+
+    static {
+        for (Role role : Role.values()) {
+            GrantedAuthority authority = new SimpleGrantedAuthority(PREFIX + role.name());
+            BY_ROLE.put(role, authority);
+            BY_NAME.put(role.name(), authority);
+        }
+    }
+
+    public static GrantedAuthority of(Role role) {
+        return BY_ROLE.get(role);
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        Object claim = jwt.getClaims().get(CLAIM);
+        if (claim instanceof String value) {
+            return value.isBlank() ? Collections.emptyList() : resolve(List.of(value.trim().split("\\s+")));
+        }
+        if (claim instanceof Collection<?> values) {
+            return resolve(values);
+        }
+        return Collections.emptyList();
+    }
+
+    private static Collection<GrantedAuthority> resolve(Collection<?> values) {
+        List<GrantedAuthority> authorities = new ArrayList<>(values.size());
+        for (Object value : values) {
+            String name = value.toString();
+            GrantedAuthority authority = BY_NAME.get(name);
+            authorities.add(authority != null ? authority : new SimpleGrantedAuthority(PREFIX + name));
+        }
+        return authorities;
+    }
+}
@@ -0,0 +1,44 @@
+package ${package}.service;
+
+import ${package}.exception.InvalidCursorException;
+
+/**
+ * Position in the change feed: the transaction id and user id of the last change returned.
+ * Changes are ordered by {@code (txid, userId)}, so a token resumes exactly after that change.
+ * Encoded as {@code <txid>.<userId>}.
+ */
+public record ChangeToken(long txid, long userId) {
+
+    /** Before every change. */
+    public static final ChangeToken START = new ChangeToken(0, 0);
+
+    public String encode() {
+        return txid + "." + userId;
+    }
+
+    /**
+     * Parses a token; {@code null} and blank mean the start of the feed.
+     *
+     * @throws InvalidCursorException if the token is not {@code <txid>.<userId>}
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        String raw = token.trim();
+        int separator = raw.indexOf('.');
+        if (separator < 0) {
+            throw new InvalidCursorException("Invalid change token: " + token);
+        }
+        try {
+            ChangeToken decoded = new ChangeToken(Long.parseLong(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+            if (decoded.txid() < 0 || decoded.userId() < 0) {
+                throw new InvalidCursorException("Invalid change token: " + token);
+            }
+            return decoded;
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid change token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ${package}.service;
+
+import ${package}.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a time-ordered feed: the timestamp and id of the last item returned.
+ * Encoded as opaque URL-safe Base64 and keeps full timestamp precision, so no row is skipped
+ * or repeated when several users share a millisecond. Positions order like the feed's keys,
+ * so the smaller of two positions is the one further down the newest-first feed.
+ */
+public record FeedCursor(LocalDateTime time, long id) implements Comparable<FeedCursor> {
+
+    /** The position just above every item stamped at or before {@code time}. */
+    public static FeedCursor through(LocalDateTime time) {
+        return new FeedCursor(time, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int compareTo(FeedCursor other) {
+        int byTime = time.compareTo(other.time);
+        return byTime != 0 ? byTime : Long.compare(id, other.id);
+    }
+
+    public String encode() {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid feed cursor", e);
+        }
+    }
+}
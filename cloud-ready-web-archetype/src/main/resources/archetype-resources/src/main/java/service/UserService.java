@@ -1,17 +1,45 @@
 package ${package}.service;
 
+import ${package}.dto.CursorPageDto;
+import ${package}.dto.UserChangeBatchDto;
 import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
 import ${package}.dto.PageDto;
+import ${package}.filter.UserFilter;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserService {
 
+    enum FeedField {
+        CREATED,
+        UPDATED
+    }
+
     PageDto<UserDto> findAll(Pageable pageable);
 
     PageDto<UserDto> findBySearchTerm(String search, Pageable pageable);
 
+    /**
+     * Up to {@code limit} users matching {@code search} ({@code null} for all) in id order,
+     * starting after {@code afterId}; descending pages start below it instead.
+     */
+    List<UserDto> scrollById(String search, long afterId, boolean descending, int limit);
+
+    PageDto<UserDto> findProjected(String search, Set<UserField> fields, Pageable pageable);
+
+    PageDto<UserDto> findByFullText(String query, Pageable pageable);
+
+    PageDto<UserDto> findByFilter(UserFilter filter, Pageable pageable);
+
+    CursorPageDto<UserDto> findRecent(FeedField field, LocalDateTime from, LocalDateTime to, String cursor, int limit);
+
+    UserChangeBatchDto findChanges(String since, int limit);
+
     Optional<UserDto> findById(Long id);
 
     Optional<UserDto> findByUsername(String username);
@@ -0,0 +1,115 @@
+package ${package}.service.impl;
+
+import ${package}.dto.CursorPageDto;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
+import ${package}.filter.UserFilter;
+import ${package}.readmodel.UserReadModel;
+import ${package}.service.UserService;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link UserService} that answers point lookups from the in-memory {@link UserReadModel}
+ * without a transaction, cache proxy or database round trip. Everything else, and every
+ * lookup before the read model has finished loading, goes to the wrapped service.
+ */
+public class ReadModelUserService implements UserService {
+
+    private final UserService delegate;
+    private final UserReadModel readModel;
+
+    public ReadModelUserService(UserService delegate, UserReadModel readModel) {
+        this.delegate = delegate;
+        this.readModel = readModel;
+    }
+
+    @Override
+    public PageDto<UserDto> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public PageDto<UserDto> findBySearchTerm(String search, Pageable pageable) {
+        return delegate.findBySearchTerm(search, pageable);
+    }
+
+    @Override
+    public List<UserDto> scrollById(String search, long afterId, boolean descending, int limit) {
+        return delegate.scrollById(search, afterId, descending, limit);
+    }
+
+    @Override
+    public PageDto<UserDto> findProjected(String search, Set<UserField> fields, Pageable pageable) {
+        return delegate.findProjected(search, fields, pageable);
+    }
+
+    @Override
+    public PageDto<UserDto> findByFullText(String query, Pageable pageable) {
+        return delegate.findByFullText(query, pageable);
+    }
+
+    @Override
+    public PageDto<UserDto> findByFilter(UserFilter filter, Pageable pageable) {
+        return delegate.findByFilter(filter, pageable);
+    }
+
+    @Override
+    public CursorPageDto<UserDto> findRecent(FeedField field, LocalDateTime from, LocalDateTime to, String cursor,
+                                             int limit) {
+        return delegate.findRecent(field, from, to, cursor, limit);
+    }
+
+    @Override
+    public UserChangeBatchDto findChanges(String since, int limit) {
+        return delegate.findChanges(since, limit);
+    }
+
+    @Override
+    public Optional<UserDto> findById(Long id) {
+        return readModel.isReady() ? readModel.findById(id) : delegate.findById(id);
+    }
+
+    @Override
+    public Optional<UserDto> findByUsername(String username) {
+        return readModel.isReady() ? readModel.findByUsername(username) : delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<UserDto> findByEmail(String email) {
+        return readModel.isReady() ? readModel.findByEmail(email) : delegate.findByEmail(email);
+    }
+
+    @Override
+    public UserDto create(UserDto userDto) {
+        return delegate.create(userDto);
+    }
+
+    @Override
+    public UserDto update(Long id, UserDto userDto) {
+        return delegate.update(id, userDto);
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return readModel.isReady() ? readModel.findByUsername(username).isPresent()
+            : delegate.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return readModel.isReady() ? readModel.findByEmail(email).isPresent()
+            : delegate.existsByEmail(email);
+    }
+}
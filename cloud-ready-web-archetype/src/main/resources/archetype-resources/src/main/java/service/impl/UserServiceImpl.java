@@ -1,42 +1,198 @@
 package ${package}.service.impl;
 
+import ${package}.cache.UserPageCache;
+import ${package}.domain.ChangeFeedState;
 import ${package}.domain.User;
+import ${package}.domain.UserChange;
+import ${package}.dto.CursorPageDto;
 import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
 import ${package}.dto.PageDto;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.filter.UserBitmaps;
+import ${package}.filter.UserFilter;
+import ${package}.filter.UserFilterIndex;
+import ${package}.exception.ChangeFeedExpiredException;
 import ${package}.exception.ResourceNotFoundException;
+import ${package}.repository.ChangeFeedStateRepository;
+import ${package}.repository.UserChangeRepository;
 import ${package}.repository.UserRepository;
+import ${package}.search.UserSearchIndex;
+import ${package}.service.ChangeToken;
+import ${package}.service.FeedCursor;
 import ${package}.service.UserService;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final LocalDateTime FEED_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final UserRepository userRepository;
+    private final UserPageCache userPageCache;
+    private final UserSearchIndex userSearchIndex;
+    private final UserFilterIndex userFilterIndex;
+    private final UserChangeRepository userChangeRepository;
+    private final ChangeFeedStateRepository changeFeedStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserPageCache userPageCache,
+                           UserSearchIndex userSearchIndex, UserFilterIndex userFilterIndex,
+                           UserChangeRepository userChangeRepository,
+                           ChangeFeedStateRepository changeFeedStateRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.userPageCache = userPageCache;
+        this.userSearchIndex = userSearchIndex;
+        this.userFilterIndex = userFilterIndex;
+        this.userChangeRepository = userChangeRepository;
+        this.changeFeedStateRepository = changeFeedStateRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageDto<UserDto> findAll(Pageable pageable) {
-        Page<User> users = userRepository.findAll(pageable);
-        return PageDto.from(users, this::convertToDto);
+        return userPageCache.getOrLoad("", pageable,
+            () -> userRepository.findAllBy(pageable).map(this::convertToDto).getContent(),
+            userRepository::count);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageDto<UserDto> findBySearchTerm(String search, Pageable pageable) {
-        Page<User> users = userRepository.findBySearchTerm(search, pageable);
-        return PageDto.from(users, this::convertToDto);
+        return userPageCache.getOrLoad(UserPageCache.normalize(search), pageable,
+            () -> userRepository.findSliceBySearchTerm(search, pageable).map(this::convertToDto).getContent(),
+            () -> userRepository.countBySearchTerm(search));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> scrollById(String search, long afterId, boolean descending, int limit) {
+        Pageable window = PageRequest.of(0, limit);
+        List<User> users = descending
+            ? userRepository.findBeforeId(afterId, search, window)
+            : userRepository.findAfterId(afterId, search, window);
+        return users.stream().map(this::convertToDto).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<UserDto> findProjected(String search, Set<UserField> fields, Pageable pageable) {
+        return userPageCache.getOrLoad(UserPageCache.normalize(search), UserField.key(fields), pageable,
+            () -> userRepository.findProjectedPage(search, fields, pageable),
+            () -> search != null ? userRepository.countBySearchTerm(search) : userRepository.count());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<UserDto> findByFullText(String query, Pageable pageable) {
+        UserSearchIndex.Hits hits = userSearchIndex.search(query, pageable);
+        return loadPage(hits.ids(), pageable, hits.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<UserDto> findByFilter(UserFilter filter, Pageable pageable) {
+        UserBitmaps.Selection selection = userFilterIndex.select(filter, pageable);
+        return loadPage(selection.ids(), pageable, selection.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> findRecent(FeedField field, LocalDateTime from, LocalDateTime to, String cursor,
+                                             int limit) {
+        // Continue from the cursor, but never above "to", even if the cursor was issued for a wider range
+        FeedCursor position = cursor != null && !cursor.isBlank() ? FeedCursor.decode(cursor) : null;
+        if (to != null && (position == null || position.compareTo(FeedCursor.through(to)) > 0)) {
+            position = FeedCursor.through(to);
+        }
+        LocalDateTime lowerBound = from != null ? from : FEED_START;
+        // Fetch one extra row to learn whether another page follows without a count query
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<User> users;
+        if (position == null) {
+            users = field == FeedField.UPDATED
+                ? userRepository.findUpdatedSince(lowerBound, window)
+                : userRepository.findCreatedSince(lowerBound, window);
+        } else {
+            users = field == FeedField.UPDATED
+                ? userRepository.findUpdatedBefore(lowerBound, position.time(), position.id(), window)
+                : userRepository.findCreatedBefore(lowerBound, position.time(), position.id(), window);
+        }
+
+        boolean hasMore = users.size() > limit;
+        List<User> page = hasMore ? users.subList(0, limit) : users;
+        String nextCursor = null;
+        if (hasMore) {
+            User last = page.get(page.size() - 1);
+            LocalDateTime time = field == FeedField.UPDATED ? last.getUpdatedAt() : last.getCreatedAt();
+            nextCursor = new FeedCursor(time, last.getId()).encode();
+        }
+        return new CursorPageDto<>(page.stream().map(this::convertToDto).toList(), limit, hasMore, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserChangeBatchDto findChanges(String since, int limit) {
+        ChangeToken after = ChangeToken.decode(since);
+        long purgedThrough = changeFeedStateRepository.findById(ChangeFeedState.ID)
+            .map(ChangeFeedState::getPurgedThrough)
+            .orElse(0L);
+        if (!ChangeToken.START.equals(after) && after.txid() <= purgedThrough) {
+            throw new ChangeFeedExpiredException("Change token " + since + " predates purged deletes; resync from the start");
+        }
+        List<UserChange> changes = userChangeRepository.findAfter(after.txid(), after.userId(), limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        List<Long> upserted = changes.stream()
+            .filter(change -> change.getType() == UserChange.Type.UPSERTED)
+            .map(UserChange::getUserId)
+            .toList();
+        Map<Long, User> users = userRepository.findAllById(upserted).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UserChangeDto> entries = new ArrayList<>(changes.size());
+        for (UserChange change : changes) {
+            String token = new ChangeToken(change.getTxid(), change.getUserId()).encode();
+            if (change.getType() == UserChange.Type.DELETED) {
+                entries.add(new UserChangeDto(token, UserChange.Type.DELETED, change.getUserId(), null));
+            } else {
+                // A user deleted after the log was read has a tombstone further on; skip it here
+                User user = users.get(change.getUserId());
+                if (user != null) {
+                    entries.add(new UserChangeDto(token, UserChange.Type.UPSERTED, user.getId(), convertToDto(user)));
+                }
+            }
+        }
+        ChangeToken next = after;
+        if (!changes.isEmpty()) {
+            UserChange last = changes.get(changes.size() - 1);
+            next = new ChangeToken(last.getTxid(), last.getUserId());
+        }
+        return new UserChangeBatchDto(entries, next.encode(), hasMore);
     }
 
     @Override
@@ -48,15 +204,16 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "users", key = "#username")
+    @Cacheable(value = "users", key = "'username:' + T(${package}.domain.User).normalize(#username)")
     public Optional<UserDto> findByUsername(String username) {
-        return userRepository.findByUsername(username).map(this::convertToDto);
+        return userRepository.findByUsernameLower(User.normalize(username)).map(this::convertToDto);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "users", key = "'email:' + T(${package}.domain.User).normalize(#email)")
     public Optional<UserDto> findByEmail(String email) {
-        return userRepository.findByEmail(email).map(this::convertToDto);
+        return userRepository.findByEmailLower(User.normalize(email)).map(this::convertToDto);
     }
 
     @Override
@@ -64,7 +221,9 @@ public class UserServiceImpl implements UserService {
     public UserDto create(UserDto userDto) {
         User user = convertToEntity(userDto);
         User savedUser = userRepository.save(user);
-        return convertToDto(savedUser);
+        UserDto created = convertToDto(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(created));
+        return created;
     }
 
     @Override
@@ -72,6 +231,7 @@ public class UserServiceImpl implements UserService {
     public UserDto update(Long id, UserDto userDto) {
         User existingUser = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        UserDto before = convertToDto(existingUser);
 
         existingUser.setUsername(userDto.getUsername());
         existingUser.setEmail(userDto.getEmail());
@@ -81,28 +241,42 @@ public class UserServiceImpl implements UserService {
         existingUser.setRoles(userDto.getRoles());
 
         User updatedUser = userRepository.save(existingUser);
-        return convertToDto(updatedUser);
+        UserDto updated = convertToDto(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, updated));
+        return updated;
     }
 
     @Override
     @CacheEvict(value = "users", key = "#id")
     public void delete(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User existingUser = userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userRepository.delete(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(convertToDto(existingUser)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        return userRepository.existsByUsernameLower(User.normalize(username));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userRepository.existsByEmailLower(User.normalize(email));
+    }
+
+    private PageDto<UserDto> loadPage(List<Long> ids, Pageable pageable, long total) {
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        // Keep the index's order; ids deleted since the index last saw them are skipped
+        List<UserDto> content = ids.stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
+            .map(this::convertToDto)
+            .toList();
+        return PageDto.from(new PageImpl<>(content, pageable, total), Function.identity());
     }
 
     private UserDto convertToDto(User user) {
@@ -0,0 +1,83 @@
+package ${package}.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Takes non-critical beans out of the context refresh. Lazy beans are created when something
+ * first asks for them. Background beans are also left out of the refresh, then created one after
+ * another on a background thread as soon as the context is refreshed, so they warm up while the
+ * ready listeners run and the first requests arrive; a request that needs one earlier waits for
+ * it. Deferring a bean has no effect if an eagerly created bean depends on it.
+ */
+public class DeferredBeans implements BeanFactoryPostProcessor, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredBeans.class);
+
+    private final List<String> lazyBeans;
+    private final List<String> backgroundBeans;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public DeferredBeans(List<String> lazyBeans, List<String> backgroundBeans) {
+        this.lazyBeans = List.copyOf(lazyBeans);
+        this.backgroundBeans = List.copyOf(backgroundBeans);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+        defer(lazyBeans);
+        defer(backgroundBeans);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (backgroundBeans.isEmpty() || event.getApplicationContext().getAutowireCapableBeanFactory() != beanFactory
+                || !started.compareAndSet(false, true)) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("background-init-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+        executor.execute(this::createBackgroundBeans);
+        executor.shutdown();
+    }
+
+    private void defer(List<String> names) {
+        for (String name : names) {
+            if (beanFactory.containsBeanDefinition(name)) {
+                beanFactory.getBeanDefinition(name).setLazyInit(true);
+            } else {
+                logger.warn("Cannot defer bean '{}': no such bean definition", name);
+            }
+        }
+    }
+
+    private void createBackgroundBeans() {
+        for (String name : backgroundBeans) {
+            if (!beanFactory.containsBeanDefinition(name)) {
+                continue;
+            }
+            long started = System.nanoTime();
+            try {
+                beanFactory.getBean(name);
+                logger.info("Initialized bean '{}' in the background in {} ms", name,
+                    (System.nanoTime() - started) / 1_000_000);
+            } catch (RuntimeException e) {
+                // Left for the first caller, which gets the same failure on the request thread
+                logger.error("Background initialization of bean '{}' failed", name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ${package}.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Builds every enabled {@link StartupIndex} in parallel on daemon threads once the application
+ * is ready, so the ready event is not held up by database scans. Until all builds have finished
+ * this health indicator reports {@code OUT_OF_SERVICE}, which keeps the readiness probe failing
+ * and the instance out of the load balancer; the indexes' own endpoints answer 503 meanwhile.
+ * A build that fails counts as finished, so one broken index never keeps the service unready.
+ */
+@Component
+public class IndexBuilds implements HealthIndicator, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexBuilds.class);
+
+    private final List<StartupIndex> indexes;
+    private final Map<String, CompletableFuture<Void>> builds = new LinkedHashMap<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    public IndexBuilds(ObjectProvider<StartupIndex> indexes) {
+        this.indexes = indexes.orderedStream().filter(StartupIndex::isEnabled).toList();
+        this.indexes.forEach(index -> builds.put(index.indexName(), new CompletableFuture<>()));
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("index-build-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, this.indexes.size()), threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        for (StartupIndex index : indexes) {
+            executor.execute(() -> build(index));
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Waits until every build has finished, successfully or not.
+     *
+     * @return {@code false} if builds were still running after {@code timeout}
+     */
+    public boolean awaitBuilt(Duration timeout) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(builds.values().toArray(CompletableFuture[]::new))
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            // Builds always complete normally
+            return true;
+        }
+    }
+
+    @Override
+    public Health health() {
+        List<String> building = builds.entrySet().stream()
+            .filter(build -> !build.getValue().isDone())
+            .map(Map.Entry::getKey)
+            .toList();
+        return building.isEmpty()
+            ? Health.up().build()
+            : Health.outOfService().withDetail("building", building).build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void build(StartupIndex index) {
+        long startedAt = System.nanoTime();
+        try {
+            index.build();
+            logger.debug("Index '{}' built in the background in {} ms", index.indexName(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Index '{}' could not be built and stays unavailable", index.indexName(), e);
+        } finally {
+            builds.get(index.indexName()).complete(null);
+        }
+    }
+}
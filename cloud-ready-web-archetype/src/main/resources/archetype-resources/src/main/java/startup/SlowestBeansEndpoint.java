@@ -0,0 +1,86 @@
+package ${package}.startup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The bean instantiations that took longest during startup, from the steps recorded by
+ * {@link BufferingApplicationStartup}. Each bean is ranked by its own time: the time spent
+ * creating the beans it depends on is counted against those beans, not against it. Unlike the
+ * {@code startup} endpoint this only reads the buffer, so the two can be used together.
+ */
+@Endpoint(id = "startupbeans")
+public class SlowestBeansEndpoint {
+
+    static final String INSTANTIATE = "spring.beans.instantiate";
+    static final String REFRESH = "spring.context.refresh";
+
+    public record BeanTiming(String bean, String type, long selfMillis, long totalMillis) {
+    }
+
+    public record SlowestBeans(long refreshMillis, int beans, List<BeanTiming> slowest) {
+    }
+
+    private final ApplicationStartup applicationStartup;
+    private final int defaultLimit;
+
+    public SlowestBeansEndpoint(ApplicationStartup applicationStartup, int defaultLimit) {
+        this.applicationStartup = applicationStartup;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public SlowestBeans slowestBeans(@Nullable Integer limit) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return new SlowestBeans(0, 0, List.of());
+        }
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+
+        // Time spent creating dependencies, keyed by the step of the bean that asked for them
+        Map<Long, Duration> dependencyTime = new HashMap<>();
+        long refreshMillis = 0;
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (INSTANTIATE.equals(step.getName()) && step.getParentId() != null) {
+                dependencyTime.merge(step.getParentId(), event.getDuration(), Duration::plus);
+            } else if (REFRESH.equals(step.getName())) {
+                refreshMillis = event.getDuration().toMillis();
+            }
+        }
+
+        List<BeanTiming> beans = events.stream()
+            .filter(event -> INSTANTIATE.equals(event.getStartupStep().getName()))
+            .map(event -> {
+                StartupStep step = event.getStartupStep();
+                Duration self = event.getDuration().minus(dependencyTime.getOrDefault(step.getId(), Duration.ZERO));
+                return new BeanTiming(tag(step, "beanName"), tag(step, "beanType"), self.toMillis(),
+                    event.getDuration().toMillis());
+            })
+            .toList();
+        List<BeanTiming> slowest = beans.stream()
+            .sorted(Comparator.comparingLong(BeanTiming::selfMillis).reversed())
+            .limit(limit != null && limit > 0 ? limit : defaultLimit)
+            .toList();
+        return new SlowestBeans(refreshMillis, beans.size(), slowest);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package ${package}.startup;
+
+/**
+ * An index loaded from the database once the application is ready. {@link IndexBuilds} runs
+ * {@link #build()} off the event thread and holds readiness back until it has returned.
+ */
+public interface StartupIndex {
+
+    /** Short name reported while the build runs, e.g. {@code "typeahead"}. */
+    String indexName();
+
+    /** Disabled indexes are never built and do not hold readiness back. */
+    boolean isEnabled();
+
+    /** Loads the index. Called once; failures are logged and leave the index unavailable. */
+    void build();
+}
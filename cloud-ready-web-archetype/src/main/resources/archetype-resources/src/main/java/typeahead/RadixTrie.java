@@ -0,0 +1,269 @@
+package ${package}.typeahead;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Path-compressed trie mapping string keys to one or more {@code long} ids.
+ * <p>
+ * Writers are serialized and replace node arrays copy-on-write, so readers never lock and
+ * always see a consistent snapshot of each node. Children are kept sorted by their first
+ * character, which makes prefix results come out in lexicographic order.
+ */
+public class RadixTrie {
+
+    // Shallow sizes assuming a 64-bit JVM with compressed oops
+    private static final int NODE_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node(new char[0], NO_CHILDREN, null);
+    private long size;
+    private long nodeCount = 1;
+    private long estimatedBytes = NODE_BYTES + charArrayBytes(0);
+
+    public record Match(String key, long id) {
+    }
+
+    public synchronized void put(String key, long id) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node[] children = node.children;
+            int index = indexOf(children, key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i).toCharArray(), NO_CHILDREN, new long[] {id});
+                node.children = insertAt(children, -index - 1, leaf);
+                account(NODE_BYTES + charArrayBytes(leaf.label.length) + longArrayBytes(1)
+                    + refArrayBytes(children.length + 1) - refArrayBytes(children.length), 1);
+                size++;
+                return;
+            }
+
+            Node child = children[index];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length) {
+                // Split the edge: the shared part becomes a new inner node above the old child
+                Node tail = new Node(Arrays.copyOfRange(child.label, common, child.label.length),
+                    child.children, child.ids);
+                Node middle = new Node(Arrays.copyOf(child.label, common), new Node[] {tail}, null);
+                Node[] copy = children.clone();
+                copy[index] = middle;
+                node.children = copy;
+                account(NODE_BYTES + charArrayBytes(common) + refArrayBytes(1)
+                    + charArrayBytes(tail.label.length) - charArrayBytes(child.label.length), 1);
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+
+        long[] ids = node.ids;
+        if (ids == null) {
+            node.ids = new long[] {id};
+            account(longArrayBytes(1), 0);
+        } else if (indexOf(ids, id) < 0) {
+            long[] copy = Arrays.copyOf(ids, ids.length + 1);
+            copy[ids.length] = id;
+            node.ids = copy;
+            account(longArrayBytes(copy.length) - longArrayBytes(ids.length), 0);
+        } else {
+            return;
+        }
+        size++;
+    }
+
+    public synchronized boolean remove(String key, long id) {
+        Node parent = null;
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = indexOf(node.children, key.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length) {
+                return false;
+            }
+            parent = node;
+            node = child;
+            i += common;
+        }
+
+        long[] ids = node.ids;
+        int position = ids == null ? -1 : indexOf(ids, id);
+        if (position < 0) {
+            return false;
+        }
+        if (ids.length == 1) {
+            node.ids = null;
+            account(-longArrayBytes(1), 0);
+        } else {
+            long[] copy = new long[ids.length - 1];
+            System.arraycopy(ids, 0, copy, 0, position);
+            System.arraycopy(ids, position + 1, copy, position, ids.length - position - 1);
+            node.ids = copy;
+            account(longArrayBytes(copy.length) - longArrayBytes(ids.length), 0);
+        }
+        size--;
+
+        // Prune the leaf if nothing hangs off it anymore; inner nodes are left as they are
+        if (parent != null && node.ids == null && node.children.length == 0) {
+            Node[] siblings = parent.children;
+            parent.children = removeAt(siblings, indexOf(siblings, node.label[0]));
+            account(refArrayBytes(siblings.length - 1) - refArrayBytes(siblings.length)
+                - NODE_BYTES - charArrayBytes(node.label.length), -1);
+        }
+        return true;
+    }
+
+    public List<Match> prefixSearch(String prefix, int limit) {
+        Node node = root;
+        StringBuilder path = new StringBuilder(prefix.length() + 16);
+        int i = 0;
+        while (i < prefix.length()) {
+            Node[] children = node.children;
+            int index = indexOf(children, prefix.charAt(i));
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+            Node child = children[index];
+            int common = commonPrefix(child.label, prefix, i);
+            if (i + common < prefix.length() && common < child.label.length) {
+                return Collections.emptyList();
+            }
+            path.append(child.label);
+            node = child;
+            i += common;
+        }
+
+        List<Match> matches = new ArrayList<>(Math.min(limit, 64));
+        collect(node, path, matches, limit);
+        return matches;
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized long nodeCount() {
+        return nodeCount;
+    }
+
+    public synchronized long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static void collect(Node node, StringBuilder path, List<Match> matches, int limit) {
+        long[] ids = node.ids;
+        if (ids != null) {
+            String key = path.toString();
+            for (long id : ids) {
+                if (matches.size() >= limit) {
+                    return;
+                }
+                matches.add(new Match(key, id));
+            }
+        }
+        for (Node child : node.children) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            int length = path.length();
+            path.append(child.label);
+            collect(child, path, matches, limit);
+            path.setLength(length);
+        }
+    }
+
+    private void account(long bytes, long nodes) {
+        estimatedBytes += bytes;
+        nodeCount += nodes;
+    }
+
+    private static int indexOf(Node[] children, char first) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = children[mid].label[0];
+            if (c < first) {
+                low = mid + 1;
+            } else if (c > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int indexOf(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int commonPrefix(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int i = 0;
+        while (i < max && label[i] == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertAt(Node[] array, int index, Node node) {
+        Node[] copy = new Node[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = node;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static Node[] removeAt(Node[] array, int index) {
+        if (array.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] copy = new Node[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    private static long charArrayBytes(int length) {
+        return align(ARRAY_HEADER_BYTES + 2L * length);
+    }
+
+    private static long longArrayBytes(int length) {
+        return align(ARRAY_HEADER_BYTES + 8L * length);
+    }
+
+    private static long refArrayBytes(int length) {
+        return length == 0 ? 0 : align(ARRAY_HEADER_BYTES + 4L * length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static final class Node {
+        private final char[] label;
+        private volatile Node[] children;
+        private volatile long[] ids;
+
+        private Node(char[] label, Node[] children, long[] ids) {
+            this.label = label;
+            this.children = children;
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package ${package}.typeahead;
+
+import ${package}.config.AppProperties;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserSuggestionDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.UserKeyView;
+import ${package}.repository.UserRepository;
+import ${package}.startup.IndexBuilds;
+import ${package}.startup.StartupIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over usernames and emails. Built once from a streaming scan of
+ * {@code users} in the background when the application is ready, see {@link IndexBuilds}, and
+ * kept current from committed user writes.
+ */
+@Component
+public class UserTypeaheadIndex implements StartupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTypeaheadIndex.class);
+
+    public enum Field {
+        USERNAME,
+        EMAIL
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AppProperties.Typeahead config;
+    private final RadixTrie usernames = new RadixTrie();
+    private final RadixTrie emails = new RadixTrie();
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+
+    public UserTypeaheadIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                              AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Reloads run from after-commit listeners, where the finished transaction is still bound
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.config = appProperties.getTypeahead();
+
+        for (Field field : Field.values()) {
+            String tag = field.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("app.typeahead.entries", this, index -> index.trie(field).size())
+                .description("Keys held in the typeahead index")
+                .tag("field", tag)
+                .register(meterRegistry);
+            Gauge.builder("app.typeahead.memory", this, index -> index.trie(field).estimatedBytes())
+                .description("Estimated heap used by the typeahead index")
+                .baseUnit("bytes")
+                .tag("field", tag)
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public String indexName() {
+        return "typeahead";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public void build() {
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserKeyView> keys = userRepository.streamAllBy()) {
+                keys.forEach(this::addScanned);
+            }
+        });
+        ready = true;
+
+        // Users written during the scan were skipped by it and are read again now
+        reloadChangedWhileLoading();
+        logger.info("Typeahead index built with {} usernames and {} emails in {} ms (~{} KB)",
+            usernames.size(), emails.size(), (System.nanoTime() - started) / 1_000_000,
+            (usernames.estimatedBytes() + emails.estimatedBytes()) / 1024);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        synchronized (writeLock) {
+            if (!ready) {
+                changedWhileLoading.add(event.id());
+            }
+            UserDto before = event.before();
+            if (before != null) {
+                remove(before.getId(), before.getUsername(), before.getEmail());
+            }
+            UserDto after = event.after();
+            if (after != null) {
+                add(after.getId(), after.getUsername(), after.getEmail());
+            }
+        }
+        if (ready && !changedWhileLoading.isEmpty()) {
+            // The build may have drained the set before this id was added
+            reloadChangedWhileLoading();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<UserSuggestionDto> suggest(Field field, String prefix, Integer limit) {
+        int max = limit != null ? Math.max(1, Math.min(limit, config.getMaxLimit())) : config.getDefaultLimit();
+        return trie(field).prefixSearch(normalize(prefix), max).stream()
+            .map(match -> new UserSuggestionDto(match.id(), match.key()))
+            .toList();
+    }
+
+    // The scan reads rows as of its start: a row whose user has changed since then would bring back
+    // keys the change's event already removed, so it is skipped and reloaded after the scan
+    private void addScanned(UserKeyView key) {
+        synchronized (writeLock) {
+            if (!changedWhileLoading.contains(key.getId())) {
+                add(key.getId(), key.getUsername(), key.getEmail());
+            }
+        }
+    }
+
+    private void reloadChangedWhileLoading() {
+        Iterator<Long> ids = changedWhileLoading.iterator();
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            // Removed before reading, so an id added again afterwards is reloaded again
+            ids.remove();
+            reload(id);
+        }
+    }
+
+    // Holds the write lock across the read so a newer committed write cannot be overwritten by it
+    private void reload(long id) {
+        synchronized (writeLock) {
+            readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(id)
+                .ifPresent(user -> add(id, user.getUsername(), user.getEmail())));
+        }
+    }
+
+    private void add(Long id, String username, String email) {
+        if (username != null) {
+            usernames.put(normalize(username), id);
+        }
+        if (email != null) {
+            emails.put(normalize(email), id);
+        }
+    }
+
+    private void remove(Long id, String username, String email) {
+        if (username != null) {
+            usernames.remove(normalize(username), id);
+        }
+        if (email != null) {
+            emails.remove(normalize(email), id);
+        }
+    }
+
+    private RadixTrie trie(Field field) {
+        return field == Field.EMAIL ? emails : usernames;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
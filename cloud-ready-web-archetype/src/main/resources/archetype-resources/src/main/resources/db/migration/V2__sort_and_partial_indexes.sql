@@ -0,0 +1,23 @@
+-- Replace redundant and low-selectivity indexes with ones that serve the whitelisted sorts.
+-- Every statement is CONCURRENTLY, so Flyway runs this script outside a transaction and
+-- the users table stays writable while indexes are built.
+
+-- Duplicates of the indexes behind the UNIQUE constraints on username and email
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_username;
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_email;
+
+-- Almost every user is enabled, so a full index on a boolean is never selective
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_enabled;
+
+-- Covered by the (user_id, role) primary key
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_roles_user_id;
+
+-- (sort column, id) so ORDER BY col, id pages are read straight from the index in either direction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_updated_at_id ON users (updated_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_last_name_id ON users (last_name, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_created_at;
+
+-- Partial indexes: newest enabled users, and the small set of disabled accounts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_enabled_created_at_id ON users (created_at, id) WHERE enabled;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_disabled_id ON users (id) WHERE NOT enabled;
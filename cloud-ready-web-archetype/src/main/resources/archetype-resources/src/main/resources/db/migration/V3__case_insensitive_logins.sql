@@ -0,0 +1,14 @@
+-- Case-insensitive usernames and emails through lower-cased generated columns.
+-- Adding a stored generated column rewrites the table, so run this in a maintenance window
+-- on large installations. Creating the unique indexes fails if two existing users differ
+-- only in case; resolve those duplicates first.
+
+ALTER TABLE users ADD COLUMN username_lower VARCHAR(50) GENERATED ALWAYS AS (lower(username)) STORED;
+ALTER TABLE users ADD COLUMN email_lower VARCHAR(100) GENERATED ALWAYS AS (lower(email)) STORED;
+
+CREATE UNIQUE INDEX ux_users_username_lower ON users (username_lower);
+CREATE UNIQUE INDEX ux_users_email_lower ON users (email_lower);
+
+-- The case-sensitive constraints are implied by the indexes above and no lookup uses them
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_username_key;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
@@ -0,0 +1,11 @@
+-- Block-range index for created_at range filters. Rows are appended in creation order, so
+-- created_at follows the physical order of the heap and a BRIN index summarising 32 pages per
+-- range is a few pages in size where the btree grows with every row. Run
+-- TimeIndexBenchmark to compare both on a realistic volume before relying on it.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS brin_users_created_at ON users USING brin (created_at) WITH (pages_per_range = 32);
+
+-- No BRIN index on updated_at: updates rewrite rows wherever free space is found, so ranges
+-- overlap and nearly every block range matches any filter.
+
+-- idx_users_created_at_id and idx_users_updated_at_id stay: the recent-users feed reads
+-- (time, id) in index order and stops after one page, which a BRIN index cannot do.
@@ -0,0 +1,26 @@
+-- Compacted change log behind GET /users/changes: one row per user, tagged with the id of the
+-- transaction that last wrote it. Readers only return changes from transactions below their
+-- snapshot's xmin, which have all finished, so positions follow commit order without a counter
+-- that every user write would have to lock. Deleted users keep a DELETED tombstone row until it
+-- is purged. Needs PostgreSQL 13 or later for pg_current_xact_id().
+CREATE TABLE user_changes (
+    user_id BIGINT PRIMARY KEY,
+    txid BIGINT NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_user_changes_txid ON user_changes (txid, user_id);
+
+-- Single-row feed state; only the tombstone purge locks it
+CREATE TABLE user_change_feed_state (
+    id INTEGER PRIMARY KEY,
+    purged_through BIGINT NOT NULL
+);
+
+-- Existing users enter the feed under this migration's transaction, read in user id order
+INSERT INTO user_changes (user_id, txid, change_type, changed_at)
+SELECT id, pg_current_xact_id()::text::bigint, 'UPSERTED', COALESCE(updated_at, created_at)
+FROM users;
+
+INSERT INTO user_change_feed_state (id, purged_through) VALUES (1, 0);
@@ -0,0 +1,55 @@
+package ${package}.aot;
+
+import ${package}.domain.User;
+import ${package}.dto.ErrorResponseDto;
+import ${package}.dto.PageDto;
+import ${package}.dto.ProjectedUserDto;
+import ${package}.dto.UserDto;
+import ${package}.logging.JsonLineEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldCoverResponseBodies() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PageDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProjectedUserDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponseDto.FieldError.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(UserDto.class.getMethod("getUsername")))
+            .accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldCoverEntities() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(User.class)
+            .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+            .accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldCoverMigrationsAndSwaggerUi() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__initial_schema.sql"))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+            .forResource("META-INF/maven/org.webjars/swagger-ui/pom.properties")).accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldCoverLogbackEncoder() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(JsonLineEncoder.class)
+            .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("logback-spring.xml")).accepts(hints);
+    }
+}
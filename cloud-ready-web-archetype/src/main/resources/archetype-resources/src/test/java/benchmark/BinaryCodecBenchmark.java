@@ -0,0 +1,133 @@
+package ${package}.benchmark;
+
+import ${package}.codec.EncodedUserCache;
+import ${package}.codec.EpochDatesModule;
+import ${package}.domain.Role;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire and encode/decode time of a 100-user page in JSON, Smile and CBOR, plus
+ * single-user encoding with and without the encoded-form cache. Mappers are built the way the
+ * application builds them. Run with {@code ./mvnw test -P benchmark -Dtest=BinaryCodecBenchmark}.
+ */
+@Tag("benchmark")
+class BinaryCodecBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final TypeReference<PageDto<UserDto>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Test
+    void compareJsonSmileAndCbor() throws Exception {
+        PageDto<UserDto> page = page();
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper smile = binary(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()));
+        ObjectMapper cbor = binary(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()));
+
+        int jsonBytes = report("json", json, page);
+        int smileBytes = report("smile", smile, page);
+        int cborBytes = report("cbor", cbor, page);
+
+        assertThat(smileBytes).isLessThan(jsonBytes);
+        assertThat(cborBytes).isLessThan(jsonBytes);
+    }
+
+    @Test
+    void compareCachedSingleUserEncoding() throws Exception {
+        ObjectMapper smile = binary(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()));
+        EncodedUserCache cache = new EncodedUserCache(10_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        List<UserDto> users = page().getContent();
+
+        double encodeMicros = time(i -> {
+            try {
+                return smile.writeValueAsBytes(users.get(i % PAGE_SIZE));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        double cachedMicros = time(i -> cache.get("smile", users.get(i % PAGE_SIZE), smile::writeValueAsBytes));
+
+        System.out.printf("codec: single user smile encode %.3f us, cached %.3f us%n", encodeMicros, cachedMicros);
+    }
+
+    private static int report(String name, ObjectMapper mapper, PageDto<UserDto> page) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(page);
+        double encodeMicros = time(i -> {
+            try {
+                return mapper.writeValueAsBytes(page);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        double decodeMicros = time(i -> {
+            try {
+                return mapper.readValue(encoded, PAGE_TYPE);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        System.out.printf("codec: %-5s page %,6d bytes, encode %7.2f us, decode %7.2f us%n",
+            name, encoded.length, encodeMicros, decodeMicros);
+        assertThat(mapper.readValue(encoded, PAGE_TYPE).getContent()).hasSize(PAGE_SIZE);
+        return encoded.length;
+    }
+
+    private static double time(Function<Integer, Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.apply(i);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        assertThat(sink).isNotNull();
+        return (System.nanoTime() - started) / 1000.0 / ITERATIONS;
+    }
+
+    private static ObjectMapper binary(Jackson2ObjectMapperBuilder builder) {
+        return builder.postConfigurer(mapper -> mapper.registerModule(new EpochDatesModule())).build();
+    }
+
+    private static PageDto<UserDto> page() {
+        List<UserDto> users = new ArrayList<>(PAGE_SIZE);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            users.add(UserDto.builder()
+                .id((long) i + 1)
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .fullName("First" + i + " Last" + i)
+                .enabled(true)
+                .roles(i % 10 == 0 ? Set.of(Role.USER, Role.ADMIN) : Set.of(Role.USER))
+                .createdAt(base.plusMinutes(i))
+                .updatedAt(base.plusHours(i))
+                .build());
+        }
+        return PageDto.from(new PageImpl<>(users, PageRequest.of(0, PAGE_SIZE), 10_000), Function.identity());
+    }
+}
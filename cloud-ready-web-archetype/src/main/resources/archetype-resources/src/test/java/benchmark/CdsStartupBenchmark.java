@@ -0,0 +1,151 @@
+package ${package}.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Startup of the container image with its AppCDS archive, against the same image started with
+ * only the JDK's default class data sharing and with sharing off. Reported per variant are the
+ * median JVM time to "Started" over {@code startup.runs} starts (default {@value #DEFAULT_RUNS})
+ * and, from the last start, the latency of the first request to {@code /api/api-docs} and the
+ * first, median and p99 latency of the first {@value #EARLY_REQUESTS} requests that go through
+ * security and the error path. Needs Docker and a packaged jar: {@code ./mvnw package}, then
+ * {@code ./mvnw test -P benchmark -Dtest=CdsStartupBenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class CdsStartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 3;
+    private static final int EARLY_REQUESTS = 200;
+    private static final Pattern STARTED =
+        Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+    private static final String MAIN_CLASS = "${package}.${artifactId}Application";
+    private static final List<String> JVM_FLAGS = List.of("-XX:+UseG1GC", "-XX:MaxRAMPercentage=75.0",
+        "-Dspring.profiles.active=prod");
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withNetwork(network)
+            .withNetworkAliases("db")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private record Result(long startedMillis, long apiDocsMicros, long[] earlyMicros) {
+    }
+
+    private record EarlyRequests(long apiDocsMicros, long[] micros) {
+    }
+
+    @Test
+    void compareClassDataSharing() throws Exception {
+        ImageFromDockerfile image = new ImageFromDockerfile("${artifactId}-cds-benchmark", false)
+            .withFileFromPath("Dockerfile", Path.of("Dockerfile"))
+            .withFileFromPath("target/app.jar", executableJar());
+
+        Result appCds = measure(image, List.of("-XX:SharedArchiveFile=app.jsa"));
+        Result defaultCds = measure(image, List.of());
+        Result noCds = measure(image, List.of("-Xshare:off"));
+
+        report("AppCDS archive", appCds);
+        report("default CDS   ", defaultCds);
+        report("sharing off   ", noCds);
+
+        assertThat(appCds.startedMillis()).isLessThan(defaultCds.startedMillis());
+        assertThat(defaultCds.startedMillis()).isLessThan(noCds.startedMillis());
+    }
+
+    private Result measure(ImageFromDockerfile image, List<String> cdsFlags) throws Exception {
+        List<String> entrypoint = new ArrayList<>(List.of("java"));
+        entrypoint.addAll(cdsFlags);
+        entrypoint.addAll(JVM_FLAGS);
+        entrypoint.addAll(List.of("@classpath.args", MAIN_CLASS));
+
+        int runs = Integer.getInteger("startup.runs", DEFAULT_RUNS);
+        long[] started = new long[runs];
+        EarlyRequests last = null;
+        for (int i = 0; i < runs; i++) {
+            try (GenericContainer<?> app = new GenericContainer<>(image)
+                    .withNetwork(network)
+                    .withExposedPorts(8080)
+                    .withEnv("SPRING_DATASOURCE_URL", "jdbc:postgresql://db:5432/testdb")
+                    .withEnv("SPRING_DATASOURCE_USERNAME", "test")
+                    .withEnv("SPRING_DATASOURCE_PASSWORD", "test")
+                    .withEnv("APP_RATE_LIMIT_CLUSTER_STORE", "memory")
+                    .withEnv("APP_SEARCH_STORE", "memory")
+                    .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint(entrypoint))
+                    .waitingFor(Wait.forLogMessage(".*Started .* seconds.*", 1)
+                        .withStartupTimeout(Duration.ofMinutes(2)))) {
+                app.start();
+                Matcher matcher = STARTED.matcher(app.getLogs());
+                assertThat(matcher.find()).isTrue();
+                started[i] = (long) (Double.parseDouble(matcher.group(1)) * 1000);
+
+                String base = "http://" + app.getHost() + ":" + app.getMappedPort(8080) + "/api";
+                long apiDocs = timeMicros(base + "/api-docs", 200);
+                long[] early = new long[EARLY_REQUESTS];
+                for (int r = 0; r < EARLY_REQUESTS; r++) {
+                    early[r] = timeMicros(base + "/users/" + r, 401);
+                }
+                last = new EarlyRequests(apiDocs, early);
+            }
+        }
+        Arrays.sort(started);
+        return new Result(started[runs / 2], last.apiDocsMicros(), last.micros());
+    }
+
+    private long timeMicros(String url, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).build();
+        long started = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long micros = (System.nanoTime() - started) / 1000;
+        assertThat(response.statusCode()).isEqualTo(expectedStatus);
+        return micros;
+    }
+
+    private static void report(String name, Result result) {
+        long[] sorted = result.earlyMicros().clone();
+        Arrays.sort(sorted);
+        System.out.printf("cds: %s started %,6d ms  first api-docs %,7d us  early requests first %,6d us"
+                + "  p50 %,5d us  p99 %,6d us%n",
+            name, result.startedMillis(), result.apiDocsMicros(), result.earlyMicros()[0],
+            sorted[sorted.length / 2], sorted[(int) (sorted.length * 0.99)]);
+    }
+
+    private static Path executableJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar") && !path.toString().endsWith("-plain.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Package the application first: ./mvnw package"));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ${package}.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A container restored from a CRaC checkpoint against a cold start of the default image, both
+ * on the prod profile against the same PostgreSQL. The checkpoint is taken by running the
+ * {@code crac} image once and committing the stopped container. Reported per variant are the
+ * time from container start to the first 200 from {@code /api/api-docs}, then the number of
+ * requests, median, p99 and maximum latency of back-to-back requests until
+ * {@code crac.window.seconds} (default {@value #DEFAULT_WINDOW_SECONDS}) after the start. Needs
+ * Docker with privileged containers and a packaged jar: {@code ./mvnw package}, then
+ * {@code ./mvnw test -P benchmark -Dtest=CracStartupBenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class CracStartupBenchmark {
+
+    private static final int DEFAULT_WINDOW_SECONDS = 60;
+    private static final String RESTORE_IMAGE = "${artifactId}-crac-restore";
+    private static final Duration CHECKPOINT_TIMEOUT = Duration.ofMinutes(3);
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withNetwork(network)
+            .withNetworkAliases("db")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private record Run(long firstOkMillis, long[] micros) {
+    }
+
+    @Test
+    void compareRestoreWithColdStart() throws Exception {
+        Path jar = executableJar();
+        ImageFromDockerfile defaultImage = new ImageFromDockerfile("${artifactId}-benchmark", false)
+            .withFileFromPath("Dockerfile", Path.of("Dockerfile"))
+            .withFileFromPath("target/app.jar", jar);
+        ImageFromDockerfile cracImage = new ImageFromDockerfile("${artifactId}-crac-benchmark", false)
+            .withFileFromPath("Dockerfile", Path.of("Dockerfile"))
+            .withFileFromPath("target/app.jar", jar)
+            .withTarget("crac");
+
+        checkpoint(cracImage);
+
+        Run cold;
+        try (GenericContainer<?> app = new GenericContainer<>(defaultImage)) {
+            cold = measure(app.withEnv(environment()));
+        }
+        Run restored;
+        try (GenericContainer<?> app = new GenericContainer<>(DockerImageName.parse(RESTORE_IMAGE))) {
+            restored = measure(app.withPrivilegedMode(true));
+        }
+
+        report("cold start", cold);
+        report("restored  ", restored);
+
+        assertThat(restored.firstOkMillis()).isLessThan(cold.firstOkMillis());
+        assertThat(percentile(restored.micros(), 0.99)).isLessThan(percentile(cold.micros(), 0.99));
+    }
+
+    /** Runs the crac image until it has checkpointed and exited, then commits it. */
+    private void checkpoint(ImageFromDockerfile cracImage) throws InterruptedException {
+        try (GenericContainer<?> training = new GenericContainer<>(cracImage)
+                .withNetwork(network)
+                .withPrivilegedMode(true)
+                .withEnv(environment())
+                .waitingFor(Wait.forLogMessage(".*Checkpointing after.*", 1).withStartupTimeout(CHECKPOINT_TIMEOUT))) {
+            training.start();
+            long deadline = System.nanoTime() + CHECKPOINT_TIMEOUT.toNanos();
+            while (Boolean.TRUE.equals(training.getDockerClient().inspectContainerCmd(training.getContainerId())
+                    .exec().getState().getRunning())) {
+                assertThat(training.getLogs()).doesNotContain("Checkpoint failed");
+                assertThat(System.nanoTime() - deadline).isNegative();
+                Thread.sleep(100);
+            }
+            training.getDockerClient().commitCmd(training.getContainerId())
+                .withRepository(RESTORE_IMAGE)
+                .withTag("latest")
+                .exec();
+        }
+    }
+
+    private Run measure(GenericContainer<?> app) throws InterruptedException {
+        app.withNetwork(network)
+            .withExposedPorts(8080)
+            .waitingFor(new AbstractWaitStrategy() {
+                @Override
+                protected void waitUntilReady() {
+                    // Polled below, so the time to the first 200 is measured the same way for both
+                }
+            });
+        long started = System.nanoTime();
+        app.start();
+        String base = "http://" + app.getHost() + ":" + app.getMappedPort(8080) + "/api";
+
+        long firstOk;
+        while (true) {
+            assertThat(app.isRunning()).isTrue();
+            if (status(base + "/api-docs") == 200) {
+                firstOk = (System.nanoTime() - started) / 1_000_000;
+                break;
+            }
+            Thread.sleep(5);
+        }
+
+        long windowEnd = started + Duration.ofSeconds(Integer.getInteger("crac.window.seconds", DEFAULT_WINDOW_SECONDS))
+            .toNanos();
+        long[] micros = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < windowEnd) {
+            long sent = System.nanoTime();
+            assertThat(status(base + "/users/" + count)).isEqualTo(401);
+            if (count == micros.length) {
+                micros = Arrays.copyOf(micros, count * 2);
+            }
+            micros[count++] = (System.nanoTime() - sent) / 1000;
+        }
+        return new Run(firstOk, Arrays.copyOf(micros, count));
+    }
+
+    private int status(String url) throws InterruptedException {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+        } catch (IOException notListeningYet) {
+            return -1;
+        }
+    }
+
+    private static Map<String, String> environment() {
+        return Map.of(
+            "SPRING_DATASOURCE_URL", "jdbc:postgresql://db:5432/testdb",
+            "SPRING_DATASOURCE_USERNAME", "test",
+            "SPRING_DATASOURCE_PASSWORD", "test",
+            "APP_RATE_LIMIT_CLUSTER_STORE", "memory",
+            "APP_SEARCH_STORE", "memory");
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min((int) (sorted.length * quantile), sorted.length - 1)];
+    }
+
+    private static void report(String name, Run run) {
+        System.out.printf("crac: %s first 200 %,6d ms  %,7d requests in the first %d s  p50 %,6d us  p99 %,7d us"
+                + "  max %,8d us%n",
+            name, run.firstOkMillis(), run.micros().length,
+            Integer.getInteger("crac.window.seconds", DEFAULT_WINDOW_SECONDS), percentile(run.micros(), 0.5),
+            percentile(run.micros(), 0.99), percentile(run.micros(), 1.0));
+    }
+
+    private static Path executableJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar") && !path.toString().endsWith("-plain.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Package the application first: ./mvnw package"));
+        }
+    }
+}
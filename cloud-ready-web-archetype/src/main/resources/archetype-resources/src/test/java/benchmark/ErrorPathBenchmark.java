@@ -0,0 +1,88 @@
+package ${package}.benchmark;
+
+import ${package}.dto.ErrorResponseDto;
+import ${package}.exception.ErrorBody;
+import ${package}.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of producing an error response: a 404 for a missing user and a 401, each built the
+ * old way (exception with a stack trace, body serialized by {@code ObjectMapper}) and the new way
+ * (stackless domain exception, pre-encoded {@link ErrorBody}). Exceptions are thrown from
+ * {@value #STACK_DEPTH} frames deep, about what a request handled by Spring MVC behind the
+ * security filters runs at. Run with {@code ./mvnw test -P benchmark -Dtest=ErrorPathBenchmark}.
+ */
+@Tag("benchmark")
+class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 500_000;
+
+    private static final ErrorBody UNAUTHORIZED = ErrorBody.of(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED",
+        "Access denied. Please provide valid credentials.");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void compareErrorPaths() {
+        double notFoundBefore = throughput(i -> {
+            RuntimeException ex = atDepth(STACK_DEPTH, () -> new RuntimeException("User not found with id: " + i));
+            return serialize(new ErrorResponseDto("RESOURCE_NOT_FOUND", ex.getMessage(), 404, "/api/users/" + i));
+        });
+        double notFoundAfter = throughput(i -> {
+            ResourceNotFoundException ex =
+                atDepth(STACK_DEPTH, () -> new ResourceNotFoundException("User not found with id: " + i));
+            return ex.getBody().render(ex.getMessage(), "/api/users/" + i);
+        });
+        double unauthorizedBefore = throughput(i -> {
+            ErrorResponseDto body = new ErrorResponseDto("UNAUTHORIZED",
+                "Access denied. Please provide valid credentials.", 401, "/api/users/" + i);
+            return serialize(body);
+        });
+        double unauthorizedAfter = throughput(i -> UNAUTHORIZED.render(null, "/api/users/" + i));
+
+        System.out.printf("errors: 404 stack trace + ObjectMapper %,.0f ops/s%n", notFoundBefore);
+        System.out.printf("errors: 404 stackless + ErrorBody      %,.0f ops/s%n", notFoundAfter);
+        System.out.printf("errors: 401 ObjectMapper               %,.0f ops/s%n", unauthorizedBefore);
+        System.out.printf("errors: 401 ErrorBody                  %,.0f ops/s%n", unauthorizedAfter);
+
+        assertThat(notFoundAfter).isGreaterThan(notFoundBefore);
+        assertThat(unauthorizedAfter).isGreaterThan(unauthorizedBefore);
+    }
+
+    private byte[] serialize(ErrorResponseDto body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T atDepth(int depth, Supplier<T> supplier) {
+        return depth == 0 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+
+    private static double throughput(IntFunction<byte[]> errorPath) {
+        long bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes += errorPath.apply(i).length;
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += errorPath.apply(i).length;
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        assertThat(bytes).isPositive();
+        return ITERATIONS / seconds;
+    }
+}
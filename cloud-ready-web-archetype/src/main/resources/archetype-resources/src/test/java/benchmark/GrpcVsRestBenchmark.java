@@ -0,0 +1,165 @@
+package ${package}.benchmark;
+
+import ${package}.domain.Role;
+import ${package}.domain.User;
+import ${package}.grpc.GrpcServer;
+import ${package}.grpc.proto.GetUserRequest;
+import ${package}.grpc.proto.UserServiceGrpc;
+import ${package}.repository.UserRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of a single-user lookup over gRPC (HTTP/2, protobuf) against REST
+ * ({@code GET /users/{id}}, HTTP/1.1 JSON) on the same running application, so both paths share
+ * the service cache and differ only in transport, framing and encoding. Token validation is
+ * stubbed to keep the issuer out of the measurement.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=GrpcVsRestBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GrpcVsRestBenchmark {
+
+    private static final String TOKEN = "benchmark-admin";
+    private static final int USERS = 1_000;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.grpc.enabled", () -> "true");
+        registry.add("app.grpc.port", () -> "0");
+    }
+
+    @TestConfiguration
+    static class FixedTokenConfig {
+
+        @Bean
+        @Primary
+        JwtDecoder fixedTokenDecoder() {
+            return token -> {
+                if (!TOKEN.equals(token)) {
+                    throw new BadJwtException("Unknown token");
+                }
+                return Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("admin")
+                    .claim("roles", List.of(Role.ADMIN.name()))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+            };
+        }
+    }
+
+    @LocalServerPort
+    private int httpPort;
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+    private ManagedChannel channel;
+
+    @BeforeAll
+    void setUp() {
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "First" + i, "Last" + i);
+            user.setRoles(Set.of(Role.USER));
+            users.add(user);
+        }
+        userRepository.saveAll(users).forEach(user -> ids.add(user.getId()));
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterAll
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void compareUnaryLookup() {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + TOKEN);
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+
+        HttpClient http = HttpClient.newHttpClient();
+        String base = "http://localhost:" + httpPort + "/api/users/";
+
+        double grpcMicros = measure(id ->
+            assertThat(stub.getUser(GetUserRequest.newBuilder().setId(id).build()).getId()).isEqualTo(id));
+        double restMicros = measure(id -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + id))
+                .header("Authorization", "Bearer " + TOKEN)
+                .GET()
+                .build();
+            try {
+                assertThat(http.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode()).isEqualTo(200);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        System.out.printf("grpc: GetUser %.1f us/call%n", grpcMicros);
+        System.out.printf("grpc: REST GET /users/{id} %.1f us/call%n", restMicros);
+    }
+
+    private double measure(LongConsumer call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(ids.get(i % ids.size()));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(ids.get(i % ids.size()));
+        }
+        return (System.nanoTime() - started) / 1000.0 / ITERATIONS;
+    }
+}
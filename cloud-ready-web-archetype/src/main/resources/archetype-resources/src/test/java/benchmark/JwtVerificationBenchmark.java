@@ -0,0 +1,96 @@
+package ${package}.benchmark;
+
+import ${package}.security.CachingJwtAuthenticationProvider;
+import ${package}.security.RoleAuthorities;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CPU time per authenticated request with RS256 tokens, verifying every request against
+ * answering from the verification cache. Clients are simulated by a small set of tokens reused
+ * round-robin. Run with {@code ./mvnw test -P benchmark -Dtest=JwtVerificationBenchmark}.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final int TOKENS = 100;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void compareVerifiedAndCachedAuthentication() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keys = generator.generateKeyPair();
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add(sign(keys, "user" + i));
+        }
+
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keys.getPublic()).build();
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new RoleAuthorities());
+        JwtAuthenticationProvider verifying = new JwtAuthenticationProvider(decoder);
+        verifying.setJwtAuthenticationConverter(converter);
+        CachingJwtAuthenticationProvider caching = new CachingJwtAuthenticationProvider(decoder, converter,
+            10_000, Duration.ofHours(1), Duration.ofSeconds(10), new SimpleMeterRegistry());
+
+        double verifyingMicros = cpuMicros(verifying, tokens);
+        double cachingMicros = cpuMicros(caching, tokens);
+
+        System.out.printf("jwt: full verification %.2f us cpu/request%n", verifyingMicros);
+        System.out.printf("jwt: verification cache %.2f us cpu/request%n", cachingMicros);
+
+        assertThat(cachingMicros).isLessThan(verifyingMicros);
+    }
+
+    private static double cpuMicros(AuthenticationProvider provider, List<String> tokens) {
+        for (int i = 0; i < WARMUP; i++) {
+            provider.authenticate(new BearerTokenAuthenticationToken(tokens.get(i % TOKENS)));
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(provider.authenticate(new BearerTokenAuthenticationToken(tokens.get(i % TOKENS)))
+                .isAuthenticated()).isTrue();
+        }
+        return (threads.getCurrentThreadCpuTime() - started) / 1000.0 / ITERATIONS;
+    }
+
+    private static String sign(KeyPair keys, String subject) throws Exception {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject(subject)
+            .claim(RoleAuthorities.CLAIM, List.of("USER"))
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+            .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(keys.getPrivate()));
+        return jwt.serialize();
+    }
+}
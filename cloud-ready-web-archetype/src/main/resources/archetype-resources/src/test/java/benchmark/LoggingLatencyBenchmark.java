@@ -0,0 +1,188 @@
+package ${package}.benchmark;
+
+import ${package}.logging.JsonLineEncoder;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency a simulated request sees from its own logging: {@value #LINES_PER_REQUEST} log lines
+ * (one of them a SQL statement) around {@value #WORK_NANOS} ns of work, written synchronously
+ * to the console and through the async appender, as text and as JSON. The console is a sink that
+ * costs {@value #SINK_NANOS_PER_WRITE} ns per write, roughly a container log pipe under load.
+ * Also reports bytes allocated per encoded event for the text pattern and the JSON encoder.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=LoggingLatencyBenchmark}.
+ */
+@Tag("benchmark")
+class LoggingLatencyBenchmark {
+
+    private static final int LINES_PER_REQUEST = 4;
+    private static final long WORK_NANOS = 40_000;
+    private static final long SINK_NANOS_PER_WRITE = 5_000;
+    private static final int WARMUP = 5_000;
+    private static final int REQUESTS = 20_000;
+    private static final int ENCODES = 200_000;
+    private static final String PATTERN =
+        "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level [%thread] %logger{39} [%X{traceId},%X{spanId}] : %msg%n";
+
+    @Test
+    void compareRequestLatency() {
+        long[] syncText = measure(false, false);
+        long[] asyncText = measure(true, false);
+        long[] asyncJson = measure(true, true);
+
+        report("sync text ", syncText);
+        report("async text", asyncText);
+        report("async json", asyncJson);
+
+        assertThat(percentile(asyncText, 0.99)).isLessThan(percentile(syncText, 0.99));
+        assertThat(percentile(asyncJson, 0.99)).isLessThan(percentile(syncText, 0.99));
+    }
+
+    @Test
+    void compareEncoderAllocation() {
+        LoggerContext context = new LoggerContext();
+        LoggingEvent event = new LoggingEvent(getClass().getName(), context.getLogger("app.users"), Level.INFO,
+            "User {} updated in {} ms", null, new Object[] {"alice", 12});
+        event.setThreadName("http-nio-8080-exec-1");
+        event.setMDCPropertyMap(Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7"));
+
+        double text = bytesPerEncode(patternEncoder(context), event);
+        double json = bytesPerEncode(start(new JsonLineEncoder(), context), event);
+
+        System.out.printf("logging: pattern encoder %,.0f bytes allocated per event%n", text);
+        System.out.printf("logging: json encoder    %,.0f bytes allocated per event%n", json);
+
+        assertThat(json).isLessThan(text);
+    }
+
+    private long[] measure(boolean async, boolean json) {
+        // The application's context, so events pick up the MDC the same way they do at runtime
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setEncoder(json ? start(new JsonLineEncoder(), context) : patternEncoder(context));
+        console.setOutputStream(new SlowSink());
+        console.start();
+
+        Appender<ILoggingEvent> appender = console;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(console);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        String name = (async ? "async" : "sync") + (json ? ".json" : ".text");
+        Logger logger = context.getLogger("benchmark.logging." + name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+
+        long[] latencies = new long[REQUESTS];
+        try {
+            for (int i = 0; i < WARMUP + REQUESTS; i++) {
+                MDC.put("traceId", Long.toHexString(0x4bf92f3577b34da6L + i));
+                MDC.put("spanId", Long.toHexString(i));
+                long started = System.nanoTime();
+                request(logger, i);
+                long elapsed = System.nanoTime() - started;
+                if (i >= WARMUP) {
+                    latencies[i - WARMUP] = elapsed;
+                }
+            }
+        } finally {
+            MDC.clear();
+            logger.detachAndStopAllAppenders();
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void request(Logger logger, int i) {
+        logger.info("GET /api/users/{}", i);
+        spin(WORK_NANOS / 2);
+        logger.info("select u1_0.id,u1_0.username from users u1_0 where u1_0.id=?");
+        logger.info("User {} loaded", i);
+        spin(WORK_NANOS / 2);
+        logger.info("Completed 200 in {} us", WORK_NANOS / 1000);
+    }
+
+    private static double bytesPerEncode(Encoder<ILoggingEvent> encoder, ILoggingEvent event) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long length = 0;
+        for (int i = 0; i < ENCODES; i++) {
+            length += encoder.encode(event).length;
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ENCODES; i++) {
+            length += encoder.encode(event).length;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertThat(length).isPositive();
+        return (double) allocated / ENCODES;
+    }
+
+    private static PatternLayoutEncoder patternEncoder(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setPattern(PATTERN);
+        return start(encoder, context);
+    }
+
+    private static <E extends Encoder<ILoggingEvent>> E start(E encoder, LoggerContext context) {
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("logging: %s p50 %,6d us  p99 %,6d us  p99.9 %,6d us%n", name,
+            percentile(sorted, 0.50) / 1000, percentile(sorted, 0.99) / 1000, percentile(sorted, 0.999) / 1000);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private static void spin(long nanos) {
+        long until = System.nanoTime() + nanos;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class SlowSink extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            spin(SINK_NANOS_PER_WRITE);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            spin(SINK_NANOS_PER_WRITE);
+        }
+    }
+}
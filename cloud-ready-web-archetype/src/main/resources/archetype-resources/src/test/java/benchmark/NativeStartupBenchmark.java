@@ -0,0 +1,103 @@
+package ${package}.benchmark;
+
+import ${package}.integration.ServiceProcess;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Startup time and memory of the native executable against the executable jar, both on the prod
+ * profile against the same PostgreSQL. Each is started {@code startup.runs} times (default
+ * {@value #DEFAULT_RUNS}); reported are the median time to readiness and to the first 200 from
+ * {@code /api/api-docs}, and the RSS once ready and after {@value #REQUESTS} requests. Build both
+ * first with {@code ./mvnw -Pnative package}, then run with
+ * {@code ./mvnw test -P benchmark -Dtest=NativeStartupBenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class NativeStartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 5;
+    private static final int REQUESTS = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private record Run(long readyMillis, long firstOkMillis, long readyRssKb, long loadedRssKb) {
+    }
+
+    @Test
+    void compareNativeWithJvm() throws Exception {
+        Path nativeImage = Path.of(System.getProperty("native.image", "target/${artifactId}"));
+        Path jar = executableJar();
+        assumeTrue(Files.isExecutable(nativeImage) && jar != null, "Build with ./mvnw -Pnative package first");
+
+        int runs = Integer.getInteger("startup.runs", DEFAULT_RUNS);
+        Run jvm = median(runs, List.of(javaCommand(), "-jar", jar.toString()));
+        Run image = median(runs, List.of(nativeImage.toString()));
+
+        report("jvm   ", jvm);
+        report("native", image);
+
+        assertThat(image.readyMillis()).isLessThan(jvm.readyMillis());
+        assertThat(image.loadedRssKb()).isLessThan(jvm.loadedRssKb());
+    }
+
+    private Run median(int runs, List<String> command) throws Exception {
+        long[] ready = new long[runs];
+        long[] firstOk = new long[runs];
+        long[] readyRss = new long[runs];
+        long[] loadedRss = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            try (ServiceProcess app = ServiceProcess.start(command, ServiceProcess.prodArgs(postgres),
+                    Path.of("target/native-benchmark.log"))) {
+                ready[i] = app.awaitOk("/actuator/health/readiness");
+                readyRss[i] = app.rssKb();
+                firstOk[i] = app.awaitOk("/api-docs");
+                for (int r = 0; r < REQUESTS; r++) {
+                    assertThat(app.get("/api-docs").statusCode()).isEqualTo(200);
+                }
+                loadedRss[i] = app.rssKb();
+            }
+        }
+        return new Run(middle(ready), middle(firstOk), middle(readyRss), middle(loadedRss));
+    }
+
+    private static long middle(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void report(String name, Run run) {
+        System.out.printf("native: %s ready %,6d ms  first 200 %,6d ms  RSS %,8d KB ready, %,8d KB after %d requests%n",
+            name, run.readyMillis(), run.firstOkMillis(), run.readyRssKb(), run.loadedRssKb(), REQUESTS);
+    }
+
+    private static String javaCommand() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static Path executableJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar") && !path.toString().endsWith("-plain.jar"))
+                .findFirst()
+                .orElse(null);
+        }
+    }
+}
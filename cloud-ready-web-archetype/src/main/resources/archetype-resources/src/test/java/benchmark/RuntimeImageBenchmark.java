@@ -0,0 +1,175 @@
+package ${package}.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.DockerClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The image from the {@code Dockerfile}, with its jlink runtime and one layer per Spring Boot
+ * layer, against the plain {@code eclipse-temurin:17-jre-alpine} image with the executable jar.
+ * Reported per image are the uncompressed size, the compressed size in a registry and the time
+ * to pull it into an empty Docker daemon. Also reported is the median JVM time to "Started"
+ * over {@code startup.runs} starts (default {@value #DEFAULT_RUNS}) on the prod profile. Needs
+ * Docker with privileged containers for the Docker-in-Docker daemon and a packaged jar:
+ * {@code ./mvnw package}, then {@code ./mvnw test -P benchmark -Dtest=RuntimeImageBenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class RuntimeImageBenchmark {
+
+    private static final int DEFAULT_RUNS = 3;
+    private static final Pattern STARTED =
+        Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+    private static final String MANIFEST_V2 = "application/vnd.docker.distribution.manifest.v2+json";
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withNetwork(network)
+            .withNetworkAliases("db")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> registry = new GenericContainer<>("registry:2")
+            .withNetwork(network)
+            .withNetworkAliases("registry")
+            .withExposedPorts(5000);
+
+    @Container
+    static GenericContainer<?> daemon = new GenericContainer<>("docker:24-dind")
+            .withNetwork(network)
+            .withPrivilegedMode(true)
+            .withEnv("DOCKER_TLS_CERTDIR", "")
+            .withCommand("--insecure-registry=registry:5000")
+            .waitingFor(Wait.forLogMessage(".*API listen on.*", 1));
+
+    private final DockerClient docker = DockerClientFactory.instance().client();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private record Result(long sizeBytes, long compressedBytes, long pullMillis, long startedMillis) {
+    }
+
+    @Test
+    void compareWithFullJreImage() throws Exception {
+        Path jar = executableJar();
+        String jlink = new ImageFromDockerfile("${artifactId}-jlink-benchmark:latest", false)
+            .withFileFromPath("Dockerfile", Path.of("Dockerfile"))
+            .withFileFromPath("target/app.jar", jar)
+            .get();
+        String jre = new ImageFromDockerfile("${artifactId}-jre-benchmark:latest", false)
+            .withFileFromPath("app.jar", jar)
+            .withDockerfileFromBuilder(dockerfile -> dockerfile
+                .from("eclipse-temurin:17-jre-alpine")
+                .workDir("/app")
+                .copy("app.jar", "app.jar")
+                .entryPoint("java", "-XX:+UseG1GC", "-XX:MaxRAMPercentage=75.0", "-Dspring.profiles.active=prod",
+                    "-jar", "app.jar")
+                .build())
+            .get();
+
+        Result full = measure(jre, "jre");
+        Result trimmed = measure(jlink, "jlink");
+
+        report("jre + fat jar ", full);
+        report("jlink + layers", trimmed);
+
+        assertThat(trimmed.sizeBytes()).isLessThan(full.sizeBytes());
+        assertThat(trimmed.compressedBytes()).isLessThan(full.compressedBytes());
+    }
+
+    private Result measure(String image, String name) throws Exception {
+        long size = docker.inspectImageCmd(image).exec().getSize();
+
+        String registryAddress = registry.getHost() + ":" + registry.getMappedPort(5000);
+        String repository = registryAddress + "/" + name;
+        docker.tagImageCmd(image, repository, "latest").exec();
+        docker.pushImageCmd(repository).withTag("latest").start().awaitCompletion();
+
+        assertThat(daemon.execInContainer("docker", "image", "prune", "--all", "--force").getExitCode()).isZero();
+        long pullStarted = System.nanoTime();
+        ExecResult pull = daemon.execInContainer("docker", "pull", "registry:5000/" + name + ":latest");
+        long pullMillis = (System.nanoTime() - pullStarted) / 1_000_000;
+        assertThat(pull.getExitCode()).as(pull.getStderr()).isZero();
+
+        int runs = Integer.getInteger("startup.runs", DEFAULT_RUNS);
+        long[] started = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            try (GenericContainer<?> app = new GenericContainer<>(DockerImageName.parse(image))
+                    .withNetwork(network)
+                    .withExposedPorts(8080)
+                    .withEnv("SPRING_DATASOURCE_URL", "jdbc:postgresql://db:5432/testdb")
+                    .withEnv("SPRING_DATASOURCE_USERNAME", "test")
+                    .withEnv("SPRING_DATASOURCE_PASSWORD", "test")
+                    .withEnv("APP_RATE_LIMIT_CLUSTER_STORE", "memory")
+                    .withEnv("APP_SEARCH_STORE", "memory")
+                    .waitingFor(Wait.forLogMessage(".*Started .* seconds.*", 1)
+                        .withStartupTimeout(Duration.ofMinutes(2)))) {
+                app.start();
+                Matcher matcher = STARTED.matcher(app.getLogs());
+                assertThat(matcher.find()).isTrue();
+                started[i] = (long) (Double.parseDouble(matcher.group(1)) * 1000);
+            }
+        }
+        Arrays.sort(started);
+        return new Result(size, compressedSize(registryAddress, name), pullMillis, started[runs / 2]);
+    }
+
+    /** Sum of the compressed layers as listed in the registry's manifest. */
+    private long compressedSize(String registryAddress, String name) throws IOException, InterruptedException {
+        URI manifest = URI.create("http://" + registryAddress + "/v2/" + name + "/manifests/latest");
+        HttpRequest request = HttpRequest.newBuilder(manifest)
+            .header("Accept", MANIFEST_V2)
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        long total = 0;
+        for (JsonNode layer : new ObjectMapper().readTree(response.body()).path("layers")) {
+            total += layer.path("size").asLong();
+        }
+        return total;
+    }
+
+    private static void report(String name, Result result) {
+        System.out.printf("image: %s size %,6.1f MB  compressed %,6.1f MB  pull %,6d ms  started %,6d ms%n",
+            name, result.sizeBytes() / 1e6, result.compressedBytes() / 1e6, result.pullMillis(),
+            result.startedMillis());
+    }
+
+    private static Path executableJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar") && !path.toString().endsWith("-plain.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Package the application first: ./mvnw package"));
+        }
+    }
+}
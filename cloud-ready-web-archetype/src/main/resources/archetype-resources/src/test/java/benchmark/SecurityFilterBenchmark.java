@@ -0,0 +1,162 @@
+package ${package}.benchmark;
+
+import ${package}.domain.Role;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-filter cost of the security filter chains: an authenticated API request through the main
+ * chain, and a health probe through the main chain (its cost before the fast lane) and through
+ * the fast lane. Each filter is timed inclusive of everything after it, and its own share is the
+ * difference to the next one; the request ends right after the last filter, so only security work
+ * is measured. Token verification is stubbed and cached as in production.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=SecurityFilterBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SecurityFilterBenchmark {
+
+    private static final String TOKEN = "benchmark-admin";
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @TestConfiguration
+    static class FixedTokenConfig {
+
+        @Bean
+        @Primary
+        JwtDecoder fixedTokenDecoder() {
+            return token -> {
+                if (!TOKEN.equals(token)) {
+                    throw new BadJwtException("Unknown token");
+                }
+                return Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("admin")
+                    .claim("roles", List.of(Role.ADMIN.name()))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+            };
+        }
+    }
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Test
+    void reportPerFilterOverhead() throws Exception {
+        List<SecurityFilterChain> chains = filterChainProxy.getFilterChains();
+        SecurityFilterChain main = chains.get(chains.size() - 1);
+        SecurityFilterChain fastLane = chains.stream()
+            .filter(chain -> chain.matches(request("/actuator/health/readiness", false)))
+            .findFirst()
+            .orElseThrow();
+        assertThat(fastLane).isNotSameAs(main);
+
+        double authenticated = report("authenticated /users/1 (main chain)", main, "/users/1", true);
+        double probeMain = report("probe /actuator/health/readiness (main chain)", main, "/actuator/health/readiness",
+            false);
+        double probeFast = report("probe /actuator/health/readiness (fast lane)", fastLane,
+            "/actuator/health/readiness", false);
+
+        assertThat(authenticated).isPositive();
+        assertThat(probeFast).isLessThan(probeMain);
+    }
+
+    private static double report(String name, SecurityFilterChain chain, String path, boolean bearer)
+            throws Exception {
+        List<Filter> filters = chain.getFilters();
+        long[] inclusive = new long[filters.size() + 1];
+        List<Filter> timed = new ArrayList<>(filters.size());
+        for (int i = 0; i < filters.size(); i++) {
+            timed.add(timed(filters.get(i), inclusive, i));
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            run(timed, path, bearer);
+        }
+        Arrays.fill(inclusive, 0);
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(run(timed, path, bearer).getStatus()).isEqualTo(200);
+        }
+
+        System.out.printf("security: %s%n", name);
+        for (int i = 0; i < filters.size(); i++) {
+            double self = (inclusive[i] - inclusive[i + 1]) / 1000.0 / ITERATIONS;
+            System.out.printf("security:   %-50s %8.3f us%n", filters.get(i).getClass().getSimpleName(), self);
+        }
+        double total = inclusive[0] / 1000.0 / ITERATIONS;
+        System.out.printf("security:   %-50s %8.3f us%n", "total", total);
+        return total;
+    }
+
+    private static MockHttpServletResponse run(List<Filter> filters, String path, boolean bearer) throws Exception {
+        MockHttpServletRequest request = request(path, bearer);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new Chain(filters).doFilter(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, boolean bearer) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (bearer) {
+            request.addHeader("Authorization", "Bearer " + TOKEN);
+        }
+        return request;
+    }
+
+    private static Filter timed(Filter filter, long[] inclusive, int index) {
+        return (request, response, chain) -> {
+            long started = System.nanoTime();
+            filter.doFilter(request, response, chain);
+            inclusive[index] += System.nanoTime() - started;
+        };
+    }
+
+    /** Runs the filters in order and ends the request after the last one. */
+    private static final class Chain implements FilterChain {
+
+        private final List<Filter> filters;
+        private int position;
+
+        Chain(List<Filter> filters) {
+            this.filters = filters;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            if (position < filters.size()) {
+                filters.get(position++).doFilter(request, response, this);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ${package}.benchmark;
+
+import ${package}.domain.Role;
+import ${package}.domain.User;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
+import ${package}.repository.UserRepository;
+import ${package}.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a full user page with the narrow {@code fields=id,username} projection: JSON bytes
+ * per page and service latency with the page cache off, so every call reaches the database.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=SparseFieldsetBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsetBenchmark {
+
+    private static final int USERS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.page-cache.enabled", () -> "false");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void loadUsers() {
+        List<User> batch = new ArrayList<>(1000);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "First" + i, "Last" + i);
+            user.setRoles(i % 10 == 0 ? Set.of(Role.USER, Role.ADMIN) : Set.of(Role.USER));
+            batch.add(user);
+            if (batch.size() == 1000) {
+                userRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    void compareFullAndNarrowPages() throws Exception {
+        Set<UserField> narrow = UserField.parse("id,username");
+        Pageable first = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+
+        int fullBytes = objectMapper.writeValueAsBytes(userService.findAll(first)).length;
+        int narrowBytes = objectMapper.writeValueAsBytes(userService.findProjected(null, narrow, first)).length;
+
+        double fullMicros = measure(page -> userService.findAll(page));
+        double narrowMicros = measure(page -> userService.findProjected(null, narrow, page));
+
+        System.out.printf("fields: full page %,d bytes, %.1f us/page%n", fullBytes, fullMicros);
+        System.out.printf("fields: id,username page %,d bytes, %.1f us/page%n", narrowBytes, narrowMicros);
+
+        assertThat(narrowBytes).isLessThan(fullBytes);
+    }
+
+    private double measure(Function<Pageable, PageDto<UserDto>> call) {
+        int pages = USERS / PAGE_SIZE;
+        for (int i = 0; i < WARMUP; i++) {
+            call.apply(PageRequest.of(i % pages, PAGE_SIZE, Sort.by("id")));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(call.apply(PageRequest.of(i % pages, PAGE_SIZE, Sort.by("id"))).getContent())
+                .hasSize(PAGE_SIZE);
+        }
+        return (System.nanoTime() - started) / 1000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,90 @@
+package ${package}.benchmark;
+
+import ${package}.${artifactId}Application;
+import ${package}.integration.ServiceProcess;
+import ${package}.startup.SlowestBeansEndpoint;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application in a fresh JVM {@code startup.runs} times (default {@value #DEFAULT_RUNS})
+ * on the test profile and reports, from process start, the time until the readiness probe answers
+ * 200 and the time until the first 200 from {@code /api/api-docs}, the first request through the
+ * DispatcherServlet and springdoc's scan. It then boots once in this JVM and prints the slowest
+ * bean initializations as {@code /actuator/startupbeans} reports them. Pass
+ * {@code -Dstartup.args="--app.startup.background-beans=..."} to compare deferred beans.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=StartupBenchmark}.
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 5;
+
+    @Test
+    void measureStartup() throws Exception {
+        int runs = Integer.getInteger("startup.runs", DEFAULT_RUNS);
+        long[] ready = new long[runs];
+        long[] firstOk = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] run = bootOnce();
+            ready[i] = run[0];
+            firstOk[i] = run[1];
+            System.out.printf("startup: run %d ready %,d ms  first 200 %,d ms%n", i + 1, run[0], run[1]);
+        }
+        Arrays.sort(ready);
+        Arrays.sort(firstOk);
+        System.out.printf("startup: time to ready     min %,d ms  median %,d ms  max %,d ms%n",
+            ready[0], ready[runs / 2], ready[runs - 1]);
+        System.out.printf("startup: time to first 200 min %,d ms  median %,d ms  max %,d ms%n",
+            firstOk[0], firstOk[runs / 2], firstOk[runs - 1]);
+
+        assertThat(ready[0]).isPositive();
+        assertThat(firstOk[0]).isGreaterThanOrEqualTo(ready[0]);
+    }
+
+    @Test
+    void reportSlowestBeans() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(${artifactId}Application.class)
+                .applicationStartup(new BufferingApplicationStartup(${artifactId}Application.STARTUP_STEPS))
+                .profiles("test")
+                .properties("server.port=0")
+                .run()) {
+            SlowestBeansEndpoint.SlowestBeans report = context.getBean(SlowestBeansEndpoint.class).slowestBeans(15);
+
+            System.out.printf("startup: refresh %,d ms, %d beans instantiated%n",
+                report.refreshMillis(), report.beans());
+            for (SlowestBeansEndpoint.BeanTiming bean : report.slowest()) {
+                System.out.printf("startup: %,6d ms self %,6d ms total  %s%n",
+                    bean.selfMillis(), bean.totalMillis(), bean.bean());
+            }
+            assertThat(report.slowest()).isNotEmpty();
+        }
+    }
+
+    private long[] bootOnce() throws Exception {
+        List<String> command = List.of(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"),
+            ${artifactId}Application.class.getName());
+        List<String> args = new ArrayList<>(List.of("--spring.profiles.active=test", "--logging.level.root=WARN"));
+        String extra = System.getProperty("startup.args", "");
+        if (!extra.isBlank()) {
+            args.addAll(List.of(extra.trim().split("\\s+")));
+        }
+        try (ServiceProcess app = ServiceProcess.start(command, args, Path.of("target/startup-benchmark.log"))) {
+            long ready = app.awaitOk("/actuator/health/readiness");
+            long firstOk = app.awaitOk("/api-docs");
+            return new long[] {ready, firstOk};
+        }
+    }
+}
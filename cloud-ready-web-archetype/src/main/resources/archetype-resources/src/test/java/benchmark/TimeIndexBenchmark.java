@@ -0,0 +1,110 @@
+package ${package}.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares btree and BRIN indexes on created_at and updated_at: index size and the time of a
+ * one-day range count over 5M users. created_at follows insertion order; updated_at is set on a
+ * random tenth of the rows after loading, the way profile edits scatter it in production.
+ * Run with {@code ./mvnw test -P benchmark -Dtest=TimeIndexBenchmark}.
+ */
+@Tag("benchmark")
+class TimeIndexBenchmark {
+
+    private static final int ROWS = 5_000_000;
+    private static final int QUERIES = 200;
+
+    private static PostgreSQLContainer<?> postgres;
+    private static Connection connection;
+
+    @BeforeAll
+    static void loadUsers() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGSERIAL PRIMARY KEY, username VARCHAR(50) NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP)");
+            // One user per ~6 seconds over a year, inserted in creation order
+            statement.execute("INSERT INTO users (username, created_at) " +
+                "SELECT 'user' || g, TIMESTAMP '2023-01-01' + g * INTERVAL '6 seconds' " +
+                "FROM generate_series(1, " + ROWS + ") g");
+            statement.execute("UPDATE users SET updated_at = TIMESTAMP '2023-01-01' + random() * INTERVAL '365 days' " +
+                "WHERE random() < 0.1");
+            statement.execute("VACUUM ANALYZE users");
+        }
+    }
+
+    @AfterAll
+    static void stop() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Test
+    void compareBtreeAndBrinOnCreatedAt() throws SQLException {
+        compare("created_at");
+    }
+
+    @Test
+    void compareBtreeAndBrinOnUpdatedAt() throws SQLException {
+        compare("updated_at");
+    }
+
+    private void compare(String column) throws SQLException {
+        Result btree = measure(column, "CREATE INDEX bench_idx ON users (" + column + ")");
+        Result brin = measure(column,
+            "CREATE INDEX bench_idx ON users USING brin (" + column + ") WITH (pages_per_range = 32)");
+
+        System.out.printf("time-index %s: btree %,d KB, %.2f ms/query | brin %,d KB, %.2f ms/query%n",
+            column, btree.bytes() >> 10, btree.millisPerQuery(), brin.bytes() >> 10, brin.millisPerQuery());
+        assertThat(btree.matches()).isEqualTo(brin.matches());
+        assertThat(brin.bytes()).isLessThan(btree.bytes());
+    }
+
+    private Result measure(String column, String createIndex) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createIndex);
+            statement.execute("ANALYZE users");
+            // Force the index path so both kinds are measured, not whatever the planner prefers
+            statement.execute("SET enable_seqscan = off");
+            long bytes = queryLong(statement, "SELECT pg_relation_size('bench_idx')");
+
+            long matches = 0;
+            long started = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                int day = (i * 37) % 364;
+                matches += queryLong(statement, "SELECT count(*) FROM users WHERE " + column +
+                    " >= TIMESTAMP '2023-01-01' + INTERVAL '" + day + " days' AND " + column +
+                    " < TIMESTAMP '2023-01-01' + INTERVAL '" + (day + 1) + " days'");
+            }
+            double millisPerQuery = (System.nanoTime() - started) / 1_000_000.0 / QUERIES;
+
+            statement.execute("RESET enable_seqscan");
+            statement.execute("DROP INDEX bench_idx");
+            return new Result(bytes, millisPerQuery, matches);
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private record Result(long bytes, double millisPerQuery, long matches) {
+    }
+}
@@ -0,0 +1,69 @@
+package ${package}.benchmark;
+
+import ${package}.typeahead.RadixTrie;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the typeahead trie for 10M synthetic usernames and reports its footprint and lookup
+ * latency. Run with {@code ./mvnw test -P benchmark -Dtest=TypeaheadFootprintBenchmark}.
+ */
+@Tag("benchmark")
+class TypeaheadFootprintBenchmark {
+
+    private static final int ENTRIES = 10_000_000;
+    private static final int LOOKUPS = 1_000_000;
+    private static final String[] STEMS = {"john", "maria", "alex", "chen", "fatima", "lee", "olga", "sam"};
+
+    @Test
+    void reportFootprintAndLatencyFor10MillionUsernames() {
+        Random random = new Random(42);
+        long heapBefore = usedHeap();
+
+        RadixTrie trie = new RadixTrie();
+        long buildStarted = System.nanoTime();
+        for (int i = 0; i < ENTRIES; i++) {
+            trie.put(username(random, i), i);
+        }
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStarted);
+        long heapAfter = usedHeap();
+
+        String[] prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = username(random, random.nextInt(ENTRIES));
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(6, name.length())));
+        }
+        long matches = 0;
+        long lookupStarted = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            matches += trie.prefixSearch(prefixes[i & (prefixes.length - 1)], 10).size();
+        }
+        double lookupMicros = (System.nanoTime() - lookupStarted) / 1000.0 / LOOKUPS;
+
+        System.out.printf("typeahead: %,d keys, %,d nodes, built in %,d ms%n",
+            trie.size(), trie.nodeCount(), buildMillis);
+        System.out.printf("typeahead: estimated %,d MB, measured heap delta %,d MB%n",
+            trie.estimatedBytes() >> 20, (heapAfter - heapBefore) >> 20);
+        System.out.printf("typeahead: top-10 prefix lookup %.2f us/op%n", lookupMicros);
+
+        assertThat(trie.size()).isEqualTo(ENTRIES);
+        assertThat(matches).isPositive();
+    }
+
+    private static String username(Random random, int i) {
+        return STEMS[random.nextInt(STEMS.length)] + "." + Integer.toString(i, 36);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package ${package}.bulkhead;
+
+import ${package}.config.AppProperties;
+import ${package}.deadline.Deadline;
+import ${package}.deadline.DeadlineContext;
+import ${package}.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadsTest {
+
+    private final Bulkheads bulkheads = new Bulkheads(new AppProperties(), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.clear();
+        bulkheads.destroy();
+    }
+
+    @Test
+    void supply_ShouldReturnResultWithinDeadline() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after("fast", Duration.ofSeconds(5)));
+
+        // When
+        CompletableFuture<String> result = bulkheads.supply(BulkheadType.POINT, () -> "done");
+
+        // Then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void supply_ShouldInterruptWorker_WhenDeadlineExpires() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after("slow", Duration.ofMillis(100)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+
+        // When
+        CompletableFuture<String> result = bulkheads.supply(BulkheadType.SEARCH, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                finished.set(true);
+                return "too late";
+            } catch (InterruptedException e) {
+                stopped.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(finished).isFalse();
+    }
+
+    @Test
+    void supply_ShouldSkipQueuedTask_WhenDeadlineExpiresBeforeItRuns() throws Exception {
+        // Given: every SEARCH thread is busy until released
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = new AppProperties().getBulkhead().getSearch().getThreads();
+        for (int i = 0; i < threads; i++) {
+            bulkheads.supply(BulkheadType.SEARCH, () -> {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        }
+        DeadlineContext.set(Deadline.after("queued", Duration.ofMillis(50)));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        CompletableFuture<Boolean> result = bulkheads.supply(BulkheadType.SEARCH, () -> ran.getAndSet(true));
+
+        // Then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(DeadlineExceededException.class);
+        release.countDown();
+        Thread.sleep(100);
+        assertThat(ran).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package ${package}.cache;
+
+import ${package}.config.AppProperties;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPageCacheTest {
+
+    private UserPageCache cache;
+    private final AtomicInteger contentQueries = new AtomicInteger();
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPageCache(new AppProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getOrLoad_ShouldServeRepeatedPageFromCache() {
+        // When
+        load("john", 0);
+        PageDto<UserDto> page = load("john", 0);
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(45);
+        assertThat(contentQueries.get()).isEqualTo(1);
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrLoad_ShouldReuseCountAcrossPages() {
+        // When
+        load("john", 0);
+        load("john", 1);
+
+        // Then
+        assertThat(contentQueries.get()).isEqualTo(2);
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_ShouldMakePreviousGenerationUnreachable() {
+        // Given
+        load("john", 0);
+
+        // When
+        cache.invalidate();
+        load("john", 0);
+
+        // Then
+        assertThat(cache.getGeneration()).isEqualTo(1);
+        assertThat(contentQueries.get()).isEqualTo(2);
+        assertThat(countQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void normalize_ShouldFoldCaseOnly() {
+        // Whitespace changes what the LIKE predicate matches, so it must stay part of the key
+        assertThat(UserPageCache.normalize("John DOE")).isEqualTo("john doe");
+        assertThat(UserPageCache.normalize("john  doe")).isNotEqualTo(UserPageCache.normalize("john doe"));
+        assertThat(UserPageCache.normalize(null)).isEmpty();
+    }
+
+    private PageDto<UserDto> load(String term, int page) {
+        return cache.getOrLoad(term, PageRequest.of(page, 20),
+            () -> {
+                contentQueries.incrementAndGet();
+                return IntStream.range(0, 20)
+                    .mapToObj(i -> UserDto.builder().id((long) i).build())
+                    .toList();
+            },
+            () -> {
+                countQueries.incrementAndGet();
+                return 45;
+            });
+    }
+}
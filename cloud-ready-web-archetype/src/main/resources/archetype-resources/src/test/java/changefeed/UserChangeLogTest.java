@@ -0,0 +1,104 @@
+package ${package}.changefeed;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.ChangeFeedState;
+import ${package}.domain.UserChange;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.ChangeFeedStateRepository;
+import ${package}.repository.UserChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserChangeLogTest {
+
+    private UserChangeRepository changeRepository;
+    private ChangeFeedStateRepository stateRepository;
+    private UserChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeRepository = mock(UserChangeRepository.class);
+        stateRepository = mock(ChangeFeedStateRepository.class);
+        changeLog = new UserChangeLog(changeRepository, stateRepository, mock(PlatformTransactionManager.class),
+            new AppProperties());
+    }
+
+    @Test
+    void onUserChanged_ShouldRecordUpsertsAndTombstonesWithoutTheSequenceRow() {
+        // Given
+        UserDto user = UserDto.builder().id(7L).username("john").build();
+
+        // When
+        changeLog.onUserChanged(UserChangedEvent.created(user));
+        changeLog.onUserChanged(UserChangedEvent.updated(user, user));
+        changeLog.onUserChanged(UserChangedEvent.deleted(user));
+
+        // Then - writers never lock a shared row
+        verify(changeRepository, times(2)).record(eq(7L), eq("UPSERTED"), any());
+        verify(changeRepository).record(eq(7L), eq("DELETED"), any());
+        verifyNoInteractions(stateRepository);
+    }
+
+    @Test
+    void purgeTombstones_ShouldDeleteExpiredTombstonesAndAdvancePurgedThrough() {
+        // Given
+        ChangeFeedState state = ChangeFeedState.initial();
+        when(changeRepository.findLastTxidBefore(eq(UserChange.Type.DELETED), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(500L));
+        when(stateRepository.findWithLockById(ChangeFeedState.ID)).thenReturn(Optional.of(state));
+        when(changeRepository.deleteThrough(UserChange.Type.DELETED, 500L)).thenReturn(3);
+
+        // When
+        changeLog.purgeTombstones();
+
+        // Then
+        verify(changeRepository).deleteThrough(UserChange.Type.DELETED, 500L);
+        assertThat(state.getPurgedThrough()).isEqualTo(500L);
+    }
+
+    @Test
+    void purgeTombstones_ShouldNeverLowerPurgedThrough() {
+        // Given - another instance already purged further
+        ChangeFeedState state = ChangeFeedState.initial();
+        state.setPurgedThrough(900L);
+        when(changeRepository.findLastTxidBefore(eq(UserChange.Type.DELETED), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(500L));
+        when(stateRepository.findWithLockById(ChangeFeedState.ID)).thenReturn(Optional.of(state));
+
+        // When
+        changeLog.purgeTombstones();
+
+        // Then
+        assertThat(state.getPurgedThrough()).isEqualTo(900L);
+    }
+
+    @Test
+    void purgeTombstones_ShouldSkipWhenNothingExpired() {
+        // Given
+        when(changeRepository.findLastTxidBefore(eq(UserChange.Type.DELETED), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+
+        // When
+        changeLog.purgeTombstones();
+
+        // Then
+        verify(changeRepository, never()).deleteThrough(any(), anyLong());
+        verifyNoInteractions(stateRepository);
+    }
+}
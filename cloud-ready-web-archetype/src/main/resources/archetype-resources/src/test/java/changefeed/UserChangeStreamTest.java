@@ -0,0 +1,128 @@
+package ${package}.changefeed;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.UserChange;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
+import ${package}.exception.BulkheadFullException;
+import ${package}.exception.ChangeFeedExpiredException;
+import ${package}.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserChangeStreamTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private UserService userService;
+    private AppProperties appProperties;
+    private UserChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        appProperties = new AppProperties();
+        appProperties.getChangeFeed().setMaxBatchSize(BATCH_SIZE);
+        stream = new UserChangeStream(userService, appProperties);
+    }
+
+    @Test
+    void drainAll_ShouldShareOneReadPerTokenAndAdvanceEachSubscriber() {
+        // Given - two subscribers caught up at the same token
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenReturn(batch("5.1", false));
+        stream.subscribe("5.1");
+        stream.subscribe("5.1");
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenReturn(batch("6.2", false, "6.2"));
+        when(userService.findChanges("6.2", BATCH_SIZE)).thenReturn(batch("6.2", false));
+
+        // When
+        stream.drainAll();
+        stream.drainAll();
+
+        // Then - two reads on subscribe, one shared read per drain
+        verify(userService, times(3)).findChanges("5.1", BATCH_SIZE);
+        verify(userService, times(1)).findChanges("6.2", BATCH_SIZE);
+        assertThat(stream.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void drainAll_ShouldKeepReadingWhileMoreChangesFollow() {
+        // Given
+        when(userService.findChanges(null, BATCH_SIZE)).thenReturn(batch("1.1", false));
+        stream.subscribe(null);
+        when(userService.findChanges("1.1", BATCH_SIZE)).thenReturn(batch("7.3", true, "7.2", "7.3"));
+        when(userService.findChanges("7.3", BATCH_SIZE)).thenReturn(batch("8.4", false, "8.4"));
+
+        // When
+        stream.drainAll();
+
+        // Then
+        verify(userService).findChanges("7.3", BATCH_SIZE);
+    }
+
+    @Test
+    void drainAll_ShouldCloseSubscribersWhoseTokenExpired() {
+        // Given
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenReturn(batch("5.1", false));
+        stream.subscribe("5.1");
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenThrow(new ChangeFeedExpiredException("purged"));
+
+        // When
+        stream.drainAll();
+
+        // Then
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    void drainAll_ShouldKeepSubscribersWhenReadFails() {
+        // Given
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenReturn(batch("5.1", false));
+        stream.subscribe("5.1");
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenThrow(new IllegalStateException("database down"));
+
+        // When
+        stream.drainAll();
+
+        // Then - the next poll retries from the same token
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_ShouldFailBeforeOpeningStreamForExpiredToken() {
+        // Given
+        when(userService.findChanges("5.1", BATCH_SIZE)).thenThrow(new ChangeFeedExpiredException("purged"));
+
+        // When / Then
+        assertThatThrownBy(() -> stream.subscribe("5.1")).isInstanceOf(ChangeFeedExpiredException.class);
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_ShouldRejectBeyondMaxSubscribers() {
+        // Given
+        appProperties.getChangeFeed().setMaxSubscribers(1);
+        when(userService.findChanges(null, BATCH_SIZE)).thenReturn(batch("0.0", false));
+        stream.subscribe(null);
+
+        // When / Then
+        assertThatThrownBy(() -> stream.subscribe(null)).isInstanceOf(BulkheadFullException.class);
+    }
+
+    private static UserChangeBatchDto batch(String nextToken, boolean hasMore, String... tokens) {
+        List<UserChangeDto> changes = Arrays.stream(tokens)
+            .map(token -> new UserChangeDto(token, UserChange.Type.DELETED, 1L, null))
+            .toList();
+        return new UserChangeBatchDto(changes, nextToken, hasMore);
+    }
+}
@@ -0,0 +1,66 @@
+package ${package}.codec;
+
+import ${package}.dto.UserDto;
+import ${package}.dto.UserField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedUserCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final EncodedUserCache cache = new EncodedUserCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AtomicInteger encodings = new AtomicInteger();
+
+    @Test
+    void get_ShouldReuseEncoding_UntilUpdatedAtMoves() {
+        // Given
+        UserDto user = user("johndoe", UPDATED_AT);
+
+        // When
+        byte[] first = cache.get("smile", user, this::encode);
+        byte[] second = cache.get("smile", user("johndoe", UPDATED_AT), this::encode);
+        byte[] changed = cache.get("smile", user("janedoe", UPDATED_AT.plusNanos(1_000)), this::encode);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(changed, StandardCharsets.UTF_8)).isEqualTo("janedoe");
+        assertThat(encodings).hasValue(2);
+    }
+
+    @Test
+    void get_ShouldNotCacheProjectedUsersOrUsersWithoutVersion() {
+        // Given
+        UserDto projected = UserField.project(user("johndoe", UPDATED_AT), UserField.parse("username"));
+        UserDto unsaved = user("johndoe", null);
+
+        // When
+        cache.get("smile", projected, this::encode);
+        cache.get("smile", projected, this::encode);
+        cache.get("smile", unsaved, this::encode);
+        cache.get("smile", unsaved, this::encode);
+
+        // Then
+        assertThat(encodings).hasValue(4);
+    }
+
+    private byte[] encode(UserDto user) {
+        encodings.incrementAndGet();
+        return user.getUsername().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static UserDto user(String username, LocalDateTime updatedAt) {
+        return UserDto.builder()
+            .id(1L)
+            .username(username)
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
@@ -0,0 +1,46 @@
+package ${package}.codec;
+
+import ${package}.dto.UserDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpochDatesModuleTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 250_000_000);
+
+    @Test
+    void shouldWriteDatesAsEpochMillisDespiteJsonFormatPattern() throws Exception {
+        ObjectMapper smile = mapper(new ObjectMapper(new SmileFactory()));
+        UserDto user = UserDto.builder().id(1L).username("johndoe").createdAt(CREATED).build();
+
+        JsonNode tree = smile.readTree(smile.writeValueAsBytes(user));
+
+        assertThat(tree.get("createdAt").isNumber()).isTrue();
+        assertThat(tree.get("createdAt").asLong()).isEqualTo(CREATED.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    @Test
+    void shouldRoundTripThroughCbor() throws Exception {
+        ObjectMapper cbor = mapper(new ObjectMapper(new CBORFactory()));
+        UserDto user = UserDto.builder().id(1L).username("johndoe").createdAt(CREATED).updatedAt(CREATED).build();
+
+        UserDto decoded = cbor.readValue(cbor.writeValueAsBytes(user), UserDto.class);
+
+        assertThat(decoded.getUsername()).isEqualTo("johndoe");
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED);
+        assertThat(decoded.getUpdatedAt()).isEqualTo(CREATED);
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule()).registerModule(new EpochDatesModule());
+    }
+}
@@ -0,0 +1,58 @@
+package ${package}.config;
+
+import ${package}.bulkhead.BulkheadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseConfigTest {
+
+    private BulkheadRoutingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    void dataSource_ShouldApplyHikariPropertiesToEveryPool() throws Exception {
+        // Given
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:hikari-binding");
+        dataSourceProperties.afterPropertiesSet();
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.hikari.connection-timeout", "1234")
+            .withProperty("spring.datasource.hikari.leak-detection-threshold", "5000")
+            .withProperty("spring.datasource.hikari.maximum-pool-size", "99")
+            .withProperty("spring.datasource.hikari.pool-name", "ignored");
+        AppProperties appProperties = new AppProperties();
+
+        // When
+        DataSource bean = new DatabaseConfig().dataSource(dataSourceProperties, appProperties, environment,
+            new SimpleMeterRegistry());
+        dataSource = (BulkheadRoutingDataSource) bean;
+        dataSource.afterPropertiesSet();
+
+        // Then
+        assertThat(dataSource.getResolvedDataSources().values())
+            .hasSize(2)
+            .allSatisfy(pool -> {
+                HikariDataSource hikari = (HikariDataSource) pool;
+                assertThat(hikari.getConnectionTimeout()).isEqualTo(1234);
+                assertThat(hikari.getLeakDetectionThreshold()).isEqualTo(5000);
+                assertThat(hikari.getPoolName()).startsWith("hikari-");
+                assertThat(hikari.getMaximumPoolSize()).isNotEqualTo(99);
+            });
+        assertThat(((HikariDataSource) dataSource.getResolvedDefaultDataSource()).getMaximumPoolSize())
+            .isEqualTo(appProperties.getBulkhead().getPoint().getConnections());
+    }
+}
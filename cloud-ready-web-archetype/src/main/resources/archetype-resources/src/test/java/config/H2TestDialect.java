@@ -0,0 +1,16 @@
+package ${package}.config;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * H2 for the test profile. H2 computes generated columns on write but rejects the
+ * {@code STORED} keyword PostgreSQL requires, so the lower-cased login columns are created
+ * without it.
+ */
+public class H2TestDialect extends H2Dialect {
+
+    @Override
+    public String generatedAs(String generatedAs) {
+        return " generated always as (" + generatedAs + ")";
+    }
+}
@@ -0,0 +1,43 @@
+package ${package}.controller;
+
+import ${package}.exception.InvalidSortException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortRegistryTest {
+
+    @Test
+    void resolve_ShouldDefaultToId() {
+        assertThat(SortRegistry.resolve(null, Sort.Direction.ASC)).isEqualTo(Sort.by("id"));
+    }
+
+    @Test
+    void resolve_ShouldAddIdTiebreakerForNonUniqueFields() {
+        assertThat(SortRegistry.resolve("created_at", Sort.Direction.DESC))
+            .isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(SortRegistry.resolve("id", Sort.Direction.DESC)).isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @Test
+    void resolve_ShouldSortLoginsOnLowerCasedColumns() {
+        assertThat(SortRegistry.resolve("username", Sort.Direction.ASC)).isEqualTo(Sort.by("usernameLower"));
+        assertThat(SortRegistry.resolve("email", Sort.Direction.DESC))
+            .isEqualTo(Sort.by(Sort.Direction.DESC, "emailLower"));
+        assertThat(SortRegistry.fields()).contains("username", "email").doesNotContain("usernameLower");
+    }
+
+    @Test
+    void resolve_ShouldRewriteAliases() {
+        assertThat(SortRegistry.resolve("fullName", Sort.Direction.ASC)).isEqualTo(Sort.by("lastName", "id"));
+    }
+
+    @Test
+    void resolve_ShouldRejectUnindexedFields() {
+        assertThatThrownBy(() -> SortRegistry.resolve("firstName", Sort.Direction.ASC))
+            .isInstanceOf(InvalidSortException.class)
+            .hasMessageContaining("firstName");
+    }
+}
@@ -1,32 +1,84 @@
 package ${package}.controller;
 
+import ${package}.bulkhead.Bulkheads;
+import ${package}.changefeed.UserChangeStream;
+import ${package}.config.AppProperties;
+import ${package}.config.BinaryContentConfig;
+import ${package}.domain.UserChange;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
 import ${package}.dto.UserDto;
+import ${package}.exception.ResourceNotFoundException;
 import ${package}.service.UserService;
+import ${package}.typeahead.UserTypeaheadIndex;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
 class UserControllerTest {
 
+    @TestConfiguration
+    @EnableConfigurationProperties(AppProperties.class)
+    static class BulkheadTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        Bulkheads bulkheads(AppProperties appProperties, MeterRegistry meterRegistry) {
+            return new Bulkheads(appProperties, meterRegistry);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserTypeaheadIndex typeaheadIndex;
+
+    @MockBean
+    private UserChangeStream changeStream;
+
+    // @EnableJpaAuditing on the application class needs a mapping context the slice does not load
+    @MockBean
+    private JpaMetamodelMappingContext jpaMappingContext;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,13 +98,42 @@ class UserControllerTest {
 
         when(userService.findById(userId)).thenReturn(Optional.of(userDto));
 
-        // When & Then
-        mockMvc.perform(get("/users/{id}", userId))
+        // When
+        MvcResult result = mockMvc.perform(get("/users/{id}", userId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(jsonPath("$.id").value(userId))
             .andExpect(jsonPath("$.username").value("testuser"))
-            .andExpect(jsonPath("$.email").value("test@example.com"));
+            .andExpect(jsonPath("$.email").value("test@example.com"))
+            .andExpect(jsonPath("$").value(hasKey("roles")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUserById_ShouldNegotiateSmileWithEpochDates() throws Exception {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30);
+        UserDto userDto = UserDto.builder().id(1L).username("testuser").createdAt(createdAt).build();
+        when(userService.findById(1L)).thenReturn(Optional.of(userDto));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/users/{id}", 1L).accept(BinaryContentConfig.SMILE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(BinaryContentConfig.SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode user = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertThat(user.get("username").asText()).isEqualTo("testuser");
+        assertThat(user.get("createdAt").asLong()).isEqualTo(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
     }
 
     @Test
@@ -62,11 +143,51 @@ class UserControllerTest {
         Long userId = 999L;
         when(userService.findById(userId)).thenReturn(Optional.empty());
 
-        // When & Then
-        mockMvc.perform(get("/users/{id}", userId))
+        // When
+        MvcResult result = mockMvc.perform(get("/users/{id}", userId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUserById_ShouldReturnOnlySelectedFields() throws Exception {
+        // Given
+        UserDto userDto = UserDto.builder()
+            .id(1L)
+            .username("testuser")
+            .email("test@example.com")
+            .firstName("Test")
+            .lastName("User")
+            .build();
+        when(userService.findById(1L)).thenReturn(Optional.of(userDto));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/users/{id}", 1L).param("fields", "username"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1L))
+            .andExpect(jsonPath("$.username").value("testuser"))
+            .andExpect(jsonPath("$.email").doesNotExist())
+            .andExpect(jsonPath("$.firstName").doesNotExist())
+            .andExpect(jsonPath("$").value(not(hasKey("roles"))));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUserById_ShouldRejectUnknownFields() throws Exception {
+        mockMvc.perform(get("/users/{id}", 1L).param("fields", "password"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void createUser_ShouldReturnCreatedUser_WhenValidInput() throws Exception {
@@ -90,16 +211,113 @@ class UserControllerTest {
 
         when(userService.create(any(UserDto.class))).thenReturn(createdDto);
 
-        // When & Then
-        mockMvc.perform(post("/users")
+        // When
+        MvcResult result = mockMvc.perform(post("/users")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(inputDto)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isCreated())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.username").value("newuser"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUserChanges_ShouldCapLimitAndReturnNextToken() throws Exception {
+        // Given
+        UserDto userDto = UserDto.builder().id(7L).username("changed").build();
+        UserChangeBatchDto batch = new UserChangeBatchDto(
+            List.of(new UserChangeDto("43", UserChange.Type.UPSERTED, 7L, userDto),
+                    new UserChangeDto("44", UserChange.Type.DELETED, 8L, null)),
+            "44", false);
+        when(userService.findChanges("42", 1000)).thenReturn(batch);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/users/changes")
+                .param("since", "42")
+                .param("limit", "50000"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[0].user.username").value("changed"))
+            .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+            .andExpect(jsonPath("$.nextToken").value("44"))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllUsers_ShouldRejectFiltersCombinedWithSearch() throws Exception {
+        mockMvc.perform(get("/users").param("search", "john").param("enabled", "true"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"))
+            .andExpect(jsonPath("$.message").value("Role and enabled filters cannot be combined with a search"));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getRecentUsers_ShouldRejectUnknownTimestamp() throws Exception {
+        mockMvc.perform(get("/users/recent").param("by", "deleted"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"))
+            .andExpect(jsonPath("$.message").value("Unsupported timestamp 'deleted', expected created or updated"));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getRecentUsers_ShouldRejectRangeEndingBeforeItStarts() throws Exception {
+        mockMvc.perform(get("/users/recent")
+                .param("from", "2024-06-01T00:00:00")
+                .param("to", "2024-01-01T00:00:00"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"))
+            .andExpect(jsonPath("$.path").value("/users/recent"));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateUser_ShouldReturnErrorBody_WhenUserMissing() throws Exception {
+        // Given
+        UserDto inputDto = UserDto.builder()
+            .username("ghost")
+            .email("ghost@example.com")
+            .firstName("Ghost")
+            .lastName("User")
+            .enabled(true)
+            .build();
+        when(userService.update(eq(99L), any(UserDto.class)))
+            .thenThrow(new ResourceNotFoundException("User not found with id: 99"));
+
+        // When
+        MvcResult result = mockMvc.perform(put("/users/{id}", 99L)
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputDto)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"))
+            .andExpect(jsonPath("$.message").value("User not found with id: 99"))
+            .andExpect(jsonPath("$.status").value(404))
+            .andExpect(jsonPath("$.path").value("/users/99"));
+    }
+
     @Test
     void getUserById_ShouldReturnUnauthorized_WhenNotAuthenticated() throws Exception {
         // When & Then
@@ -0,0 +1,80 @@
+package ${package}.crac;
+
+import ${package}.bulkhead.BulkheadRoutingDataSource;
+import ${package}.bulkhead.BulkheadType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolsLifecycleTest {
+
+    private HikariDataSource searchPool;
+    private HikariDataSource pointPool;
+    private BulkheadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        searchPool = pool("search");
+        pointPool = pool("point");
+        dataSource = new BulkheadRoutingDataSource();
+        dataSource.setTargetDataSources(
+            Map.<Object, Object>of(BulkheadType.SEARCH, searchPool, BulkheadType.POINT, pointPool));
+        dataSource.setDefaultTargetDataSource(pointPool);
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dataSource.destroy();
+    }
+
+    @Test
+    void stop_ShouldCloseEveryConnectionAndStartShouldReopen() throws Exception {
+        try (Connection connection = searchPool.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+        try (Connection connection = pointPool.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+        HikariPoolsLifecycle lifecycle = new HikariPoolsLifecycle(dataSource);
+        assertThat(lifecycle.isRunning()).isTrue();
+
+        lifecycle.stop();
+
+        assertThat(lifecycle.isRunning()).isFalse();
+        assertThat(searchPool.getHikariPoolMXBean().getTotalConnections()).isZero();
+        assertThat(pointPool.getHikariPoolMXBean().getTotalConnections()).isZero();
+
+        lifecycle.start();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+        assertThat(lifecycle.isRunning()).isTrue();
+    }
+
+    @Test
+    void constructor_ShouldIgnoreDataSourceWithoutBulkheads() {
+        HikariPoolsLifecycle lifecycle = new HikariPoolsLifecycle(pointPool);
+
+        lifecycle.stop();
+        lifecycle.start();
+
+        assertThat(lifecycle.isRunning()).isTrue();
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:crac-" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName("hikari-" + name);
+        pool.setMaximumPoolSize(2);
+        pool.setAllowPoolSuspension(true);
+        return pool;
+    }
+}
@@ -0,0 +1,61 @@
+package ${package}.deadline;
+
+import ${package}.exception.DeadlineExceededException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class DeadlineAwareTransactionManagerTest {
+
+    private final DeadlineAwareTransactionManager transactionManager =
+        new DeadlineAwareTransactionManager(mock(EntityManagerFactory.class));
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.clear();
+    }
+
+    @Test
+    void determineTimeout_ShouldKeepDefault_WithoutDeadline() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+            .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    void determineTimeout_ShouldRoundRemainingBudgetUpToSeconds() {
+        // Given
+        DeadlineContext.set(Deadline.after("getAllUsers", Duration.ofMillis(2_500)));
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(3);
+    }
+
+    @Test
+    void determineTimeout_ShouldKeepShorterDeclaredTimeout() {
+        // Given
+        DeadlineContext.set(Deadline.after("getAllUsers", Duration.ofSeconds(10)));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(2);
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(definition)).isEqualTo(2);
+    }
+
+    @Test
+    void determineTimeout_ShouldRefuseToStart_WhenDeadlinePassed() {
+        // Given
+        DeadlineContext.set(Deadline.after("getAllUsers", Duration.ZERO));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+            .isInstanceOf(DeadlineExceededException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package ${package}.deadline;
+
+import ${package}.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DeadlineInterceptor interceptor;
+    private HandlerMethod handler;
+
+    static class Endpoints {
+        public void getUserById() {
+        }
+
+        public void getAllUsers() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Deadline config = appProperties.getDeadline();
+        config.setDefaultTimeout(Duration.ofSeconds(2));
+        config.setMaxTimeout(Duration.ofSeconds(5));
+        config.setEndpoints(Map.of("getAllUsers", Duration.ofSeconds(60)));
+        interceptor = new DeadlineInterceptor(appProperties, meterRegistry);
+        handler = handler("getUserById");
+    }
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.clear();
+    }
+
+    @Test
+    void preHandle_ShouldStartDefaultDeadline() {
+        // When
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler);
+
+        // Then
+        Deadline deadline = DeadlineContext.current();
+        assertThat(deadline.getEndpoint()).isEqualTo("getUserById");
+        assertThat(deadline.remainingMillis()).isBetween(1_900L, 2_000L);
+    }
+
+    @Test
+    void preHandle_ShouldHonourShorterHeaderAndIgnoreLongerOrMalformed() {
+        // When & Then
+        interceptor.preHandle(request("500"), new MockHttpServletResponse(), handler);
+        assertThat(DeadlineContext.current().remainingMillis()).isBetween(400L, 500L);
+
+        interceptor.preHandle(request("4000"), new MockHttpServletResponse(), handler);
+        assertThat(DeadlineContext.current().remainingMillis()).isBetween(1_900L, 2_000L);
+
+        interceptor.preHandle(request("soon"), new MockHttpServletResponse(), handler);
+        assertThat(DeadlineContext.current().remainingMillis()).isBetween(1_900L, 2_000L);
+    }
+
+    @Test
+    void preHandle_ShouldCapEndpointTimeoutAtMaximum() throws NoSuchMethodException {
+        // When
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("getAllUsers"));
+
+        // Then
+        assertThat(DeadlineContext.current().remainingMillis()).isBetween(4_900L, 5_000L);
+    }
+
+    @Test
+    void preHandle_ShouldSkipAsyncDispatch() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        // When
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        // Then
+        assertThat(DeadlineContext.current()).isNull();
+    }
+
+    @Test
+    void afterCompletion_ShouldClearContextAndCountGatewayTimeouts() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(504);
+
+        // When
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThat(DeadlineContext.current()).isNull();
+        assertThat(meterRegistry.get("app.deadline.exceeded").tag("endpoint", "getUserById").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    private static MockHttpServletRequest request(String timeoutHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Timeout", timeoutHeader);
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+}
@@ -0,0 +1,38 @@
+package ${package}.deadline;
+
+import ${package}.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineTest {
+
+    @Test
+    void after_ShouldReportRemainingTime() {
+        // When
+        Deadline deadline = Deadline.after("getUserById", Duration.ofMinutes(1));
+
+        // Then
+        assertThat(deadline.getEndpoint()).isEqualTo("getUserById");
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isBetween(59_000L, 60_000L);
+        assertThatCode(deadline::check).doesNotThrowAnyException();
+    }
+
+    @Test
+    void check_ShouldThrow_WhenExpired() {
+        // When
+        Deadline deadline = Deadline.after("getUserById", Duration.ZERO);
+
+        // Then
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingNanos()).isNotPositive();
+        assertThatThrownBy(deadline::check)
+            .isInstanceOf(DeadlineExceededException.class)
+            .hasMessageContaining("getUserById");
+    }
+}
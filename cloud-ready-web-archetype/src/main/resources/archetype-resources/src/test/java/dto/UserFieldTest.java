@@ -0,0 +1,73 @@
+package ${package}.dto;
+
+import ${package}.domain.Role;
+import ${package}.exception.InvalidFieldException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserFieldTest {
+
+    @Test
+    void parse_ShouldSelectEverythingWhenBlank() {
+        assertThat(UserField.isAll(UserField.parse(null))).isTrue();
+        assertThat(UserField.isAll(UserField.parse(" "))).isTrue();
+    }
+
+    @Test
+    void parse_ShouldAlwaysIncludeIdAndIgnoreCase() {
+        assertThat(UserField.parse("Username, email,"))
+            .isEqualTo(EnumSet.of(UserField.ID, UserField.USERNAME, UserField.EMAIL));
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownFields() {
+        assertThatThrownBy(() -> UserField.parse("id,password"))
+            .isInstanceOf(InvalidFieldException.class)
+            .hasMessageContaining("password");
+    }
+
+    @Test
+    void project_ShouldCopyOnlySelectedProperties() {
+        UserDto user = UserDto.builder()
+            .id(1L)
+            .username("johndoe")
+            .email("john@example.com")
+            .fullName("John Doe")
+            .roles(Set.of(Role.USER))
+            .build();
+
+        UserDto projected = UserField.project(user, UserField.parse("username"));
+
+        assertThat(projected.getId()).isEqualTo(1L);
+        assertThat(projected.getUsername()).isEqualTo("johndoe");
+        assertThat(projected.getEmail()).isNull();
+        assertThat(projected.getFullName()).isNull();
+        assertThat(projected.getRoles()).isNull();
+    }
+
+    @Test
+    void project_ShouldOmitNullsOnlyFromProjectedUsers() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        UserDto user = UserDto.builder().id(1L).username("johndoe").build();
+
+        JsonNode full = objectMapper.valueToTree(UserField.project(user, UserField.parse(null)));
+        JsonNode projected = objectMapper.valueToTree(UserField.project(user, UserField.parse("username,email")));
+
+        assertThat(full.has("email")).isTrue();
+        assertThat(full.get("email").isNull()).isTrue();
+        assertThat(projected.fieldNames()).toIterable().containsExactly("id", "username");
+    }
+
+    @Test
+    void key_ShouldBeEmptyForAllFields() {
+        assertThat(UserField.key(UserField.parse(null))).isEmpty();
+        assertThat(UserField.key(UserField.parse("email,username"))).isEqualTo("id,username,email");
+    }
+}
@@ -0,0 +1,67 @@
+package ${package}.exception;
+
+import ${package}.dto.ErrorResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ErrorBodyTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void render_ShouldMatchSerializedErrorResponse() throws Exception {
+        ErrorBody body = ErrorBody.of(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND");
+
+        JsonNode rendered = objectMapper.readTree(body.render("User not found with id: 7", "/api/users/7"));
+
+        ErrorResponseDto expected = new ErrorResponseDto("RESOURCE_NOT_FOUND", "User not found with id: 7",
+            404, "/api/users/7");
+        expected.setTimestamp(LocalDateTime.parse(rendered.get("timestamp").asText()));
+        assertThat(rendered).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(expected)));
+        assertThat(LocalDateTime.parse(rendered.get("timestamp").asText()))
+            .isCloseTo(LocalDateTime.now(), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void render_ShouldEscapeMessageAndPath() throws Exception {
+        ErrorBody body = ErrorBody.of(HttpStatus.BAD_REQUEST, "INVALID_SORT");
+
+        JsonNode rendered = objectMapper.readTree(body.render("Bad \"sort\"\n\\x\u0001", "/api/users?q=\"<tab>\t"));
+
+        assertThat(rendered.get("message").asText()).isEqualTo("Bad \"sort\"\n\\x\u0001");
+        assertThat(rendered.get("path").asText()).isEqualTo("/api/users?q=\"<tab>\t");
+    }
+
+    @Test
+    void write_ShouldUseFixedMessageAndStatus() throws Exception {
+        ErrorBody body = ErrorBody.of(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Access denied.");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        body.write(response, "/api/users");
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        JsonNode rendered = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(rendered.get("message").asText()).isEqualTo("Access denied.");
+        assertThat(rendered.get("status").asInt()).isEqualTo(401);
+        assertThat(rendered.get("path").asText()).isEqualTo("/api/users");
+    }
+
+    @Test
+    void domainException_ShouldNotCaptureStackTrace() {
+        ResourceNotFoundException exception = new ResourceNotFoundException("User not found with id: 7");
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getStatus()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,66 @@
+package ${package}.filter;
+
+import ${package}.domain.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserBitmapsTest {
+
+    private UserBitmaps bitmaps;
+
+    @BeforeEach
+    void setUp() {
+        bitmaps = new UserBitmaps();
+        bitmaps.put(1, true, Set.of(Role.ADMIN, Role.USER));
+        bitmaps.put(2, true, Set.of(Role.USER));
+        bitmaps.put(3, false, Set.of(Role.USER, Role.MODERATOR));
+        bitmaps.put(4, true, Set.of(Role.MODERATOR));
+        bitmaps.put(5, false, Set.of());
+    }
+
+    @Test
+    void count_ShouldCombineRolesWithAndOrNot() {
+        assertThat(bitmaps.count(filter(Set.of(Role.ADMIN, Role.MODERATOR), false, null, null))).isEqualTo(3);
+        assertThat(bitmaps.count(filter(Set.of(Role.USER, Role.MODERATOR), true, null, null))).isEqualTo(1);
+        assertThat(bitmaps.count(filter(Set.of(Role.USER), false, Set.of(Role.ADMIN), null))).isEqualTo(2);
+        assertThat(bitmaps.count(filter(null, false, Set.of(Role.USER), false))).isEqualTo(1);
+        assertThat(bitmaps.count(filter(null, false, null, true))).isEqualTo(3);
+    }
+
+    @Test
+    void select_ShouldCountEachUserOnceAndPageById() {
+        // Given - user 1 holds two of the requested roles
+        UserFilter users = filter(Set.of(Role.ADMIN, Role.USER), false, null, null);
+
+        // When
+        UserBitmaps.Selection firstPage = bitmaps.select(users, 0, 2, false);
+        UserBitmaps.Selection secondPage = bitmaps.select(users, 2, 2, false);
+        UserBitmaps.Selection descending = bitmaps.select(users, 0, 2, true);
+
+        // Then
+        assertThat(firstPage.total()).isEqualTo(3);
+        assertThat(firstPage.ids()).containsExactly(1L, 2L);
+        assertThat(secondPage.ids()).containsExactly(3L);
+        assertThat(descending.ids()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void put_ShouldReplacePreviousRolesAndStatus() {
+        // When
+        bitmaps.put(1, false, Set.of(Role.MODERATOR));
+        bitmaps.remove(2);
+
+        // Then
+        assertThat(bitmaps.count(filter(Set.of(Role.ADMIN), false, null, null))).isZero();
+        assertThat(bitmaps.count(filter(Set.of(Role.MODERATOR), false, null, false))).isEqualTo(2);
+        assertThat(bitmaps.count(filter(null, false, null, null))).isEqualTo(4);
+    }
+
+    private static UserFilter filter(Set<Role> roles, boolean matchAll, Set<Role> excluded, Boolean enabled) {
+        return new UserFilter(roles, matchAll, excluded, enabled);
+    }
+}
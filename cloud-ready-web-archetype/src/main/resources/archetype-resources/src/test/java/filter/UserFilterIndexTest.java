@@ -0,0 +1,146 @@
+package ${package}.filter;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.Role;
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.exception.InvalidSortException;
+import ${package}.exception.SearchUnavailableException;
+import ${package}.repository.UserRepository;
+import ${package}.repository.UserRoleView;
+import ${package}.repository.UserRowView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserFilterIndexTest {
+
+    private static final UserFilter ADMINS = new UserFilter(Set.of(Role.ADMIN), false, null, null);
+    private static final UserFilter ENABLED = new UserFilter(null, false, null, true);
+
+    private UserRepository userRepository;
+    private UserFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        index = new UserFilterIndex(userRepository, mock(PlatformTransactionManager.class), new AppProperties(),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void select_ShouldFailUntilBuilt() {
+        assertThatThrownBy(() -> index.select(ENABLED, PageRequest.of(0, 10)))
+            .isInstanceOf(SearchUnavailableException.class);
+    }
+
+    @Test
+    void build_ShouldIndexRowsAndRoles() {
+        // Given
+        Stream<UserRowView> rows = Stream.of(row(1, true), row(2, false), row(3, true));
+        Stream<UserRoleView> roles = Stream.of(role(1, Role.ADMIN), role(3, Role.ADMIN));
+        when(userRepository.streamAllByOrderByIdAsc()).thenReturn(rows);
+        when(userRepository.streamAllRoles()).thenReturn(roles);
+
+        // When
+        index.build();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.select(ADMINS, PageRequest.of(0, 10)).ids()).containsExactly(1L, 3L);
+        assertThat(index.select(ENABLED, PageRequest.of(0, 10, Sort.by("id").descending())).ids())
+            .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void build_ShouldReloadUsersChangedWhileLoading() {
+        // Given - user 2 becomes an admin and is disabled while the scan still returns its old row
+        Stream<UserRowView> staleRows = Stream.of(row(1, true), row(2, true));
+        Stream<UserRoleView> staleRoles = Stream.of(role(2, Role.USER));
+        when(userRepository.streamAllByOrderByIdAsc()).thenAnswer(invocation -> {
+            index.onUserChanged(UserChangedEvent.updated(dto(2, true, Set.of(Role.USER)),
+                dto(2, false, Set.of(Role.ADMIN))));
+            return staleRows;
+        });
+        when(userRepository.streamAllRoles()).thenReturn(staleRoles);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(false, Set.of(Role.ADMIN))));
+
+        // When
+        index.build();
+
+        // Then
+        assertThat(index.select(ADMINS, PageRequest.of(0, 10)).ids()).containsExactly(2L);
+        assertThat(index.select(ENABLED, PageRequest.of(0, 10)).ids()).containsExactly(1L);
+    }
+
+    @Test
+    void onUserChanged_ShouldApplyCommittedWritesOnceBuilt() {
+        // Given
+        Stream<UserRowView> rows = Stream.of(row(1, true));
+        when(userRepository.streamAllByOrderByIdAsc()).thenReturn(rows);
+        when(userRepository.streamAllRoles()).thenReturn(Stream.empty());
+        index.build();
+
+        // When
+        index.onUserChanged(UserChangedEvent.created(dto(2, true, Set.of(Role.ADMIN))));
+        index.onUserChanged(UserChangedEvent.deleted(dto(1, true, Set.of())));
+
+        // Then
+        assertThat(index.select(ENABLED, PageRequest.of(0, 10)).ids()).containsExactly(2L);
+        assertThat(index.select(ADMINS, PageRequest.of(0, 10)).total()).isEqualTo(1);
+    }
+
+    @Test
+    void select_ShouldRejectSortsOtherThanId() {
+        // Given
+        when(userRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.empty());
+        when(userRepository.streamAllRoles()).thenReturn(Stream.empty());
+        index.build();
+
+        // When / Then
+        assertThatThrownBy(() -> index.select(ENABLED, PageRequest.of(0, 10, Sort.by("username"))))
+            .isInstanceOf(InvalidSortException.class);
+    }
+
+    private static UserRowView row(long id, boolean enabled) {
+        UserRowView row = mock(UserRowView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getEnabled()).thenReturn(enabled);
+        return row;
+    }
+
+    private static UserRoleView role(long userId, Role role) {
+        UserRoleView view = mock(UserRoleView.class);
+        when(view.getUserId()).thenReturn(userId);
+        when(view.getRole()).thenReturn(role);
+        return view;
+    }
+
+    private static UserDto dto(long id, boolean enabled, Set<Role> roles) {
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setEnabled(enabled);
+        dto.setRoles(roles);
+        return dto;
+    }
+
+    private static User user(boolean enabled, Set<Role> roles) {
+        User user = new User("user", "user@example.com", "Test", "User");
+        user.setEnabled(enabled);
+        user.setRoles(roles);
+        return user;
+    }
+}
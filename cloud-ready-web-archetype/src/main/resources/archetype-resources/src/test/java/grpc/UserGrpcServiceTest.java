@@ -0,0 +1,274 @@
+package ${package}.grpc;
+
+import ${package}.config.SecurityConfig;
+import ${package}.domain.Role;
+import ${package}.domain.UserChange;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserChangeDto;
+import ${package}.dto.UserDto;
+import ${package}.grpc.proto.CreateUserRequest;
+import ${package}.grpc.proto.CreateUsersResponse;
+import ${package}.grpc.proto.ExportUsersRequest;
+import ${package}.grpc.proto.ExportUsersResponse;
+import ${package}.grpc.proto.GetUserRequest;
+import ${package}.grpc.proto.ListUsersRequest;
+import ${package}.grpc.proto.User;
+import ${package}.grpc.proto.UserServiceGrpc;
+import ${package}.security.JwtAuthenticationEntryPoint;
+import ${package}.service.UserService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserGrpcServiceTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final UserService userService = mock(UserService.class);
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Tokens are "<subject>:<role>" so each test can pick its caller
+        JwtDecoder decoder = token -> {
+            String[] parts = token.split(":");
+            if (parts.length != 2) {
+                throw new BadJwtException("malformed");
+            }
+            return Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(parts[0])
+                .claim("roles", List.of(parts[1]))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        };
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(decoder);
+        provider.setJwtAuthenticationConverter(
+            new SecurityConfig(mock(JwtAuthenticationEntryPoint.class), null).jwtAuthenticationConverter());
+        JwtServerInterceptor interceptor = new JwtServerInterceptor(new ProviderManager(provider));
+        UserGrpcService service = new UserGrpcService(userService,
+            Validation.buildDefaultValidatorFactory().getValidator(), 100);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .addService(ServerInterceptors.intercept(service, interceptor))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void getUser_ShouldRejectMissingToken() {
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setId(1).build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+    }
+
+    @Test
+    void getUser_ShouldReturnUserForAdmin() {
+        when(userService.findById(1L)).thenReturn(Optional.of(user(1L, "johndoe")));
+
+        User user = blocking("admin:ADMIN").getUser(GetUserRequest.newBuilder().setId(1).build());
+
+        assertThat(user.getUsername()).isEqualTo("johndoe");
+        assertThat(user.getRolesList()).containsExactly(${package}.grpc.proto.Role.USER);
+    }
+
+    @Test
+    void getUser_ShouldHideOtherUsersFromNonAdmins() {
+        when(userService.findById(1L)).thenReturn(Optional.of(user(1L, "johndoe")));
+        when(userService.findById(2L)).thenReturn(Optional.empty());
+
+        UserServiceGrpc.UserServiceBlockingStub stub = blocking("janedoe:USER");
+
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setId(1).build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setId(2).build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+    }
+
+    @Test
+    void listUsers_ShouldStreamAllPagesById() {
+        when(userService.scrollById(any(), anyLong(), anyBoolean(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(3);
+            List<UserDto> content = new ArrayList<>();
+            for (long id = afterId + 1; id <= Math.min(afterId + limit, 5); id++) {
+                content.add(user(id, "user" + id));
+            }
+            return content;
+        });
+
+        Iterator<User> users = blocking("admin:ADMIN").listUsers(ListUsersRequest.newBuilder().setPageSize(2).build());
+
+        List<Long> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(userService).scrollById(null, 0L, false, 2);
+        verify(userService).scrollById(null, 2L, false, 2);
+        verify(userService).scrollById(null, 4L, false, 2);
+    }
+
+    @Test
+    void listUsers_ShouldContinueDescendingFromLastId() {
+        when(userService.scrollById("doe", Long.MAX_VALUE, true, 2))
+            .thenReturn(List.of(user(9L, "user9"), user(7L, "user7")));
+        when(userService.scrollById("doe", 7L, true, 2)).thenReturn(List.of(user(3L, "user3")));
+
+        Iterator<User> users = blocking("admin:ADMIN").listUsers(ListUsersRequest.newBuilder()
+            .setPageSize(2).setSearch("doe").setSort("id").setDescending(true).build());
+
+        List<Long> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        assertThat(ids).containsExactly(9L, 7L, 3L);
+    }
+
+    @Test
+    void listUsers_ShouldRejectSortOtherThanId() {
+        Iterator<User> users = blocking("admin:ADMIN").listUsers(ListUsersRequest.newBuilder()
+            .setSort("username").build());
+
+        assertThatThrownBy(users::hasNext)
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void exportUsers_ShouldStreamLiveUsersAndEndWithToken() {
+        UserChangeDto upserted = new UserChangeDto("900.1", UserChange.Type.UPSERTED, 1L, user(1L, "user1"));
+        UserChangeDto deleted = new UserChangeDto("901.2", UserChange.Type.DELETED, 2L, null);
+        UserChangeDto last = new UserChangeDto("902.3", UserChange.Type.UPSERTED, 3L, user(3L, "user3"));
+        when(userService.findChanges(null, 100)).thenReturn(new UserChangeBatchDto(List.of(upserted, deleted),
+            "901.2", true));
+        when(userService.findChanges("901.2", 100)).thenReturn(new UserChangeBatchDto(List.of(last), "902.3", false));
+
+        Iterator<ExportUsersResponse> responses = blocking("admin:ADMIN")
+            .exportUsers(ExportUsersRequest.getDefaultInstance());
+
+        List<ExportUsersResponse> all = new ArrayList<>();
+        responses.forEachRemaining(all::add);
+        assertThat(all).hasSize(3);
+        assertThat(all.subList(0, 2)).extracting(response -> response.getUser().getId()).containsExactly(1L, 3L);
+        assertThat(all.get(2).getNextToken()).isEqualTo("902.3");
+    }
+
+    @Test
+    void createUsers_ShouldReportPerMessageErrors() throws Exception {
+        when(userService.existsByUsername(anyString())).thenReturn(false);
+        when(userService.existsByEmail(anyString())).thenReturn(false);
+        when(userService.create(any(UserDto.class))).thenAnswer(invocation -> {
+            UserDto created = invocation.getArgument(0);
+            created.setId(10L);
+            return created;
+        });
+
+        CompletableFuture<CreateUsersResponse> result = new CompletableFuture<>();
+        StreamObserver<CreateUserRequest> requests = UserServiceGrpc.newStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer("admin:ADMIN")))
+            .createUsers(observer(result));
+        requests.onNext(CreateUserRequest.newBuilder()
+            .setUsername("johndoe").setEmail("john.doe@example.com")
+            .setFirstName("John").setLastName("Doe").setEnabled(true)
+            .addRoles(${package}.grpc.proto.Role.USER)
+            .build());
+        requests.onNext(CreateUserRequest.newBuilder().setUsername("x").setEmail("not-an-email").build());
+        requests.onCompleted();
+
+        CreateUsersResponse response = result.get(5, TimeUnit.SECONDS);
+        assertThat(response.getCreatedList()).extracting(User::getId).containsExactly(10L);
+        assertThat(response.getErrorsList()).hasSize(1);
+        assertThat(response.getErrors(0).getIndex()).isEqualTo(1);
+    }
+
+    private UserServiceGrpc.UserServiceBlockingStub blocking(String token) {
+        return UserServiceGrpc.newBlockingStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private static Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Bearer " + token);
+        return headers;
+    }
+
+    private static <T> StreamObserver<T> observer(CompletableFuture<T> result) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+
+    private static UserDto user(long id, String username) {
+        return UserDto.builder()
+            .id(id)
+            .username(username)
+            .email(username + "@example.com")
+            .firstName("First")
+            .lastName("Last")
+            .enabled(true)
+            .roles(Set.of(Role.USER))
+            .build();
+    }
+}
@@ -0,0 +1,71 @@
+package ${package}.integration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the native executable built by {@code ./mvnw -Pnative verify} against PostgreSQL and
+ * checks the paths that depend on native hints: Flyway migrations, Hibernate validating the
+ * entities, JSON bodies, springdoc and the Swagger UI.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Test
+    void nativeImage_ShouldServeRequestsAfterMigrating() throws Exception {
+        List<String> command = List.of(System.getProperty("native.image"));
+        try (ServiceProcess app = ServiceProcess.start(command, ServiceProcess.prodArgs(postgres), Path.of("target/native-it.log"))) {
+            long readyMillis = app.awaitOk("/actuator/health/readiness");
+            System.out.printf("native: ready in %,d ms, RSS %,d KB%n", readyMillis, app.rssKb());
+
+            HttpResponse<String> apiDocs = app.get("/api-docs");
+            assertThat(apiDocs.statusCode()).isEqualTo(200);
+            assertThat(apiDocs.body()).contains("\"openapi\"").contains("/users/{id}");
+
+            assertThat(app.get("/swagger-ui/index.html").statusCode()).isEqualTo(200);
+
+            HttpResponse<String> unauthorized = app.get("/users/1");
+            assertThat(unauthorized.statusCode()).isEqualTo(401);
+            assertThat(unauthorized.body()).contains("\"code\":\"UNAUTHORIZED\"");
+
+            assertThat(appliedMigrations()).isEqualTo(migrationScripts());
+        }
+    }
+
+    private static long appliedMigrations() throws Exception {
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+             ResultSet rs = connection.createStatement()
+                 .executeQuery("SELECT COUNT(*) FROM flyway_schema_history WHERE success AND version IS NOT NULL")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long migrationScripts() throws Exception {
+        try (Stream<Path> scripts = Files.list(Path.of("src/main/resources/db/migration"))) {
+            return scripts.filter(path -> path.getFileName().toString().endsWith(".sql")).count();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package ${package}.integration;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application started as a separate process, either a native executable or {@code java -jar},
+ * on a free port. Times are measured from the moment the process was started.
+ */
+public final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration BOOT_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final long startedNanos;
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private ServiceProcess(Process process, long startedNanos, int port) {
+        this.process = process;
+        this.startedNanos = startedNanos;
+        this.baseUrl = "http://localhost:" + port + "/api";
+    }
+
+    /**
+     * Starts {@code command} with the server port, readiness probes and {@code args} appended as
+     * Spring Boot command line arguments. Output goes to {@code log}.
+     */
+    public static ServiceProcess start(List<String> command, List<String> args, Path log) throws IOException {
+        int port = freePort();
+        List<String> full = new ArrayList<>(command);
+        full.add("--server.port=" + port);
+        full.add("--app.grpc.port=" + freePort());
+        full.add("--management.endpoint.health.probes.enabled=true");
+        full.addAll(args);
+        Files.createDirectories(log.toAbsolutePath().getParent());
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(full)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        return new ServiceProcess(process, started, port);
+    }
+
+    /**
+     * Spring Boot arguments that run the prod configuration against the test database, without
+     * Redis or files outside {@code target}.
+     */
+    public static List<String> prodArgs(PostgreSQLContainer<?> postgres) {
+        return List.of(
+            "--spring.profiles.active=prod",
+            "--spring.datasource.url=" + postgres.getJdbcUrl(),
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword(),
+            "--app.rate-limit.cluster.store=memory",
+            "--app.search.store=memory",
+            "--app.jwk.snapshot-path=target/jwks.json");
+    }
+
+    /**
+     * Polls {@code path} until it answers 200 and returns the milliseconds since the process
+     * started.
+     */
+    public long awaitOk(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .build();
+        long deadline = startedNanos + BOOT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " during startup");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - startedNanos) / 1_000_000;
+                }
+            } catch (IOException notListeningYet) {
+                // Keep polling until the port opens
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No 200 from " + path + " within " + BOOT_TIMEOUT);
+    }
+
+    public HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(),
+            HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Resident set size in KB, from {@code /proc}; -1 where that is not available.
+     */
+    public long rssKb() throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -76,7 +76,7 @@ class UserIntegrationTest {
         userRepository.save(user);
 
         // When
-        User foundUser = userRepository.findByUsername("searchuser").orElse(null);
+        User foundUser = userRepository.findByUsernameLower(User.normalize("SearchUser")).orElse(null);
 
         // Then
         assertThat(foundUser).isNotNull();
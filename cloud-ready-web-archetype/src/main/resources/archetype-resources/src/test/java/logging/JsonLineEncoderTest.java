@@ -0,0 +1,88 @@
+package ${package}.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLineEncoderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final JsonLineEncoder encoder = new JsonLineEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_ShouldWriteOneJsonLineWithTraceIds() throws Exception {
+        LoggingEvent event = event("User {} created", null, "alice");
+        event.setTimeStamp(Instant.parse("2024-03-01T12:30:05.042Z").toEpochMilli());
+        event.setMDCPropertyMap(Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7",
+            "other", "ignored"));
+
+        byte[] line = encoder.encode(event);
+
+        assertThat(line[line.length - 1]).isEqualTo((byte) '\n');
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("timestamp").asText()).isEqualTo("2024-03-01T12:30:05.042Z");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("logger").asText()).isEqualTo("app.users");
+        assertThat(json.get("thread").asText()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(json.get("message").asText()).isEqualTo("User alice created");
+        assertThat(json.get("traceId").asText()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(json.get("spanId").asText()).isEqualTo("00f067aa0ba902b7");
+        assertThat(json.has("other")).isFalse();
+        assertThat(json.has("exception")).isFalse();
+    }
+
+    @Test
+    void encode_ShouldEscapeMessageAndEncodeUtf8() throws Exception {
+        String message = "Bad \"name\"\n\\x\u0001 café € 😀";
+        LoggingEvent event = event(message, null);
+        event.setMDCPropertyMap(Map.of());
+
+        byte[] line = encoder.encode(event);
+
+        assertThat(objectMapper.readTree(line).get("message").asText()).isEqualTo(message);
+        assertThat(new String(line, StandardCharsets.UTF_8)).contains("café € 😀");
+    }
+
+    @Test
+    void encode_ShouldIncludeStackTrace() throws Exception {
+        LoggingEvent event = event("Refresh failed", new IllegalStateException("boom"));
+        event.setMDCPropertyMap(Map.of());
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        assertThat(json.get("exception").asText())
+            .startsWith("java.lang.IllegalStateException: boom")
+            .contains("JsonLineEncoderTest");
+        assertThat(json.has("traceId")).isFalse();
+    }
+
+    @Test
+    void encode_ShouldNotCarryStateBetweenEvents() throws Exception {
+        LoggingEvent large = event("x".repeat(100_000), null);
+        large.setMDCPropertyMap(Map.of());
+        LoggingEvent small = event("short", null);
+        small.setMDCPropertyMap(Map.of());
+
+        encoder.encode(large);
+        JsonNode json = objectMapper.readTree(encoder.encode(small));
+
+        assertThat(json.get("message").asText()).isEqualTo("short");
+    }
+
+    private LoggingEvent event(String message, Throwable throwable, Object... args) {
+        LoggingEvent event = new LoggingEvent(getClass().getName(), loggerContext.getLogger("app.users"),
+            Level.INFO, message, throwable, args);
+        event.setThreadName("http-nio-8080-exec-1");
+        return event;
+    }
+}
@@ -0,0 +1,93 @@
+package ${package}.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledSqlLoggerTest {
+
+    private static final String SQL = "select u1_0.id from users u1_0 where u1_0.id=?";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void inspect_ShouldLogAtMostMaxPerSecond() {
+        Instant now = Instant.parse("2024-03-01T12:00:00.100Z");
+        SampledSqlLogger logger = new SampledSqlLogger(1.0, 3, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(logger.inspect(SQL)).isSameAs(SQL);
+        }
+
+        assertThat(count("logged")).isEqualTo(3);
+        assertThat(count("rate_limited")).isEqualTo(7);
+    }
+
+    @Test
+    void inspect_ShouldStartANewBudgetEachSecond() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-01T12:00:00.900Z"));
+        SampledSqlLogger logger = new SampledSqlLogger(1.0, 2, meterRegistry, clock);
+        for (int i = 0; i < 5; i++) {
+            logger.inspect(SQL);
+        }
+        assertThat(count("logged")).isEqualTo(2);
+
+        clock.advance(Duration.ofMillis(200));
+        for (int i = 0; i < 5; i++) {
+            logger.inspect(SQL);
+        }
+        assertThat(count("logged")).isEqualTo(4);
+        assertThat(count("rate_limited")).isEqualTo(6);
+    }
+
+    @Test
+    void inspect_ShouldSkipEverythingAtZeroSampleRate() {
+        SampledSqlLogger logger = new SampledSqlLogger(0.0, 100, meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            logger.inspect(SQL);
+        }
+
+        assertThat(count("logged")).isZero();
+        assertThat(count("rate_limited")).isZero();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("app.sql.log.statements").tag("outcome", outcome).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ${package}.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void localBucket_ShouldAllowBurstThenReject() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        StripedTokenBucket bucket = new StripedTokenBucket(5, 10, 16, now::get);
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire("client")).isZero();
+        }
+        assertThat(bucket.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    void localBucket_ShouldRefillOverTime() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        StripedTokenBucket bucket = new StripedTokenBucket(1, 10, 16, now::get);
+        assertThat(bucket.tryAcquire("client")).isZero();
+
+        // When
+        long wait = bucket.tryAcquire("client");
+        now.addAndGet(wait);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.tryAcquire("client")).isZero();
+    }
+
+    @Test
+    void clusterLimiter_ShouldEnforceSharedQuotaAcrossNodes() {
+        // Given
+        InMemoryQuotaStore store = new InMemoryQuotaStore();
+        ClusterQuotaLimiter nodeA = new ClusterQuotaLimiter(store, 30, Duration.ofMinutes(1), 10,
+            new SimpleMeterRegistry(), FIXED_CLOCK);
+        ClusterQuotaLimiter nodeB = new ClusterQuotaLimiter(store, 30, Duration.ofMinutes(1), 10,
+            new SimpleMeterRegistry(), FIXED_CLOCK);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 40; i++) {
+            if ((i % 2 == 0 ? nodeA : nodeB).tryAcquire("client")) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(30);
+    }
+
+    @Test
+    void clusterLimiter_ShouldOnlyCallStoreOncePerBatch() {
+        // Given
+        AtomicLong calls = new AtomicLong();
+        InMemoryQuotaStore delegate = new InMemoryQuotaStore();
+        QuotaStore store = (key, permits, ttl) -> {
+            calls.incrementAndGet();
+            return delegate.increment(key, permits, ttl);
+        };
+        ClusterQuotaLimiter limiter = new ClusterQuotaLimiter(store, 1000, Duration.ofMinutes(1), 25,
+            new SimpleMeterRegistry(), FIXED_CLOCK);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("client");
+        }
+
+        // Then
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void redisStore_ShouldIncrementAndExpireInOneScript() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(RedisQuotaStore.INCREMENT, List.of("quota:client"), "3", "60000")).thenReturn(3L);
+
+        // When
+        long total = new RedisQuotaStore(redisTemplate).increment("quota:client", 3, Duration.ofMinutes(1));
+
+        // Then
+        assertThat(total).isEqualTo(3);
+        verify(redisTemplate).execute(RedisQuotaStore.INCREMENT, List.of("quota:client"), "3", "60000");
+        verifyNoMoreInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,113 @@
+package ${package}.readmodel;
+
+import ${package}.domain.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDirectoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lookups_ShouldFollowUpsertsAndRemovals() {
+        // Given
+        UserDirectory directory = new UserDirectory(0);
+        directory.upsert(record(1, "john", "john@example.com", Set.of(Role.USER)));
+        directory.upsert(record(2, "jane", "jane@example.com", Set.of(Role.ADMIN, Role.USER)));
+
+        // When
+        directory.upsert(record(1, "johnny", "john@example.com", Set.of(Role.MODERATOR)));
+        directory.remove(2);
+
+        // Then
+        assertThat(directory.findByUsername("john")).isNull();
+        assertThat(directory.findByUsername("johnny").id()).isEqualTo(1L);
+        assertThat(directory.findByEmail("john@example.com").toDto().getRoles()).containsExactly(Role.MODERATOR);
+        assertThat(directory.findById(2)).isNull();
+        assertThat(directory.findByEmail("jane@example.com")).isNull();
+        assertThat(directory.size()).isEqualTo(1);
+    }
+
+    @Test
+    void lookups_ShouldIgnoreCaseOfUsernameAndEmail() {
+        // Given
+        UserDirectory directory = new UserDirectory(0);
+        directory.upsert(record(1, "JohnDoe", "John.Doe@Example.com", Set.of(Role.USER)));
+
+        // When / Then
+        assertThat(directory.findByUsername("johndoe").id()).isEqualTo(1L);
+        assertThat(directory.findByUsername("JOHNDOE").id()).isEqualTo(1L);
+        assertThat(directory.findByEmail("john.doe@example.com").id()).isEqualTo(1L);
+        assertThat(directory.findByUsername("john")).isNull();
+    }
+
+    @Test
+    void directory_ShouldMatchHashMapUnderRandomChurn() {
+        // Given
+        UserDirectory directory = new UserDirectory(0);
+        Map<Long, UserRecord> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                directory.remove(id);
+                expected.remove(id);
+            } else {
+                UserRecord record = record(id, "user" + id + "-" + random.nextInt(3), "u" + id + "@example.com",
+                    Set.of(Role.USER));
+                directory.upsert(record);
+                expected.put(id, record);
+            }
+        }
+
+        // Then
+        assertThat(directory.size()).isEqualTo(expected.size());
+        for (long id = 1; id <= 5_000; id++) {
+            UserRecord record = expected.get(id);
+            assertThat(directory.findById(id)).isEqualTo(record);
+            assertThat(directory.findByEmail("u" + id + "@example.com")).isEqualTo(record);
+            if (record != null) {
+                assertThat(directory.findByUsername(record.username())).isEqualTo(record);
+            }
+        }
+    }
+
+    @Test
+    void snapshot_ShouldRoundTripAllRecords() throws Exception {
+        // Given
+        UserDirectory directory = new UserDirectory(0);
+        for (long id = 1; id <= 1_000; id++) {
+            directory.upsert(record(id, "user" + id, "user" + id + "@example.com", Set.of(Role.USER)));
+        }
+        directory.upsert(record(1_001, "zoë", "zoë@exämple.com", Set.of()));
+        Path file = tempDir.resolve("directory.snapshot");
+
+        // When
+        DirectorySnapshot.Header written = DirectorySnapshot.write(directory, file);
+        UserDirectory restored = new UserDirectory(0);
+        DirectorySnapshot.Header read = DirectorySnapshot.read(file, restored);
+
+        // Then
+        assertThat(read).isEqualTo(written);
+        assertThat(read.records()).isEqualTo(1_001);
+        assertThat(restored.size()).isEqualTo(1_001);
+        assertThat(restored.findByUsername("zoë")).isEqualTo(directory.findByUsername("zoë"));
+        assertThat(restored.findById(500)).isEqualTo(directory.findById(500));
+    }
+
+    private static UserRecord record(long id, String username, String email, Set<Role> roles) {
+        return new UserRecord(id, username, email, "First", "Last", true, (byte) RoleSets.mask(roles),
+            1_700_000_000_000L + id, 1_700_000_000_000L + id);
+    }
+}
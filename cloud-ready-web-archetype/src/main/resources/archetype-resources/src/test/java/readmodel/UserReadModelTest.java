@@ -0,0 +1,102 @@
+package ${package}.readmodel;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.UserRepository;
+import ${package}.repository.UserRowView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserReadModelTest {
+
+    @TempDir
+    Path snapshotDir;
+
+    private UserRepository userRepository;
+    private UserReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        AppProperties appProperties = new AppProperties();
+        appProperties.getReadModel().setSnapshotPath(snapshotDir.resolve("users.snapshot").toString());
+        readModel = new UserReadModel(userRepository, mock(PlatformTransactionManager.class), appProperties,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void build_ShouldReloadUsersChangedWhileLoading() {
+        // Given - user 1 is renamed and user 2 refreshed by another instance while the scan returns old rows
+        Stream<UserRowView> staleRows = Stream.of(row(1, "john"), row(2, "jane"));
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.streamAllByOrderByIdAsc()).thenAnswer(invocation -> {
+            readModel.onUserChanged(UserChangedEvent.updated(dto(1, "john"), dto(1, "johnny")));
+            readModel.refresh(2);
+            return staleRows;
+        });
+        when(userRepository.streamAllRoles()).thenReturn(Stream.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1, "johnny")));
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        readModel.build();
+
+        // Then
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(1)).map(UserDto::getUsername).contains("johnny");
+        assertThat(readModel.findByUsername("john")).isEmpty();
+        assertThat(readModel.findById(2)).isEmpty();
+    }
+
+    @Test
+    void refresh_ShouldReadUserOnceLoaded() {
+        // Given
+        when(userRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.empty());
+        when(userRepository.streamAllRoles()).thenReturn(Stream.empty());
+        readModel.build();
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user(3, "carol")));
+
+        // When
+        readModel.refresh(3);
+
+        // Then
+        assertThat(readModel.findByUsername("carol")).isPresent();
+    }
+
+    private static UserRowView row(long id, String username) {
+        UserRowView row = mock(UserRowView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUsername()).thenReturn(username);
+        when(row.getEmail()).thenReturn(username + "@example.com");
+        when(row.getEnabled()).thenReturn(true);
+        return row;
+    }
+
+    private static UserDto dto(long id, String username) {
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setUsername(username);
+        dto.setEmail(username + "@example.com");
+        return dto;
+    }
+
+    private static User user(long id, String username) {
+        User user = new User(username, username + "@example.com", "Test", "User");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
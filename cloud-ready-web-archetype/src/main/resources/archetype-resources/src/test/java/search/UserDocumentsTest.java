@@ -0,0 +1,69 @@
+package ${package}.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDocumentsTest {
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private IndexSearcher searcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ByteBuffersDirectory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer))) {
+            writer.addDocument(UserDocuments.toDocument(1, "jonathan", "jonathan.smith@example.com", "Jonathan", "Smith"));
+            writer.addDocument(UserDocuments.toDocument(2, "msmith", "mary@example.com", "Mary", "Smith"));
+            writer.addDocument(UserDocuments.toDocument(3, "smithers", "waylon@example.com", "Waylon", "Smithers"));
+            writer.addDocument(UserDocuments.toDocument(4, "alice", "alice@wonderland.org", "Alice", "Liddell"));
+        }
+        searcher = new IndexSearcher(DirectoryReader.open(directory));
+    }
+
+    @Test
+    void query_ShouldTolerateTypos() throws IOException {
+        assertThat(search("jonathna")).containsExactly(1L);
+        assertThat(search("alcie")).containsExactly(4L);
+    }
+
+    @Test
+    void query_ShouldRankExactMatchesFirstAndMatchPrefixOfLastToken() throws IOException {
+        // Jonathan Smith matches the last name and an email word exactly
+        assertThat(search("smith")).startsWith(1L).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(search("mary smi")).containsExactly(2L);
+    }
+
+    @Test
+    void query_ShouldMatchEmailParts() throws IOException {
+        assertThat(search("wonderland")).containsExactly(4L);
+    }
+
+    @Test
+    void query_ShouldReturnNullWithoutSearchableTokens() {
+        assertThat(UserDocuments.query(analyzer, " .@ ")).isNull();
+    }
+
+    private List<Long> search(String text) throws IOException {
+        TopDocs top = searcher.search(UserDocuments.query(analyzer, text), 10);
+        List<Long> ids = new ArrayList<>();
+        for (ScoreDoc scoreDoc : top.scoreDocs) {
+            ids.add(UserDocuments.id(searcher.storedFields(), scoreDoc.doc));
+        }
+        return ids;
+    }
+}
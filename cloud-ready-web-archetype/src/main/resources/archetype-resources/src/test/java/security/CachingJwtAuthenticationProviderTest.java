@@ -0,0 +1,107 @@
+package ${package}.security;
+
+import ${package}.domain.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtAuthenticationProviderTest {
+
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    @Test
+    void authenticate_ShouldVerifyEachTokenOnce() {
+        CachingJwtAuthenticationProvider provider = provider(token -> jwt(token, Instant.now().plusSeconds(300)));
+
+        Authentication first = provider.authenticate(bearer("good", "10.0.0.1"));
+        Authentication second = provider.authenticate(bearer("good", "10.0.0.2"));
+
+        assertThat(decodes).hasValue(1);
+        assertThat(second.getName()).isEqualTo("johndoe");
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly(RoleAuthorities.of(Role.ADMIN).getAuthority());
+        assertThat(first.getDetails()).isEqualTo("10.0.0.1");
+        assertThat(second.getDetails()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void authenticate_ShouldRememberInvalidTokensBriefly() {
+        CachingJwtAuthenticationProvider provider = provider(token -> {
+            throw new BadJwtException("Invalid signature");
+        });
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> provider.authenticate(bearer("bad", null)))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessageContaining("Invalid signature");
+        }
+        assertThat(decodes).hasValue(1);
+    }
+
+    @Test
+    void authenticate_ShouldNotCacheKeySourceFailures() {
+        CachingJwtAuthenticationProvider provider = provider(token -> {
+            throw new JwtException("JWKS unreachable");
+        });
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> provider.authenticate(bearer("any", null)))
+                .isInstanceOf(AuthenticationServiceException.class);
+        }
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void authenticate_ShouldNotKeepExpiredTokens() {
+        CachingJwtAuthenticationProvider provider = provider(token -> jwt(token, Instant.now().minusSeconds(5)));
+
+        provider.authenticate(bearer("expiring", null));
+        provider.authenticate(bearer("expiring", null));
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    private CachingJwtAuthenticationProvider provider(JwtDecoder decoder) {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new RoleAuthorities());
+        JwtDecoder counting = token -> {
+            decodes.incrementAndGet();
+            return decoder.decode(token);
+        };
+        return new CachingJwtAuthenticationProvider(counting, converter, 100, Duration.ofHours(1),
+            Duration.ofSeconds(10), new SimpleMeterRegistry());
+    }
+
+    private static BearerTokenAuthenticationToken bearer(String token, Object details) {
+        BearerTokenAuthenticationToken bearer = new BearerTokenAuthenticationToken(token);
+        bearer.setDetails(details);
+        return bearer;
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("johndoe")
+            .claim(RoleAuthorities.CLAIM, List.of("ADMIN"))
+            .issuedAt(expiresAt.minusSeconds(600))
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
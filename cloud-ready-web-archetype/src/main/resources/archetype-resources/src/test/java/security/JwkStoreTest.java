@@ -0,0 +1,196 @@
+package ${package}.security;
+
+import ${package}.config.AppProperties;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwkStoreTest {
+
+    private static final String JWKS_PATH = "/realms/test/protocol/openid-connect/certs";
+
+    @TempDir
+    Path dir;
+
+    private WireMockServer issuer;
+    private Path snapshot;
+    private AppProperties.Jwk config;
+
+    @BeforeEach
+    void setUp() {
+        issuer = new WireMockServer(options().dynamicPort());
+        issuer.start();
+        snapshot = dir.resolve("jwks.json");
+        config = new AppProperties.Jwk();
+        config.setSnapshotPath(snapshot.toString());
+        config.setFetchTimeout(Duration.ofSeconds(2));
+        config.setUnknownKeyInterval(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        issuer.stop();
+    }
+
+    @Test
+    void constructor_ShouldLoadSnapshotWithoutContactingIssuer() throws Exception {
+        RSAKey key = key("k1");
+        Files.writeString(snapshot, new JWKSet(key).toString(true));
+
+        JwkStore store = store();
+
+        assertThat(select(store, "k1")).extracting(JWK::getKeyID).containsExactly("k1");
+        issuer.verify(0, getRequestedFor(urlEqualTo(JWKS_PATH)));
+    }
+
+    @Test
+    void get_ShouldCoalesceFetchesForUnknownKey() throws Exception {
+        serve(200, new JWKSet(key("k2")).toString(true), 300);
+        JwkStore store = store();
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<List<JWK>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> select(store, "k2"), callers));
+            }
+            for (CompletableFuture<List<JWK>> result : results) {
+                assertThat(result.join()).extracting(JWK::getKeyID).containsExactly("k2");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        issuer.verify(1, getRequestedFor(urlEqualTo(JWKS_PATH)));
+        assertThat(JWKSet.load(snapshot.toFile()).getKeyByKeyId("k2")).isNotNull();
+        assertThat(JWKSet.load(snapshot.toFile()).getKeyByKeyId("k2").isPrivate()).isFalse();
+    }
+
+    @Test
+    void get_ShouldLimitFetchesForMadeUpKeyIds() throws Exception {
+        serve(200, new JWKSet(key("k1")).toString(true), 0);
+        JwkStore store = store();
+
+        assertThat(select(store, "forged-1")).isEmpty();
+        assertThat(select(store, "forged-2")).isEmpty();
+
+        issuer.verify(1, getRequestedFor(urlEqualTo(JWKS_PATH)));
+    }
+
+    @Test
+    void refresh_ShouldKeepCachedKeysWhileIssuerIsDown() throws Exception {
+        Files.writeString(snapshot, new JWKSet(key("k1")).toString(true));
+        serve(503, "", 0);
+        JwkStore store = store();
+
+        assertThat(store.refresh()).isFalse();
+
+        assertThat(select(store, "k1")).hasSize(1);
+        assertThat(JWKSet.load(snapshot.toFile()).getKeyByKeyId("k1")).isNotNull();
+    }
+
+    @Test
+    void refresh_ShouldNotReplaceKeysWithEmptySet() throws Exception {
+        Files.writeString(snapshot, new JWKSet(key("k1")).toString(true));
+        serve(200, "{\"keys\":[]}", 0);
+        JwkStore store = store();
+
+        assertThat(store.refresh()).isFalse();
+
+        assertThat(select(store, "k1")).hasSize(1);
+    }
+
+    @Test
+    void start_AfterStop_ShouldFetchRightAwayAndKeepCachedKeys() throws Exception {
+        Files.writeString(snapshot, new JWKSet(key("k1")).toString(true));
+        serve(200, new JWKSet(key("k2")).toString(true), 0);
+        JwkStore store = store();
+        try {
+            store.start();
+            store.stop();
+            assertThat(store.isRunning()).isFalse();
+            assertThat(select(store, "k1")).hasSize(1);
+            issuer.verify(0, getRequestedFor(urlEqualTo(JWKS_PATH)));
+
+            store.start();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (JWKSet.load(snapshot.toFile()).getKeyByKeyId("k2") == null) {
+                assertThat(System.nanoTime() - deadline).isNegative();
+                Thread.sleep(10);
+            }
+            issuer.verify(1, getRequestedFor(urlEqualTo(JWKS_PATH)));
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void refresh_AfterStopDuringFetch_ShouldStartNewFetch() throws Exception {
+        serve(200, new JWKSet(key("k2")).toString(true), 500);
+        JwkStore store = store();
+        try {
+            store.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (issuer.findAll(getRequestedFor(urlEqualTo(JWKS_PATH))).isEmpty()) {
+                assertThat(System.nanoTime() - deadline).isNegative();
+                Thread.sleep(10);
+            }
+
+            store.stop();
+
+            // The cancelled fetch is not joined: this one goes to the issuer again
+            assertThat(store.refresh()).isTrue();
+            assertThat(select(store, "k2")).hasSize(1);
+            issuer.verify(2, getRequestedFor(urlEqualTo(JWKS_PATH)));
+        } finally {
+            store.destroy();
+        }
+    }
+
+    private JwkStore store() {
+        return new JwkStore(URI.create(issuer.baseUrl() + JWKS_PATH), config, new SimpleMeterRegistry());
+    }
+
+    private void serve(int status, String body, int delayMillis) {
+        issuer.stubFor(get(urlEqualTo(JWKS_PATH)).willReturn(aResponse()
+            .withStatus(status)
+            .withHeader("Content-Type", "application/json")
+            .withBody(body)
+            .withFixedDelay(delayMillis)));
+    }
+
+    private static List<JWK> select(JwkStore store, String kid) {
+        return store.get(new JWKSelector(new JWKMatcher.Builder().keyID(kid).build()), null);
+    }
+
+    private static RSAKey key(String kid) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(kid).generate();
+    }
+}
@@ -0,0 +1,51 @@
+package ${package}.service;
+
+import ${package}.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_789);
+
+    @Test
+    void decode_ShouldRoundTripWithFullPrecision() {
+        // Given
+        FeedCursor cursor = new FeedCursor(TIME, 42);
+
+        // When
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedTokens() {
+        assertThatThrownBy(() -> FeedCursor.decode("not base64!")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> FeedCursor.decode(encode("2024-03-01T12:30")))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> FeedCursor.decode(encode("yesterday|1"))).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> FeedCursor.decode(encode("2024-03-01T12:30|x")))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void compareTo_ShouldOrderByTimeThenId() {
+        assertThat(new FeedCursor(TIME, 9)).isLessThan(new FeedCursor(TIME.plusNanos(1), 1));
+        assertThat(new FeedCursor(TIME, 1)).isLessThan(new FeedCursor(TIME, 2));
+        assertThat(new FeedCursor(TIME, Long.MAX_VALUE - 1)).isLessThan(FeedCursor.through(TIME));
+        assertThat(FeedCursor.through(TIME)).isLessThan(new FeedCursor(TIME.plusNanos(1), 0));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,288 @@
+package ${package}.service.impl;
+
+import ${package}.cache.UserPageCache;
+import ${package}.config.AppProperties;
+import ${package}.domain.ChangeFeedState;
+import ${package}.domain.Role;
+import ${package}.domain.User;
+import ${package}.domain.UserChange;
+import ${package}.dto.CursorPageDto;
+import ${package}.dto.PageDto;
+import ${package}.dto.UserChangeBatchDto;
+import ${package}.dto.UserDto;
+import ${package}.exception.ChangeFeedExpiredException;
+import ${package}.exception.InvalidCursorException;
+import ${package}.filter.UserBitmaps;
+import ${package}.filter.UserFilter;
+import ${package}.filter.UserFilterIndex;
+import ${package}.repository.ChangeFeedStateRepository;
+import ${package}.repository.UserChangeRepository;
+import ${package}.repository.UserRepository;
+import ${package}.search.UserSearchIndex;
+import ${package}.service.FeedCursor;
+import ${package}.service.UserService.FeedField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceImplTest {
+
+    private UserRepository userRepository;
+    private UserFilterIndex userFilterIndex;
+    private UserChangeRepository userChangeRepository;
+    private ChangeFeedStateRepository changeFeedStateRepository;
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userFilterIndex = mock(UserFilterIndex.class);
+        userChangeRepository = mock(UserChangeRepository.class);
+        changeFeedStateRepository = mock(ChangeFeedStateRepository.class);
+        userService = new UserServiceImpl(userRepository, mock(UserPageCache.class), mock(UserSearchIndex.class),
+            userFilterIndex, userChangeRepository, changeFeedStateRepository, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void findByFilter_ShouldLoadSelectedIdsInIndexOrderAndSkipDeletedUsers() {
+        // Given - user 2 was deleted after the index selected it
+        UserFilter admins = new UserFilter(Set.of(Role.ADMIN), false, null, null);
+        Pageable pageable = PageRequest.of(0, 3);
+        when(userFilterIndex.select(admins, pageable)).thenReturn(new UserBitmaps.Selection(List.of(3L, 2L, 1L), 7));
+        when(userRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(user(1, "alice"), user(3, "carol")));
+
+        // When
+        PageDto<UserDto> page = userService.findByFilter(admins, pageable);
+
+        // Then
+        assertThat(page.getContent()).extracting(UserDto::getUsername).containsExactly("carol", "alice");
+        assertThat(page.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    void findBySearchTerm_ShouldQueryTermAsGivenAndShareCacheAcrossCase() {
+        // Given
+        UserServiceImpl cachingService = new UserServiceImpl(userRepository,
+            new UserPageCache(new AppProperties(), new SimpleMeterRegistry()), mock(UserSearchIndex.class),
+            userFilterIndex, userChangeRepository, changeFeedStateRepository, mock(ApplicationEventPublisher.class));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userRepository.findSliceBySearchTerm(any(), any())).thenReturn(new SliceImpl<>(List.of(user(1, "jdoe"))));
+
+        // When
+        PageDto<UserDto> first = cachingService.findBySearchTerm("John  Doe", pageable);
+        PageDto<UserDto> second = cachingService.findBySearchTerm("john  doe", pageable);
+        cachingService.findBySearchTerm("john doe", pageable);
+
+        // Then - whitespace is not collapsed, so the single-space term is a separate query
+        verify(userRepository).findSliceBySearchTerm("John  Doe", pageable);
+        verify(userRepository).findSliceBySearchTerm("john doe", pageable);
+        verify(userRepository, times(2)).findSliceBySearchTerm(any(), any());
+        assertThat(second.getContent()).isEqualTo(first.getContent());
+    }
+
+    @Test
+    void scrollById_ShouldReadKeysetPageInRequestedDirection() {
+        // Given
+        when(userRepository.findAfterId(4L, "doe", PageRequest.of(0, 2))).thenReturn(List.of(user(5, "jdoe")));
+        when(userRepository.findBeforeId(4L, null, PageRequest.of(0, 2))).thenReturn(List.of(user(3, "carol")));
+
+        // When
+        List<UserDto> ascending = userService.scrollById("doe", 4L, false, 2);
+        List<UserDto> descending = userService.scrollById(null, 4L, true, 2);
+
+        // Then
+        assertThat(ascending).extracting(UserDto::getId).containsExactly(5L);
+        assertThat(descending).extracting(UserDto::getId).containsExactly(3L);
+    }
+
+    @Test
+    void existsByUsernameAndEmail_ShouldIgnoreCase() {
+        // Given - the lower-cased columns carry the unique indexes
+        when(userRepository.existsByUsernameLower("johndoe")).thenReturn(true);
+        when(userRepository.existsByEmailLower("john.doe@example.com")).thenReturn(true);
+
+        // When / Then
+        assertThat(userService.existsByUsername("JohnDoe")).isTrue();
+        assertThat(userService.existsByUsername("JOHNDOE")).isTrue();
+        assertThat(userService.existsByEmail("John.Doe@Example.COM")).isTrue();
+        assertThat(userService.existsByUsername("janedoe")).isFalse();
+    }
+
+    @Test
+    void findByUsername_ShouldIgnoreCase() {
+        // Given
+        when(userRepository.findByUsernameLower("johndoe")).thenReturn(Optional.of(user(1, "JohnDoe")));
+
+        // When
+        Optional<UserDto> found = userService.findByUsername("JOHNDOE");
+
+        // Then
+        assertThat(found).map(UserDto::getUsername).contains("JohnDoe");
+    }
+
+    @Test
+    void findRecent_ShouldReadOpenEndedFirstPageAndReturnCursorAfterLastItem() {
+        // Given - one row more than the limit comes back
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        User newest = user(3, "carol", from.plusHours(3));
+        User middle = user(2, "bob", from.plusHours(2));
+        User oldest = user(1, "alice", from.plusHours(1));
+        when(userRepository.findCreatedSince(from, PageRequest.of(0, 3))).thenReturn(List.of(newest, middle, oldest));
+
+        // When
+        CursorPageDto<UserDto> page = userService.findRecent(FeedField.CREATED, from, null, null, 2);
+
+        // Then
+        assertThat(page.getContent()).extracting(UserDto::getUsername).containsExactly("carol", "bob");
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(FeedCursor.decode(page.getNextCursor())).isEqualTo(new FeedCursor(from.plusHours(2), 2));
+        verify(userRepository, never()).findCreatedBefore(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void findRecent_ShouldStartAtUpperBoundWithoutCursor() {
+        // Given
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+        when(userRepository.findUpdatedBefore(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        // When
+        CursorPageDto<UserDto> page = userService.findRecent(FeedField.UPDATED, null, to, null, 10);
+
+        // Then
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(userRepository).findUpdatedBefore(LocalDateTime.of(1970, 1, 1, 0, 0), to, Long.MAX_VALUE,
+            PageRequest.of(0, 11));
+    }
+
+    @Test
+    void findRecent_ShouldApplyUpperBoundAboveCursor() {
+        // Given - the cursor was issued for a wider range than the current request
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+        String cursor = new FeedCursor(to.plusDays(1), 7).encode();
+        when(userRepository.findCreatedBefore(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        // When
+        userService.findRecent(FeedField.CREATED, null, to, cursor, 10);
+
+        // Then
+        verify(userRepository).findCreatedBefore(any(), eq(to), eq(Long.MAX_VALUE), any());
+    }
+
+    @Test
+    void findRecent_ShouldContinueFromCursorBelowUpperBound() {
+        // Given
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+        String cursor = new FeedCursor(to.minusDays(1), 7).encode();
+        when(userRepository.findCreatedBefore(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        // When
+        userService.findRecent(FeedField.CREATED, null, to, cursor, 10);
+
+        // Then
+        verify(userRepository).findCreatedBefore(any(), eq(to.minusDays(1)), eq(7L), any());
+    }
+
+    @Test
+    void findChanges_ShouldReadFromStartAndReturnTokenOfLastChange() {
+        // Given - user 2 was deleted after the log was read, user 3 has a tombstone
+        when(userChangeRepository.findAfter(0, 0, 4))
+            .thenReturn(List.of(change(1, 900, UserChange.Type.UPSERTED), change(2, 900, UserChange.Type.UPSERTED),
+                change(3, 905, UserChange.Type.DELETED)));
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(user(1, "alice")));
+
+        // When
+        UserChangeBatchDto batch = userService.findChanges(null, 3);
+
+        // Then
+        assertThat(batch.getChanges()).extracting(change -> change.getToken()).containsExactly("900.1", "905.3");
+        assertThat(batch.getChanges().get(0).getUser().getUsername()).isEqualTo("alice");
+        assertThat(batch.getChanges().get(1).getUser()).isNull();
+        assertThat(batch.getNextToken()).isEqualTo("905.3");
+        assertThat(batch.isHasMore()).isFalse();
+    }
+
+    @Test
+    void findChanges_ShouldResumeAfterTokenAndCapBatch() {
+        // Given
+        when(userChangeRepository.findAfter(900, 1, 2))
+            .thenReturn(List.of(change(4, 900, UserChange.Type.DELETED), change(2, 901, UserChange.Type.DELETED)));
+
+        // When
+        UserChangeBatchDto batch = userService.findChanges("900.1", 1);
+
+        // Then
+        assertThat(batch.getChanges()).hasSize(1);
+        assertThat(batch.getNextToken()).isEqualTo("900.4");
+        assertThat(batch.isHasMore()).isTrue();
+    }
+
+    @Test
+    void findChanges_ShouldEchoTokenWhenNothingChanged() {
+        // Given
+        when(userChangeRepository.findAfter(900, 1, 11)).thenReturn(List.of());
+
+        // When
+        UserChangeBatchDto batch = userService.findChanges("900.1", 10);
+
+        // Then
+        assertThat(batch.getChanges()).isEmpty();
+        assertThat(batch.getNextToken()).isEqualTo("900.1");
+    }
+
+    @Test
+    void findChanges_ShouldExpireTokensAtOrBelowPurgedTombstones() {
+        // Given
+        ChangeFeedState state = ChangeFeedState.initial();
+        state.setPurgedThrough(900L);
+        when(changeFeedStateRepository.findById(ChangeFeedState.ID)).thenReturn(Optional.of(state));
+
+        // When / Then
+        assertThatThrownBy(() -> userService.findChanges("900.7", 10)).isInstanceOf(ChangeFeedExpiredException.class);
+        assertThatThrownBy(() -> userService.findChanges("44", 10)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> userService.findChanges("900.x", 10)).isInstanceOf(InvalidCursorException.class);
+        userService.findChanges(null, 10);
+        userService.findChanges("901.1", 10);
+    }
+
+    private static User user(long id, String username) {
+        User user = new User(username, username + "@example.com", "Test", "User");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private static User user(long id, String username, LocalDateTime createdAt) {
+        User user = user(id, username);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(createdAt);
+        return user;
+    }
+
+    private static UserChange change(long userId, long txid, UserChange.Type type) {
+        UserChange change = new UserChange(userId);
+        change.setTxid(txid);
+        change.setType(type);
+        return change;
+    }
+}
@@ -0,0 +1,44 @@
+package ${package}.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeferredBeansTest {
+
+    @Test
+    void refresh_ShouldSkipLazyBeansAndCreateBackgroundBeansAfterwards() throws Exception {
+        CountDownLatch lazyCreated = new CountDownLatch(1);
+        CountDownLatch backgroundCreated = new CountDownLatch(1);
+        String[] backgroundThread = new String[1];
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean("reportGenerator", Object.class, () -> {
+                lazyCreated.countDown();
+                return new Object();
+            });
+            context.registerBean("searchWarmup", Object.class, () -> {
+                backgroundThread[0] = Thread.currentThread().getName();
+                backgroundCreated.countDown();
+                return new Object();
+            });
+            DeferredBeans deferredBeans = new DeferredBeans(List.of("reportGenerator", "missing"),
+                List.of("searchWarmup"));
+            context.addBeanFactoryPostProcessor(deferredBeans);
+            context.addApplicationListener(deferredBeans);
+
+            context.refresh();
+
+            assertThat(backgroundCreated.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(backgroundThread[0]).startsWith("background-init-");
+            assertThat(lazyCreated.getCount()).isEqualTo(1);
+            context.getBean("reportGenerator");
+            assertThat(lazyCreated.getCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ${package}.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexBuildsTest {
+
+    @Test
+    void health_ShouldBeOutOfServiceUntilEveryEnabledBuildHasFinished() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        FakeIndex slow = new FakeIndex("slow", true, () -> await(release));
+        FakeIndex failing = new FakeIndex("failing", true, () -> {
+            throw new IllegalStateException("no database");
+        });
+        FakeIndex disabled = new FakeIndex("disabled", false, () -> {
+        });
+        IndexBuilds builds = indexBuilds(slow, failing, disabled);
+
+        // When
+        builds.start();
+
+        // Then
+        assertThat(slow.started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.thread).startsWith("index-build-");
+        assertThat(builds.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(builds.health().getDetails().get("building")).asList().contains("slow");
+        assertThat(builds.awaitBuilt(Duration.ofMillis(50))).isFalse();
+
+        release.countDown();
+        assertThat(builds.awaitBuilt(Duration.ofSeconds(5))).isTrue();
+        assertThat(builds.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(disabled.built).isFalse();
+        builds.destroy();
+    }
+
+    @Test
+    void health_ShouldBeUpWithoutIndexes() throws Exception {
+        IndexBuilds builds = indexBuilds();
+
+        assertThat(builds.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(builds.awaitBuilt(Duration.ZERO)).isTrue();
+        builds.destroy();
+    }
+
+    private static IndexBuilds indexBuilds(StartupIndex... indexes) {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            for (StartupIndex index : indexes) {
+                context.registerBean(index.indexName(), StartupIndex.class, () -> index);
+            }
+            context.refresh();
+            return new IndexBuilds(context.getBeanProvider(StartupIndex.class));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class FakeIndex implements StartupIndex {
+
+        private final String name;
+        private final boolean enabled;
+        private final Runnable build;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile String thread;
+        private volatile boolean built;
+
+        private FakeIndex(String name, boolean enabled, Runnable build) {
+            this.name = name;
+            this.enabled = enabled;
+            this.build = build;
+        }
+
+        @Override
+        public String indexName() {
+            return name;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void build() {
+            thread = Thread.currentThread().getName();
+            built = true;
+            started.countDown();
+            build.run();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ${package}.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowestBeansEndpointTest {
+
+    @Test
+    void slowestBeans_ShouldChargeDependenciesToTheirOwnBean() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep refresh = startup.start(SlowestBeansEndpoint.REFRESH);
+        StartupStep service = bean(startup, "userService");
+        StartupStep repository = bean(startup, "userRepository");
+        Thread.sleep(50);
+        repository.end();
+        service.end();
+        bean(startup, "objectMapper").end();
+        refresh.end();
+
+        SlowestBeansEndpoint.SlowestBeans report = new SlowestBeansEndpoint(startup, 10).slowestBeans(null);
+
+        assertThat(report.beans()).isEqualTo(3);
+        assertThat(report.refreshMillis()).isGreaterThanOrEqualTo(50);
+        SlowestBeansEndpoint.BeanTiming slowest = report.slowest().get(0);
+        assertThat(slowest.bean()).isEqualTo("userRepository");
+        assertThat(slowest.selfMillis()).isGreaterThanOrEqualTo(50);
+        SlowestBeansEndpoint.BeanTiming userService = report.slowest().stream()
+            .filter(bean -> bean.bean().equals("userService"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(userService.totalMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(userService.selfMillis()).isLessThan(slowest.selfMillis());
+    }
+
+    @Test
+    void slowestBeans_ShouldApplyLimit() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        for (int i = 0; i < 5; i++) {
+            bean(startup, "bean" + i).end();
+        }
+
+        SlowestBeansEndpoint endpoint = new SlowestBeansEndpoint(startup, 3);
+
+        assertThat(endpoint.slowestBeans(null).slowest()).hasSize(3);
+        assertThat(endpoint.slowestBeans(2).slowest()).hasSize(2);
+        assertThat(endpoint.slowestBeans(2).beans()).isEqualTo(5);
+    }
+
+    @Test
+    void slowestBeans_ShouldBeEmptyWithoutBufferedStartup() {
+        SlowestBeansEndpoint endpoint = new SlowestBeansEndpoint(ApplicationStartup.DEFAULT, 10);
+
+        assertThat(endpoint.slowestBeans(null).slowest()).isEmpty();
+    }
+
+    private static StartupStep bean(BufferingApplicationStartup startup, String name) {
+        return startup.start(SlowestBeansEndpoint.INSTANTIATE).tag("beanName", name);
+    }
+}
@@ -0,0 +1,83 @@
+package ${package}.typeahead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RadixTrieTest {
+
+    @Test
+    void prefixSearch_ShouldReturnMatchesInLexicographicOrder() {
+        // Given
+        RadixTrie trie = new RadixTrie();
+        trie.put("john", 1);
+        trie.put("johnny", 2);
+        trie.put("joan", 3);
+        trie.put("bob", 4);
+
+        // When
+        List<RadixTrie.Match> matches = trie.prefixSearch("jo", 10);
+
+        // Then
+        assertThat(matches).extracting(RadixTrie.Match::key).containsExactly("joan", "john", "johnny");
+        assertThat(matches).extracting(RadixTrie.Match::id).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void prefixSearch_ShouldMatchPrefixEndingInsideAnEdge() {
+        // Given
+        RadixTrie trie = new RadixTrie();
+        trie.put("alexander", 1);
+
+        // When & Then
+        assertThat(trie.prefixSearch("alex", 10)).extracting(RadixTrie.Match::id).containsExactly(1L);
+        assertThat(trie.prefixSearch("alexz", 10)).isEmpty();
+    }
+
+    @Test
+    void prefixSearch_ShouldStopAtLimit() {
+        // Given
+        RadixTrie trie = new RadixTrie();
+        for (int i = 0; i < 100; i++) {
+            trie.put("user" + i, i);
+        }
+
+        // When & Then
+        assertThat(trie.prefixSearch("user", 5)).hasSize(5);
+    }
+
+    @Test
+    void remove_ShouldDropKeyAndReleaseMemory() {
+        // Given
+        RadixTrie trie = new RadixTrie();
+        trie.put("john", 1);
+        long bytesWithOneKey = trie.estimatedBytes();
+        trie.put("johnny", 2);
+
+        // When
+        boolean removed = trie.remove("johnny", 2);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.prefixSearch("john", 10)).extracting(RadixTrie.Match::key).containsExactly("john");
+        assertThat(trie.estimatedBytes()).isEqualTo(bytesWithOneKey);
+    }
+
+    @Test
+    void put_ShouldKeepSeveralIdsForTheSameKey() {
+        // Given
+        RadixTrie trie = new RadixTrie();
+
+        // When
+        trie.put("same", 1);
+        trie.put("same", 2);
+        trie.put("same", 2);
+
+        // Then
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.prefixSearch("same", 10)).extracting(RadixTrie.Match::id).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,86 @@
+package ${package}.typeahead;
+
+import ${package}.config.AppProperties;
+import ${package}.domain.User;
+import ${package}.dto.UserDto;
+import ${package}.dto.UserSuggestionDto;
+import ${package}.event.UserChangedEvent;
+import ${package}.repository.UserKeyView;
+import ${package}.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserTypeaheadIndexTest {
+
+    private UserRepository userRepository;
+    private UserTypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        index = new UserTypeaheadIndex(userRepository, mock(PlatformTransactionManager.class), new AppProperties(),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void build_ShouldNotRestoreKeysChangedWhileLoading() {
+        // Given - john is renamed and jane deleted after the scan started but before it reads their rows
+        Stream<UserKeyView> staleKeys = Stream.of(key(1, "john"), key(2, "jane"), key(3, "joan"));
+        when(userRepository.streamAllBy()).thenAnswer(invocation -> {
+            index.onUserChanged(UserChangedEvent.updated(dto(1, "john"), dto(1, "johnny")));
+            index.onUserChanged(UserChangedEvent.deleted(dto(2, "jane")));
+            return staleKeys;
+        });
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user("johnny")));
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        index.build();
+
+        // Then
+        assertThat(index.suggest(UserTypeaheadIndex.Field.USERNAME, "j", 10))
+            .extracting(UserSuggestionDto::getValue).containsExactly("joan", "johnny");
+        assertThat(index.suggest(UserTypeaheadIndex.Field.EMAIL, "jane", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_ShouldReturnAtLeastOneMatchForNonPositiveLimit() {
+        // Given
+        Stream<UserKeyView> keys = Stream.of(key(1, "john"), key(2, "joan"));
+        when(userRepository.streamAllBy()).thenReturn(keys);
+        index.build();
+
+        // When / Then
+        assertThat(index.suggest(UserTypeaheadIndex.Field.USERNAME, "jo", -1)).hasSize(1);
+        assertThat(index.suggest(UserTypeaheadIndex.Field.USERNAME, "jo", 0)).hasSize(1);
+    }
+
+    private static UserKeyView key(long id, String username) {
+        UserKeyView key = mock(UserKeyView.class);
+        when(key.getId()).thenReturn(id);
+        when(key.getUsername()).thenReturn(username);
+        when(key.getEmail()).thenReturn(username + "@example.com");
+        return key;
+    }
+
+    private static UserDto dto(long id, String username) {
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setUsername(username);
+        dto.setEmail(username + "@example.com");
+        return dto;
+    }
+
+    private static User user(String username) {
+        return new User(username, username + "@example.com", "Test", "User");
+    }
+}